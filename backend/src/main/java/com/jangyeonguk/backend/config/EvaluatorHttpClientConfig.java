@@ -0,0 +1,117 @@
+package com.jangyeonguk.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 평가 서버(FastAPI) HTTP 클라이언트 설정
+ * 연결 풀을 공유하는 Apache HttpClient 하나를 평가 서버 호출 전체에서 사용한다.
+ * 응답 대기 시간은 호출 종류별로 다르게 둔다 (지원서 접수는 짧게, 오래 걸리는 평가 기준 학습은 길게).
+ */
+@Configuration
+public class EvaluatorHttpClientConfig {
+
+    @Value("${evaluator.http.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${evaluator.http.max-connections-per-route:200}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${evaluator.http.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${evaluator.http.read-timeout-ms:60000}")
+    private long readTimeoutMs;
+
+    @Value("${evaluator.http.response-timeout-ms:60000}")
+    private long responseTimeoutMs;
+
+    @Value("${evaluator.http.training-response-timeout-ms:600000}")
+    private long trainingResponseTimeoutMs;
+
+    @Value("${evaluator.http.connection-request-timeout-ms:5000}")
+    private long connectionRequestTimeoutMs;
+
+    @Value("${evaluator.http.idle-evict-seconds:30}")
+    private long idleEvictSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient evaluatorHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute) // 평가 서버는 호스트 하나라 사실상 전체 한도
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs)) // 풀에서 연결을 기다리는 시간
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                .build();
+
+        // 응답 gzip/deflate 압축은 HttpClient 기본 설정으로 요청(Accept-Encoding)·해제됨
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .build();
+    }
+
+    /**
+     * 지원서 접수 등 일반 호출용 (response-timeout-ms 적용)
+     */
+    @Bean
+    public RestTemplate evaluatorRestTemplate(CloseableHttpClient evaluatorHttpClient) {
+        return createRestTemplate(new HttpComponentsClientHttpRequestFactory(evaluatorHttpClient));
+    }
+
+    /**
+     * 평가 기준 학습 호출용 (같은 연결 풀을 쓰고 응답 대기만 training-response-timeout-ms로 늘림)
+     */
+    @Bean
+    public RestTemplate evaluatorTrainingRestTemplate(CloseableHttpClient evaluatorHttpClient) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(evaluatorHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(trainingResponseTimeoutMs)); // 기본 RequestConfig에 응답 타임아웃만 덮어씀
+        return createRestTemplate(requestFactory);
+    }
+
+    private RestTemplate createRestTemplate(HttpComponentsClientHttpRequestFactory requestFactory) {
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+
+        // camelCase 설정된 ObjectMapper로 새로운 MessageConverter 생성
+        ObjectMapper camelCaseMapper = new ObjectMapper();
+        camelCaseMapper.setPropertyNamingStrategy(PropertyNamingStrategies.LOWER_CAMEL_CASE);
+
+        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+        converter.setObjectMapper(camelCaseMapper);
+
+        restTemplate.setMessageConverters(List.of(
+                new StringHttpMessageConverter(),
+                converter,
+                new FormHttpMessageConverter()));
+        return restTemplate;
+    }
+}
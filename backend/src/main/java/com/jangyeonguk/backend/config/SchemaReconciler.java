@@ -0,0 +1,98 @@
+package com.jangyeonguk.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 시작 시 스키마 보정 (마이그레이션 없이 ddl-auto로 스키마가 만들어진 환경용)
+ * ddl-auto=update는 새 ID 시퀀스를 1부터 만들기 때문에, 기존 IDENTITY로 발급된 행이 있는 테이블의 시퀀스를
+ * MAX(id) 뒤로 옮겨 첫 INSERT가 기존 기본키와 겹치지 않게 한다.
+ * 또한 ddl-auto는 제약을 지우지 않으므로, 평가 결과를 버전 이력으로 바꾸기 전의 지원서당 하나 유니크 제약(V12에서 제거)을 지운다.
+ * 엔티티 매니저(스키마 갱신)가 준비된 뒤, 요청을 받기 전에 실행된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaReconciler {
+
+    private static final int ALLOCATION_SIZE = 50; // 엔티티 @SequenceGenerator allocationSize와 같아야 함
+
+    // 시퀀스로 바꾸기 전부터 행이 있던 테이블의 ID 시퀀스 (시퀀스 이름 -> 테이블)
+    private static final Map<String, String> ID_SEQUENCES = Map.of(
+            "applications_seq", "applications",
+            "resume_item_answers_seq", "resume_item_answers",
+            "cover_letter_question_answers_seq", "cover_letter_question_answers",
+            "evaluation_results_seq", "evaluation_results");
+
+    // evaluation_results의 application_id 단일 컬럼 유니크 제약 (@OneToOne 시절)
+    private static final String LEGACY_RESULT_UNIQUE_CONSTRAINTS =
+            "SELECT tc.constraint_name FROM information_schema.table_constraints tc " +
+            "JOIN information_schema.key_column_usage kcu " +
+            "ON kcu.constraint_schema = tc.constraint_schema AND kcu.constraint_name = tc.constraint_name " +
+            "WHERE tc.constraint_type = 'UNIQUE' AND LOWER(tc.table_name) = 'evaluation_results' AND tc.table_schema = CURRENT_SCHEMA " +
+            "GROUP BY tc.constraint_name " +
+            "HAVING COUNT(*) = 1 AND LOWER(MAX(kcu.column_name)) = 'application_id'";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${schema.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    @PostConstruct
+    public void reconcile() {
+        if (!reconcileOnStartup) {
+            return;
+        }
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        ID_SEQUENCES.forEach((sequence, table) -> {
+            try {
+                alignSequence(dialect, sequence, table);
+            } catch (DataAccessException e) {
+                log.error("시작 시 ID 시퀀스 보정 실패 - 시퀀스: {}, 테이블: {}", sequence, table, e);
+            }
+        });
+        try {
+            dropLegacyResultUniqueConstraints();
+        } catch (DataAccessException e) {
+            log.error("시작 시 평가 결과 유니크 제약 정리 실패 (재평가 버전 저장이 실패할 수 있음)", e);
+        }
+    }
+
+    /**
+     * 지원서당 평가 결과 하나만 허용하던 유니크 제약 제거 ((지원서, 버전) 유니크 제약은 유지)
+     */
+    private void dropLegacyResultUniqueConstraints() {
+        for (String constraint : jdbcTemplate.queryForList(LEGACY_RESULT_UNIQUE_CONSTRAINTS, String.class)) {
+            jdbcTemplate.execute("ALTER TABLE evaluation_results DROP CONSTRAINT \"" + constraint.replace("\"", "\"\"") + "\"");
+            log.warn("평가 결과의 지원서당 하나 유니크 제약 제거 - 제약: {}", constraint);
+        }
+    }
+
+    /**
+     * 시퀀스 다음 값이 MAX(id) + allocationSize보다 작으면 그 값으로 다시 시작
+     * pooled 최적화는 시퀀스 값을 할당 구간의 끝으로 쓰므로(값 - 49 ~ 값) 한 구간만큼 여유를 둔다.
+     * 값을 하나 꺼내 확인하므로 시퀀스 구간 하나는 버려진다.
+     */
+    private void alignSequence(Dialect dialect, String sequence, String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        Long next = jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+        long required = (maxId != null ? maxId : 0) + ALLOCATION_SIZE;
+        if (next != null && next >= required) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + required);
+        log.warn("ID 시퀀스를 기존 행 뒤로 보정 - 시퀀스: {}, 테이블: {}, MAX(id): {}, 다음 값: {} -> {}",
+                sequence, table, maxId, next, required);
+    }
+}
@@ -1,6 +1,10 @@
 package com.jangyeonguk.backend.config;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -19,4 +23,22 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
-}
\ No newline at end of file
+
+    /**
+     * 채용공고 통합 조회 응답에 ETag 부여 (내용이 같으면 If-None-Match 요청에 304로 응답)
+     * 응답 본문을 버퍼링하므로 SSE 같은 스트리밍 응답에는 적용하지 않는다.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> jobPostingEtagFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter() {
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return !request.getRequestURI().endsWith("/with-applications");
+            }
+        };
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/job-postings/*");
+        registration.setName("jobPostingEtagFilter");
+        return registration;
+    }
+}
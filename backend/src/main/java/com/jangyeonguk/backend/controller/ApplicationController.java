@@ -1,17 +1,31 @@
 package com.jangyeonguk.backend.controller;
 
 import com.jangyeonguk.backend.dto.application.ApplicationCreateRequestDto;
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.dto.application.ApplicationImportResultDto;
+import com.jangyeonguk.backend.dto.application.ApplicationPageResponseDto;
 import com.jangyeonguk.backend.dto.application.ApplicationResponseDto;
+import com.jangyeonguk.backend.dto.application.ApplicationSummaryDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultBulkResponseDto;
 import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
 import com.jangyeonguk.backend.dto.evaluation.EvaluationResultResponseDto;
+import com.jangyeonguk.backend.service.ApplicationImportService;
+import com.jangyeonguk.backend.service.ApplicationSearchService;
 import com.jangyeonguk.backend.service.ApplicationService;
+import com.jangyeonguk.backend.service.EvaluationOutboxService;
+import com.jangyeonguk.backend.service.EvaluationResultBulkService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 지원서 Controller
@@ -22,33 +36,72 @@ import java.util.Map;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final ApplicationImportService applicationImportService;
+    private final ApplicationSearchService applicationSearchService;
+    private final EvaluationOutboxService evaluationOutboxService;
+    private final EvaluationResultBulkService evaluationResultBulkService;
 
     /**
-     * 지원서 제출
+     * 지원서 제출 (Idempotency-Key 헤더가 있으면 같은 키의 재전송에 최초 응답을 그대로 반환)
      */
     @PostMapping("/job-postings/{jobPostingId}")
     public ResponseEntity<ApplicationResponseDto> submitApplication(
             @PathVariable Long jobPostingId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody ApplicationCreateRequestDto request) {
-        ApplicationResponseDto response = applicationService.submitApplication(jobPostingId, request);
+        Optional<ApplicationResponseDto> replay =
+                applicationService.findIdempotentResponse(jobPostingId, idempotencyKey, request.getApplicantEmail());
+        if (replay.isPresent()) {
+            return ResponseEntity.ok(replay.get());
+        }
+
+        ApplicationResponseDto response = applicationService.submitApplication(jobPostingId, request, idempotencyKey);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * 지원서 목록 조회
+     * 지원서 대량 가져오기 (NDJSON, 한 줄에 ApplicationCreateRequestDto 하나)
+     */
+    @PostMapping(value = "/job-postings/{jobPostingId}/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ApplicationImportResultDto> importApplications(
+            @PathVariable Long jobPostingId,
+            InputStream inputStream) throws IOException {
+        ApplicationImportResultDto response = applicationImportService.importApplications(jobPostingId, inputStream);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 평가 대기열 현황 조회
+     */
+    @GetMapping("/evaluation-queue")
+    public ResponseEntity<Map<String, Object>> getEvaluationQueueStatus() {
+        return ResponseEntity.ok(evaluationOutboxService.getQueueStatus());
+    }
+
+    /**
+     * 지원서 목록 조회 (최근 제출 순 커서 페이지, 응답의 nextCursor를 다음 요청의 after로 전달)
      */
     @GetMapping
-    public ResponseEntity<List<ApplicationResponseDto>> getApplications() {
-        List<ApplicationResponseDto> response = applicationService.getApplications();
+    public ResponseEntity<ApplicationPageResponseDto> getApplications(
+            @RequestParam(required = false) Long jobPostingId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) Double minScore,
+            @RequestParam(required = false) Double maxScore,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime submittedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime submittedTo,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int limit) {
+        ApplicationPageResponseDto response = applicationSearchService.search(jobPostingId, status, minScore, maxScore,
+                submittedFrom, submittedTo, after, limit);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * 공고별 지원서 조회
+     * 공고별 지원서 조회 (목록용 요약, 답변은 지원서 상세 조회에서 제공)
      */
     @GetMapping("/job-postings/{jobPostingId}")
-    public ResponseEntity<List<ApplicationResponseDto>> getApplicationsByJobPosting(@PathVariable Long jobPostingId) {
-        List<ApplicationResponseDto> response = applicationService.getApplicationsByJobPosting(jobPostingId);
+    public ResponseEntity<List<ApplicationSummaryDto>> getApplicationsByJobPosting(@PathVariable Long jobPostingId) {
+        List<ApplicationSummaryDto> response = applicationService.getApplicationsByJobPosting(jobPostingId);
         return ResponseEntity.ok(response);
     }
 
@@ -67,6 +120,15 @@ public class ApplicationController {
         }
     }
 
+    /**
+     * 평가 결과 일괄 저장 (공고 단위 재평가 콜백, 건별 처리 결과 반환)
+     */
+    @PostMapping("/evaluation-results/bulk")
+    public ResponseEntity<EvaluationResultBulkResponseDto> processEvaluationResults(@RequestBody List<EvaluationResultDto> evaluationResults) {
+        EvaluationResultBulkResponseDto response = evaluationResultBulkService.processEvaluationResults(evaluationResults);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 지원서 ID로 지원자 정보와 답변 조회
      */
@@ -120,6 +182,15 @@ public class ApplicationController {
         }
     }
 
+    /**
+     * 지원서의 평가 결과 이력 조회 (최신 버전부터)
+     */
+    @GetMapping("/{applicationId}/evaluation-results/history")
+    public ResponseEntity<List<EvaluationResultResponseDto>> getEvaluationResultHistory(@PathVariable Long applicationId) {
+        List<EvaluationResultResponseDto> response = applicationService.getEvaluationResultHistory(applicationId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 지원서 평가 의견 및 상태 저장
      */
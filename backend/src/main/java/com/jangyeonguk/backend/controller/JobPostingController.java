@@ -1,13 +1,20 @@
 package com.jangyeonguk.backend.controller;
 
+import com.jangyeonguk.backend.dto.application.ApplicationLeaderboardResponseDto;
 import com.jangyeonguk.backend.dto.jobposting.JobPostingCreateRequestDto;
 import com.jangyeonguk.backend.dto.jobposting.JobPostingResponseDto;
+import com.jangyeonguk.backend.service.ApplicationLeaderboard;
+import com.jangyeonguk.backend.service.CriteriaTrainingService;
+import com.jangyeonguk.backend.service.EvaluationEventPublisher;
 import com.jangyeonguk.backend.service.JobPostingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 채용공고 Controller
@@ -18,6 +25,9 @@ import java.util.List;
 public class JobPostingController {
 
     private final JobPostingService jobPostingService;
+    private final CriteriaTrainingService criteriaTrainingService;
+    private final ApplicationLeaderboard applicationLeaderboard;
+    private final EvaluationEventPublisher evaluationEventPublisher;
 
     /**
      * 채용공고 등록
@@ -75,4 +85,43 @@ public class JobPostingController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 공고별 지원자 순위표 조회 (최종 점수 + 동점자 기준, after/afterRank로 다음 페이지)
+     */
+    @GetMapping("/{id}/leaderboard")
+    public ResponseEntity<ApplicationLeaderboardResponseDto> getLeaderboard(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "0") int afterRank,
+            @RequestParam(defaultValue = "false") boolean passedOnly) {
+        ApplicationLeaderboardResponseDto response = applicationLeaderboard.getPage(id, limit, after, afterRank, passedOnly);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 평가 진행 이벤트 구독 (SSE, 재연결 시 Last-Event-ID 이후 이벤트부터 이어서 받음)
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeEvents(@PathVariable Long id,
+                                      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return evaluationEventPublisher.subscribe(id, lastEventId);
+    }
+
+    /**
+     * 평가 기준 학습 상태 조회
+     */
+    @GetMapping("/{id}/training-status")
+    public ResponseEntity<Map<String, Object>> getTrainingStatus(@PathVariable Long id) {
+        return ResponseEntity.ok(criteriaTrainingService.getTrainingStatus(id));
+    }
+
+    /**
+     * 평가 기준 재학습 요청
+     */
+    @PostMapping("/{id}/training")
+    public ResponseEntity<Map<String, Object>> requestTraining(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(criteriaTrainingService.requestTraining(id));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.jangyeonguk.backend.controller;
+
+import com.jangyeonguk.backend.service.LocalEvaluatorSimulator;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FastAPI 평가 서버 대역 Controller (local-evaluator 프로필 전용)
+ * 평가 서버 없이 전체 흐름을 부하 테스트할 때 사용한다. 접수한 지원서는 설정한 지연 후 임의 평가 결과로 콜백된다.
+ */
+@RestController
+@RequestMapping("/local-evaluator/api")
+@Profile("local-evaluator")
+@RequiredArgsConstructor
+@Slf4j
+public class LocalEvaluatorController {
+
+    private final LocalEvaluatorSimulator simulator;
+
+    private final AtomicLong receivedApplications = new AtomicLong();
+    private final AtomicLong receivedRequests = new AtomicLong();
+
+    /**
+     * 평가 기준 학습
+     */
+    @PostMapping("/evaluation-criteria/train")
+    public ResponseEntity<Map<String, Object>> train(@RequestBody JsonNode evaluationData) {
+        log.info("[대역 평가 서버] 평가 기준 학습 요청 - 공고 ID: {}", evaluationData.path("jobPostingId").asText());
+        if (simulator.shouldFail()) {
+            return unavailable();
+        }
+        simulator.train(evaluationData);
+        return ResponseEntity.ok(accepted(0));
+    }
+
+    /**
+     * 지원서 단건 접수
+     */
+    @PostMapping("/applications/submit")
+    public ResponseEntity<Map<String, Object>> submit(@RequestBody JsonNode applicationData) {
+        receivedRequests.incrementAndGet();
+        receivedApplications.incrementAndGet();
+        log.info("[대역 평가 서버] 지원서 접수 - Application ID: {}", applicationData.path("applicationId").asText());
+        if (simulator.shouldFail()) {
+            return unavailable();
+        }
+        simulator.submit(List.of(applicationData));
+        return ResponseEntity.ok(accepted(1));
+    }
+
+    /**
+     * 지원서 배치 접수
+     */
+    @PostMapping("/applications/submit-batch")
+    public ResponseEntity<Map<String, Object>> submitBatch(@RequestBody JsonNode batch) {
+        JsonNode applications = batch.path("applications");
+        if (!applications.isArray()) {
+            throw new IllegalArgumentException("applications 배열이 필요합니다.");
+        }
+        receivedRequests.incrementAndGet();
+        receivedApplications.addAndGet(applications.size());
+        log.info("[대역 평가 서버] 지원서 배치 접수 - 공고 ID: {}, 건수: {}",
+                batch.path("jobPostingId").asText(), applications.size());
+        if (simulator.shouldFail()) {
+            return unavailable();
+        }
+        List<JsonNode> items = new ArrayList<>(applications.size());
+        applications.forEach(items::add);
+        simulator.submit(items);
+        return ResponseEntity.ok(accepted(applications.size()));
+    }
+
+    /**
+     * 접수 현황 (요청 수 대비 지원서 수로 배치 효과 확인, 평가 진행/콜백 현황 포함)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        Map<String, Object> stats = new HashMap<>(simulator.stats());
+        stats.put("receivedRequests", receivedRequests.get());
+        stats.put("receivedApplications", receivedApplications.get());
+        return ResponseEntity.ok(stats);
+    }
+
+    private Map<String, Object> accepted(int count) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "accepted");
+        response.put("count", count);
+        return response;
+    }
+
+    private ResponseEntity<Map<String, Object>> unavailable() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "error");
+        response.put("message", "대역 평가 서버 임의 오류");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+}
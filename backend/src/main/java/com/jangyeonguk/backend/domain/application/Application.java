@@ -14,15 +14,28 @@ import java.util.List;
  * 지원서 엔티티
  */
 @Entity
-@Table(name = "applications")
+@Table(name = "applications",
+        uniqueConstraints = @UniqueConstraint(
+                name = Application.APPLICANT_JOB_POSTING_UNIQUE, columnNames = {"applicant_id", "job_posting_id"}),
+        indexes = {
+                @Index(name = "idx_applications_job_posting_final_score", columnList = "job_posting_id, final_score"),
+                @Index(name = "idx_applications_job_posting_passed_final_score", columnList = "job_posting_id, passed, final_score"),
+                @Index(name = "idx_applications_job_posting_id", columnList = "job_posting_id, id"),
+                @Index(name = "idx_applications_job_posting_status_id", columnList = "job_posting_id, status, id"),
+                @Index(name = "idx_applications_status_id", columnList = "status, id"),
+                @Index(name = "idx_applications_submitted_at", columnList = "submitted_at")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Application {
 
+    public static final String APPLICANT_JOB_POSTING_UNIQUE = "uk_applications_applicant_job_posting"; // (지원자, 공고) 유니크 제약
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_seq_generator")
+    @SequenceGenerator(name = "application_seq_generator", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -37,6 +50,33 @@ public class Application {
     @Column(name = "resume_quantitative_score")
     private Integer resumeQuantitativeScore; // 이력서 정량 점수
 
+    // 평가 결과 수신 시 계산해 저장하는 점수 (공고 배점 비중이 바뀌면 비율로부터 다시 계산)
+    @Column(name = "resume_score_ratio")
+    private Double resumeScoreRatio; // 이력서 득점 비율 (0~1, 받은 점수 / 배점 합계)
+
+    @Column(name = "cover_letter_score_ratio")
+    private Double coverLetterScoreRatio; // 자기소개서 득점 비율 (0~1, 기준별 등급 평균)
+
+    @Column(name = "resume_weighted_score")
+    private Double resumeWeightedScore; // 이력서 가중 점수 (비율 x 이력서 배점 비중)
+
+    @Column(name = "cover_letter_weighted_score")
+    private Double coverLetterWeightedScore; // 자기소개서 가중 점수 (비율 x 자기소개서 배점 비중)
+
+    @Column(name = "final_score")
+    private Double finalScore; // 최종 점수 (가중 점수 합)
+
+    private Boolean passed; // 합격기준점수 통과 여부 (기준점수가 없으면 null)
+
+    @Column(name = "current_evaluation_result_id")
+    private Long currentEvaluationResultId; // 현재 평가 결과 (재평가 시 새 버전을 저장한 뒤 이 값만 바꿈)
+
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt; // 제출 시각
+
+    @Column(name = "evaluation_deferred")
+    private Boolean evaluationDeferred; // 평가 요청 전송지연 여부 (제출 시 대기열 포화, 디스패처가 가져가면 해제)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "applicant_id")
     private Applicant applicant;
@@ -50,4 +90,11 @@ public class Application {
 
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<CoverLetterQuestionAnswer> coverLetterQuestionAnswers = new ArrayList<>();
-}
\ No newline at end of file
+
+    @PrePersist
+    protected void onCreate() {
+        if (submittedAt == null) {
+            submittedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -8,7 +8,7 @@ import lombok.*;
  * 자기소개서 질문 답변 엔티티
  */
 @Entity
-@Table(name = "cover_letter_question_answers")
+@Table(name = "cover_letter_question_answers", indexes = @Index(name = "idx_cover_letter_question_answers_application", columnList = "application_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +16,8 @@ import lombok.*;
 public class CoverLetterQuestionAnswer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cover_letter_question_answer_seq_generator")
+    @SequenceGenerator(name = "cover_letter_question_answer_seq_generator", sequenceName = "cover_letter_question_answers_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "answer_content", columnDefinition = "TEXT")
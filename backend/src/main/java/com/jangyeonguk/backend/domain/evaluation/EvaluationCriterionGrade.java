@@ -0,0 +1,47 @@
+package com.jangyeonguk.backend.domain.evaluation;
+
+import com.jangyeonguk.backend.domain.resume.Grade;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 자기소개서 문항의 평가 기준별 등급 엔티티
+ */
+@Entity
+@Table(name = "evaluation_criterion_grades", indexes = {
+        @Index(name = "idx_evaluation_criterion_grades_result", columnList = "evaluation_result_id"),
+        @Index(name = "idx_evaluation_criterion_grades_question_grade", columnList = "cover_letter_question_id, grade")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationCriterionGrade {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evaluation_criterion_grade_seq_generator")
+    @SequenceGenerator(name = "evaluation_criterion_grade_seq_generator", sequenceName = "evaluation_criterion_grades_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "evaluation_result_id", nullable = false)
+    private Long evaluationResultId; // 평가 결과 ID
+
+    @Column(name = "cover_letter_question_id")
+    private Long coverLetterQuestionId; // 자기소개서 문항 ID
+
+    @Column(name = "criteria_name")
+    private String criteriaName; // 평가 기준 이름
+
+    @Enumerated(EnumType.STRING)
+    private Grade grade; // 등급 (알 수 없는 값이면 null)
+
+    @Column(name = "evaluated_content", columnDefinition = "TEXT")
+    private String evaluatedContent; // 평가된 자기소개서 내 내용
+
+    @Column(name = "evaluation_reason", columnDefinition = "TEXT")
+    private String evaluationReason; // 평가 이유
+
+    @Column(nullable = false)
+    private Integer position; // 평가 결과 내 순서
+}
@@ -0,0 +1,19 @@
+package com.jangyeonguk.backend.domain.evaluation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 평가 진행 이벤트 종류 열거형 (SSE 이벤트 이름으로 사용)
+ */
+@Getter
+@AllArgsConstructor
+public enum EvaluationEventType {
+    APPLICATION_SUBMITTED("지원서 접수"),
+    EVALUATION_DISPATCHED("평가 요청 전송"),
+    EVALUATION_COMPLETED("평가 완료"),
+    STATUS_CHANGED("검토 상태 변경"),
+    RESYNC("다시 조회 필요"); // 놓친 이벤트가 보관 범위를 벗어나 이어받을 수 없는 경우
+
+    private final String description;
+}
@@ -0,0 +1,45 @@
+package com.jangyeonguk.backend.domain.evaluation;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 이력서 항목별 평가 점수 엔티티
+ */
+@Entity
+@Table(name = "evaluation_item_scores", indexes = {
+        @Index(name = "idx_evaluation_item_scores_result", columnList = "evaluation_result_id"),
+        @Index(name = "idx_evaluation_item_scores_resume_item_score", columnList = "resume_item_id, score")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationItemScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evaluation_item_score_seq_generator")
+    @SequenceGenerator(name = "evaluation_item_score_seq_generator", sequenceName = "evaluation_item_scores_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "evaluation_result_id", nullable = false)
+    private Long evaluationResultId; // 평가 결과 ID
+
+    @Column(name = "resume_item_id")
+    private Long resumeItemId; // 이력서 항목 ID
+
+    @Column(name = "resume_item_name")
+    private String resumeItemName; // 항목명
+
+    @Column(name = "resume_content", columnDefinition = "TEXT")
+    private String resumeContent; // 평가한 이력서 내용
+
+    private Integer score; // 지원자 점수
+
+    @Column(name = "max_score")
+    private Integer maxScore; // 항목 배점
+
+    @Column(nullable = false)
+    private Integer position; // 평가 결과 내 순서
+}
@@ -0,0 +1,67 @@
+package com.jangyeonguk.backend.domain.evaluation;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 평가 요청 아웃박스 엔티티
+ * 지원서와 같은 트랜잭션에서 기록되고, 백그라운드 디스패처가 FastAPI로 전송한다.
+ */
+@Entity
+@Table(name = "evaluation_outbox",
+        indexes = @Index(name = "idx_evaluation_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evaluation_outbox_seq_generator")
+    @SequenceGenerator(name = "evaluation_outbox_seq_generator", sequenceName = "evaluation_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId; // 지원서 ID
+
+    @Column(name = "job_posting_id", nullable = false)
+    private Long jobPostingId; // 채용공고 ID
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload; // FastAPI로 보낼 지원서 데이터 (JSON)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING; // 전송 상태
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0; // 전송 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 전송 가능 시각
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt; // 디스패처가 가져간 시각
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError; // 마지막 전송 오류
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt; // 전송 완료 시각
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.jangyeonguk.backend.domain.evaluation;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 평가 코멘트 엔티티 (강점/개선점, 문항별 키워드/요약)
+ */
+@Entity
+@Table(name = "evaluation_remarks", indexes = {
+        @Index(name = "idx_evaluation_remarks_result", columnList = "evaluation_result_id"),
+        @Index(name = "idx_evaluation_remarks_type", columnList = "type")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationRemark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evaluation_remark_seq_generator")
+    @SequenceGenerator(name = "evaluation_remark_seq_generator", sequenceName = "evaluation_remarks_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "evaluation_result_id", nullable = false)
+    private Long evaluationResultId; // 평가 결과 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RemarkType type; // 코멘트 종류
+
+    @Column(name = "cover_letter_question_id")
+    private Long coverLetterQuestionId; // 문항별 코멘트면 자기소개서 문항 ID
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content; // 내용
+
+    @Column(nullable = false)
+    private Integer position; // 평가 결과 내 순서
+}
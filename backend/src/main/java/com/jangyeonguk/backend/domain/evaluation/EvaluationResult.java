@@ -6,14 +6,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 /**
  * 평가 결과 엔티티
+ * 지원서별로 추가만 되는 이력이며, 재평가는 다음 버전을 새로 저장하고 지원서의 현재 평가 결과를 바꾼다.
  */
 @Entity
-@Table(name = "evaluation_results")
+@Table(name = "evaluation_results", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_evaluation_results_application_version", columnNames = {"application_id", "result_version"})
+}, indexes = {
+        @Index(name = "idx_evaluation_results_ai_recommendation", columnList = "job_posting_id, ai_recommendation"),
+        @Index(name = "idx_evaluation_results_ai_reliability", columnList = "job_posting_id, ai_reliability"),
+        @Index(name = "idx_evaluation_results_normalized", columnList = "normalized")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,13 +29,19 @@ import java.time.LocalDateTime;
 public class EvaluationResult {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evaluation_result_seq_generator")
+    @SequenceGenerator(name = "evaluation_result_seq_generator", sequenceName = "evaluation_results_seq", allocationSize = 50)
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "application_id", nullable = false)
     private Application application;
 
+    @Column(name = "result_version", nullable = false)
+    @ColumnDefault("1")
+    @Builder.Default
+    private Integer version = 1; // 지원서별 평가 버전 (1부터 증가)
+
     @Column(name = "applicant_name", nullable = false)
     private String applicantName;
 
@@ -49,6 +63,21 @@ public class EvaluationResult {
     @Column(name = "overall_evaluation", columnDefinition = "TEXT")
     private String overallEvaluation; // JSON 형태로 저장
 
+    @Column(name = "overall_comment", columnDefinition = "TEXT")
+    private String overallComment; // 종합평가 (1줄)
+
+    @Column(name = "ai_recommendation", length = 50)
+    private String aiRecommendation; // AI 추천결과 (합격 권장, 탈락 권장)
+
+    @Column(name = "ai_reliability")
+    private Double aiReliability; // AI 신뢰도
+
+    // 항목 점수/기준별 등급/코멘트가 행으로 저장되었는지 여부 (false면 JSON 컬럼만 있는 기존 결과로 백그라운드 이전 대상)
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    @Builder.Default
+    private Boolean normalized = false;
+
     @Column(name = "evaluation_completed_at")
     private LocalDateTime evaluationCompletedAt;
 
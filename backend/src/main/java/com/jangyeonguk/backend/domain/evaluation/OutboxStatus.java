@@ -0,0 +1,19 @@
+package com.jangyeonguk.backend.domain.evaluation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 평가 요청 아웃박스 상태 열거형
+ */
+@Getter
+@AllArgsConstructor
+public enum OutboxStatus {
+    PENDING("전송대기"),
+    DEFERRED("전송지연"), // 대기열 포화 상태에서 접수된 요청
+    IN_FLIGHT("전송중"),
+    DONE("전송완료"),
+    FAILED("전송실패");
+
+    private final String description;
+}
@@ -0,0 +1,18 @@
+package com.jangyeonguk.backend.domain.evaluation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 평가 코멘트 종류 열거형
+ */
+@Getter
+@AllArgsConstructor
+public enum RemarkType {
+    STRENGTH("강점"),
+    IMPROVEMENT("개선점"),
+    KEYWORD("문항 키워드"),
+    SUMMARY("문항 요약");
+
+    private final String description;
+}
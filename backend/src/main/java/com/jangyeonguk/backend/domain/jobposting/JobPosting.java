@@ -5,6 +5,7 @@ import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestion;
 import com.jangyeonguk.backend.domain.resume.ResumeItem;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,7 +15,7 @@ import java.util.List;
  * 채용공고 엔티티
  */
 @Entity
-@Table(name = "job_postings")
+@Table(name = "job_postings", indexes = @Index(name = "idx_job_postings_training_status", columnList = "training_status"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -82,6 +83,27 @@ public class JobPosting {
     @Column(name = "posting_status")
     private PostingStatus postingStatus; // 공고상태
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "training_status", length = 20)
+    @ColumnDefault("'READY'") // 컬럼 추가 전에 등록된 공고는 등록 시 동기로 학습이 끝난 상태
+    @Builder.Default
+    private TrainingStatus trainingStatus = TrainingStatus.PENDING; // 평가 기준 학습 상태
+
+    @Column(name = "training_attempts")
+    @Builder.Default
+    private Integer trainingAttempts = 0; // 학습 요청 시도 횟수
+
+    @Column(name = "training_next_attempt_at")
+    private LocalDateTime trainingNextAttemptAt; // 다음 학습 요청 시각 (실패 후 재시도)
+
+    @Column(name = "training_started_at")
+    private LocalDateTime trainingStartedAt; // 학습 요청 시작 시각
+
+    @Column(name = "trained_at")
+    private LocalDateTime trainedAt; // 학습 완료 시각
+
+    @Column(name = "training_error", columnDefinition = "TEXT")
+    private String trainingError; // 마지막 학습 실패 사유
 
     @Column(name = "public_link_url")
     private String publicLinkUrl; // 공개 링크 URL
@@ -0,0 +1,41 @@
+package com.jangyeonguk.backend.domain.jobposting;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공고별 지원서 집계 엔티티
+ * 지원서 제출과 상태 변경 시 같은 트랜잭션에서 증감되어, 통계 화면은 지원서 테이블 대신 이 테이블만 읽는다.
+ */
+@Entity
+@Table(name = "job_posting_stats")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingStats {
+
+    @Id
+    @Column(name = "job_posting_id")
+    private Long jobPostingId; // 채용공고 ID
+
+    @Column(name = "total_applications", nullable = false)
+    @Builder.Default
+    private long totalApplications = 0; // 지원서 수
+
+    @Column(name = "completed_evaluations", nullable = false)
+    @Builder.Default
+    private long completedEvaluations = 0; // 평가 완료(합격/탈락) 지원서 수
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
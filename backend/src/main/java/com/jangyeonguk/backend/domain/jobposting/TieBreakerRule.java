@@ -0,0 +1,19 @@
+package com.jangyeonguk.backend.domain.jobposting;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 동점자 처리 기준 열거형 (선언 순서가 우선순위)
+ */
+@Getter
+@AllArgsConstructor
+public enum TieBreakerRule {
+    JOB_FIT("직무적합(에세이 Q2)", null), // 두 번째 자기소개서 문항의 기준별 등급 평균
+    CAREER("경력", "경력"), // 항목명에 키워드가 포함된 이력서 항목 점수 합
+    CERTIFICATE("자격증", "자격증"),
+    LANGUAGE("어학", "어학");
+
+    private final String description;
+    private final String resumeItemKeyword;
+}
@@ -0,0 +1,18 @@
+package com.jangyeonguk.backend.domain.jobposting;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 평가 기준 학습 상태 열거형
+ */
+@Getter
+@AllArgsConstructor
+public enum TrainingStatus {
+    PENDING("학습대기"),
+    TRAINING("학습중"),
+    READY("학습완료"),
+    FAILED("학습실패");
+
+    private final String description;
+}
@@ -11,7 +11,7 @@ import java.util.List;
  * 이력서 항목 엔티티
  */
 @Entity
-@Table(name = "resume_items")
+@Table(name = "resume_items", indexes = @Index(name = "idx_resume_items_job_posting", columnList = "job_posting_id"))
 @Getter
 @Setter
 @Builder
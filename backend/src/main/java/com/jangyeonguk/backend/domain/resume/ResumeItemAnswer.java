@@ -8,7 +8,7 @@ import lombok.*;
  * 이력서 항목 답변 엔티티
  */
 @Entity
-@Table(name = "resume_item_answers")
+@Table(name = "resume_item_answers", indexes = @Index(name = "idx_resume_item_answers_application", columnList = "application_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +16,8 @@ import lombok.*;
 public class ResumeItemAnswer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_item_answer_seq_generator")
+    @SequenceGenerator(name = "resume_item_answer_seq_generator", sequenceName = "resume_item_answers_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "resume_content", columnDefinition = "TEXT")
@@ -0,0 +1,33 @@
+package com.jangyeonguk.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 지원서 대량 가져오기 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationImportResultDto {
+
+    private Long jobPostingId;
+    private long totalLines; // 처리한 라인 수 (빈 줄 제외)
+    private long importedCount; // 저장 성공 건수
+    private long failedCount; // 실패 건수
+    private List<LineErrorDto> errors; // 라인별 오류 (최대 개수까지만 포함)
+    private boolean errorsTruncated; // 오류 목록이 잘렸는지 여부
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineErrorDto {
+        private long lineNumber; // NDJSON 라인 번호 (1부터)
+        private String message; // 오류 메시지
+    }
+}
@@ -0,0 +1,39 @@
+package com.jangyeonguk.backend.dto.application;
+
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공고별 지원자 순위표 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationLeaderboardResponseDto {
+
+    private Long jobPostingId;
+    private int totalCount; // 순위표에 있는 지원서 수 (점수가 계산된 지원서)
+    private List<String> tieBreakerRule; // 동점자 처리 기준 (우선순위 순)
+    private List<EntryDto> entries;
+    private Long nextCursor; // 다음 페이지 요청 시 after 값 (마지막 페이지면 null)
+    private Integer nextRank; // 다음 페이지 요청 시 afterRank 값
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EntryDto {
+        private int rank;
+        private Long applicationId;
+        private String applicantName;
+        private Double finalScore;
+        private Boolean passed;
+        private ApplicationStatus status;
+    }
+}
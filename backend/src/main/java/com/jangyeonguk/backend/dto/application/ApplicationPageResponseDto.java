@@ -0,0 +1,21 @@
+package com.jangyeonguk.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 지원서 목록 페이지 응답 DTO (커서 기반)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationPageResponseDto {
+
+    private List<ApplicationSummaryDto> items;
+    private Long nextCursor; // 다음 페이지 요청 시 after 값 (마지막 페이지면 null)
+}
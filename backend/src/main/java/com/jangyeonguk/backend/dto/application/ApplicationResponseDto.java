@@ -28,6 +28,11 @@ public class ApplicationResponseDto {
     private Integer totalEvaluationScore;
     private String evaluationComment;
     private Integer resumeQuantitativeScore;
+    private Double resumeWeightedScore; // 이력서 가중 점수
+    private Double coverLetterWeightedScore; // 자기소개서 가중 점수
+    private Double finalScore; // 최종 점수
+    private Boolean passed; // 합격기준점수 통과 여부
+    private Boolean evaluationDeferred; // 평가 요청 전송지연 여부 (대기열 포화로 전송이 뒤로 밀림)
     
     // 지원자 정보
     private ApplicantDto applicant;
@@ -59,6 +64,11 @@ public class ApplicationResponseDto {
                 .totalEvaluationScore(application.getTotalEvaluationScore())
                 .evaluationComment(application.getEvaluationComment())
                 .resumeQuantitativeScore(application.getResumeQuantitativeScore())
+                .resumeWeightedScore(application.getResumeWeightedScore())
+                .coverLetterWeightedScore(application.getCoverLetterWeightedScore())
+                .finalScore(application.getFinalScore())
+                .passed(application.getPassed())
+                .evaluationDeferred(Boolean.TRUE.equals(application.getEvaluationDeferred()))
                 .applicant(ApplicantDto.builder()
                         .id(application.getApplicant().getId())
                         .name(application.getApplicant().getName())
@@ -0,0 +1,51 @@
+package com.jangyeonguk.backend.dto.application;
+
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지원서 목록용 요약 DTO (답변 제외, JPQL 생성자 조회 한 번으로 채움)
+ * 답변과 평가 결과는 지원서 상세 조회에서 내려준다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationSummaryDto {
+
+    private Long id;
+    private Long jobPostingId;
+    private Long applicantId;
+    private String applicantName;
+    private String applicantEmail;
+    private ApplicationStatus status;
+    private Double resumeWeightedScore; // 이력서 가중 점수
+    private Double coverLetterWeightedScore; // 자기소개서 가중 점수
+    private Double finalScore; // 최종 점수
+    private Boolean passed; // 합격기준점수 통과 여부
+    private String submittedAt;
+
+    /**
+     * JPQL 생성자 조회용 ("SELECT new ...ApplicationSummaryDto(...)")
+     */
+    public ApplicationSummaryDto(Long id, Long jobPostingId, Long applicantId, String applicantName, String applicantEmail,
+                                 ApplicationStatus status, Double resumeWeightedScore, Double coverLetterWeightedScore,
+                                 Double finalScore, Boolean passed, LocalDateTime submittedAt) {
+        this.id = id;
+        this.jobPostingId = jobPostingId;
+        this.applicantId = applicantId;
+        this.applicantName = applicantName;
+        this.applicantEmail = applicantEmail;
+        this.status = status;
+        this.resumeWeightedScore = resumeWeightedScore;
+        this.coverLetterWeightedScore = coverLetterWeightedScore;
+        this.finalScore = finalScore;
+        this.passed = passed;
+        this.submittedAt = submittedAt != null ? submittedAt.toString() : null;
+    }
+}
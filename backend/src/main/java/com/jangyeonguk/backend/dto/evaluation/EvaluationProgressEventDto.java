@@ -0,0 +1,28 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 평가 진행 이벤트 DTO (SSE data)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationProgressEventDto {
+
+    private String eventId; // SSE id ("채널 epoch-공고별 순번", Last-Event-ID로 이어받기)
+    private long sequence; // 공고별 이벤트 순번 (서버가 다시 시작되거나 채널이 정리되면 1부터)
+    private EvaluationEventType type;
+    private Long jobPostingId;
+    private Long applicationId;
+    private ApplicationStatus status; // 이벤트 시점의 지원서 상태
+    private Double finalScore; // 평가 완료 시 최종 점수
+    private Boolean passed; // 평가 완료 시 합격기준점수 통과 여부
+    private String occurredAt;
+}
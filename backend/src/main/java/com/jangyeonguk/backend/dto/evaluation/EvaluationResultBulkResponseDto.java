@@ -0,0 +1,34 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 평가 결과 일괄 처리 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationResultBulkResponseDto {
+
+    private int totalCount; // 받은 평가 결과 수
+    private int succeededCount; // 저장 성공 건수
+    private int failedCount; // 실패 건수
+    private List<ItemResultDto> results; // 요청 순서대로의 건별 처리 결과
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResultDto {
+        private int index; // 요청 배열 내 위치 (0부터)
+        private Long applicationId; // 저장된 지원서 ID (찾지 못하면 요청 값)
+        private String status; // SUCCEEDED / FAILED
+        private Integer totalScore; // 저장된 총점 (실패 시 null)
+        private String message; // 실패 사유
+    }
+}
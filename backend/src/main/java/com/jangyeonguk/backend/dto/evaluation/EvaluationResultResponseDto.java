@@ -16,6 +16,7 @@ import lombok.NoArgsConstructor;
 public class EvaluationResultResponseDto {
 
     private Long id;
+    private Integer version; // 지원서별 평가 버전
     private String applicantName;
     private String applicantEmail;
     private Long jobPostingId;
@@ -29,6 +30,7 @@ public class EvaluationResultResponseDto {
     public static EvaluationResultResponseDto from(EvaluationResult evaluationResult) {
         return EvaluationResultResponseDto.builder()
                 .id(evaluationResult.getId())
+                .version(evaluationResult.getVersion())
                 .applicantName(evaluationResult.getApplicantName())
                 .applicantEmail(evaluationResult.getApplicantEmail())
                 .jobPostingId(evaluationResult.getJobPostingId())
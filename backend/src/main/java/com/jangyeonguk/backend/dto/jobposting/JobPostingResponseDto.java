@@ -3,6 +3,8 @@ package com.jangyeonguk.backend.dto.jobposting;
 import com.jangyeonguk.backend.domain.jobposting.EmploymentType;
 import com.jangyeonguk.backend.domain.jobposting.JobPosting;
 import com.jangyeonguk.backend.domain.jobposting.PostingStatus;
+import com.jangyeonguk.backend.domain.jobposting.TieBreakerRule;
+import com.jangyeonguk.backend.domain.jobposting.TrainingStatus;
 import com.jangyeonguk.backend.dto.coverletter.CoverLetterQuestionResponseDto;
 import com.jangyeonguk.backend.dto.resume.ResumeItemResponseDto;
 import com.jangyeonguk.backend.dto.application.ApplicationResponseDto;
@@ -13,6 +15,7 @@ import lombok.NoArgsConstructor;
 
     import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +50,7 @@ public class JobPostingResponseDto {
     private Boolean manualReview; // 수동 검토여부
     private String publicLinkUrl; // 공개 링크 URL
     private PostingStatus postingStatus; // 공고상태
+    private TrainingStatus trainingStatus; // 평가 기준 학습 상태
     private Long companyId; // 회사 ID
     private String companyName; // 회사명
     private Integer applicationCount; // 지원서 수
@@ -57,9 +61,9 @@ public class JobPostingResponseDto {
     private List<ApplicationResponseDto> applications; // 지원서 목록 (통합 API용)
 
     /**
-     * JobPosting 엔티티를 JobPostingResponseDto로 변환
+     * JobPosting 엔티티를 JobPostingResponseDto로 변환 (지원서 수는 공고별 집계에서 전달받음)
      */
-    public static JobPostingResponseDto from(JobPosting jobPosting) {
+    public static JobPostingResponseDto from(JobPosting jobPosting, long applicationCount) {
         return JobPostingResponseDto.builder()
                 .id(jobPosting.getId())
                 .title(jobPosting.getTitle())
@@ -80,10 +84,11 @@ public class JobPostingResponseDto {
                 .aiAutomaticEvaluation(jobPosting.getAiAutomaticEvaluation())
                 .manualReview(jobPosting.getManualReview())
                 .postingStatus(jobPosting.getPostingStatus())
+                .trainingStatus(jobPosting.getTrainingStatus())
                 .publicLinkUrl(jobPosting.getPublicLinkUrl()) // 공개 링크 URL 추가
                 .companyId(jobPosting.getCompany().getId())
                 .companyName(jobPosting.getCompany().getName())
-                .applicationCount(jobPosting.getApplications() != null ? jobPosting.getApplications().size() : 0) // 지원서 수 추가
+                .applicationCount((int) applicationCount) // 지원서 컬렉션은 읽지 않음
                 .resumeItems(jobPosting.getResumeItems() != null ?
                         jobPosting.getResumeItems().stream()
                                 .map(ResumeItemResponseDto::from)
@@ -119,6 +124,7 @@ public class JobPostingResponseDto {
                 .aiAutomaticEvaluation(jobPosting.getAiAutomaticEvaluation())
                 .manualReview(jobPosting.getManualReview())
                 .postingStatus(jobPosting.getPostingStatus())
+                .trainingStatus(jobPosting.getTrainingStatus())
                 .publicLinkUrl(jobPosting.getPublicLinkUrl())
                 .companyId(jobPosting.getCompany().getId())
                 .companyName(jobPosting.getCompany().getName())
@@ -158,12 +164,9 @@ public class JobPostingResponseDto {
             "허위/과장된 내용 기재",
             "표절 또는 AI 생성물을 그대로 사용"
         ));
-        evaluationRules.put("tieBreakerRule", List.of(
-            "직무적합(에세이 Q2)",
-            "경력",
-            "자격증",
-            "어학"
-        ));
+        evaluationRules.put("tieBreakerRule", Arrays.stream(TieBreakerRule.values())
+            .map(TieBreakerRule::getDescription)
+            .collect(Collectors.toList()));
         evaluationRules.put("finalScoreFormula", Map.of(
             "resumeWeight", this.resumeScoreWeight / 100.0,
             "coverLetterQuestionsWeight", this.coverLetterScoreWeight / 100.0
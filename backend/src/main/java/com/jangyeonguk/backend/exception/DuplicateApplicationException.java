@@ -0,0 +1,12 @@
+package com.jangyeonguk.backend.exception;
+
+/**
+ * 같은 지원자가 같은 공고에 지원서를 동시에 제출해 (지원자, 공고) 유니크 제약에 걸렸을 때 발생하는 예외 (409)
+ * 먼저 커밋된 지원서가 있으므로 다시 제출하면 기존 지원서가 반환된다.
+ */
+public class DuplicateApplicationException extends RuntimeException {
+
+    public DuplicateApplicationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
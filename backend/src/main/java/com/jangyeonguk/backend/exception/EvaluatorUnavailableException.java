@@ -0,0 +1,12 @@
+package com.jangyeonguk.backend.exception;
+
+/**
+ * 평가 서버 차단기가 열려 있어 호출하지 않았을 때 발생하는 예외
+ * 호출하는 쪽은 요청을 버리지 않고 보관했다가 차단기가 닫힌 뒤 다시 보내야 한다.
+ */
+public class EvaluatorUnavailableException extends RuntimeException {
+
+    public EvaluatorUnavailableException(String message) {
+        super(message);
+    }
+}
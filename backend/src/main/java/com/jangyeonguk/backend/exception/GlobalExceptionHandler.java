@@ -1,6 +1,7 @@
 package com.jangyeonguk.backend.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -25,6 +26,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(DuplicateApplicationException.class)
+    public ResponseEntity<ErrorResponseDto> handleDuplicateApplicationException(DuplicateApplicationException e) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto("CONFLICT", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponseDto> handleTooManyRequestsException(TooManyRequestsException e) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto("TOO_MANY_REQUESTS", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleException(Exception e) {
         ErrorResponseDto errorResponse = new ErrorResponseDto("INTERNAL_SERVER_ERROR", e.getMessage());
@@ -0,0 +1,17 @@
+package com.jangyeonguk.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량 초과로 요청을 받을 수 없을 때 발생하는 예외 (429)
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -3,9 +3,14 @@ package com.jangyeonguk.backend.repository;
 import com.jangyeonguk.backend.domain.application.Applicant;
 import com.jangyeonguk.backend.domain.application.Application;
 import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.dto.application.ApplicationSummaryDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,16 +19,85 @@ import java.util.Optional;
  */
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
+
+    // 목록용 요약 조회 (지원자만 조인, 답변은 읽지 않음)
+    String SUMMARY_SELECT = "SELECT new com.jangyeonguk.backend.dto.application.ApplicationSummaryDto(" +
+            "a.id, a.jobPosting.id, ap.id, ap.name, ap.email, a.status, " +
+            "a.resumeWeightedScore, a.coverLetterWeightedScore, a.finalScore, a.passed, a.submittedAt) " +
+            "FROM Application a JOIN a.applicant ap";
+
     List<Application> findByJobPostingId(Long jobPostingId);
 
+    // 공고별 지원서 요약 목록
+    @Query(SUMMARY_SELECT + " WHERE a.jobPosting.id = :jobPostingId ORDER BY a.id")
+    List<ApplicationSummaryDto> findSummariesByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
     List<Application> findByApplicant(Applicant applicant);
 
     // 추가된 메서드
     Optional<Application> findByApplicantEmailAndJobPostingId(String applicantEmail, Long jobPostingId);
     
+    // 주어진 이메일 중 공고에 이미 지원한 지원자 이메일 (대량 가져오기 청크 단위 중복 검사용)
+    @Query("SELECT ap.email FROM Application a JOIN a.applicant ap WHERE a.jobPosting.id = :jobPostingId AND ap.email IN :emails")
+    List<String> findApplicantEmailsByJobPostingIdAndEmailIn(@Param("jobPostingId") Long jobPostingId,
+                                                             @Param("emails") Collection<String> emails);
+
+    // 가중 점수가 계산된 공고 지원서 (지원자 함께 조회, 순위표 재구성용)
+    @Query("SELECT a FROM Application a JOIN FETCH a.applicant WHERE a.jobPosting.id = :jobPostingId AND a.finalScore IS NOT NULL")
+    List<Application> findScoredByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    // 공고 지원서들의 이력서 답변 컬렉션 초기화 (항목 함께 조회, 통합 조회용)
+    @Query("SELECT DISTINCT a FROM Application a LEFT JOIN FETCH a.resumeItemAnswers ra LEFT JOIN FETCH ra.resumeItem " +
+            "WHERE a.jobPosting.id = :jobPostingId")
+    List<Application> fetchResumeItemAnswersByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    // 공고 지원서들의 자기소개서 답변 컬렉션 초기화 (질문 함께 조회, 통합 조회용)
+    @Query("SELECT DISTINCT a FROM Application a LEFT JOIN FETCH a.coverLetterQuestionAnswers ca LEFT JOIN FETCH ca.coverLetterQuestion " +
+            "WHERE a.jobPosting.id = :jobPostingId")
+    List<Application> fetchCoverLetterQuestionAnswersByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    // 공고별 지원서 수와 특정 상태 지원서 수 (GROUP BY 한 번으로 집계, 집계 테이블 복구용)
+    @Query("SELECT a.jobPosting.id, COUNT(a), SUM(CASE WHEN a.status IN :statuses THEN 1 ELSE 0 END) " +
+            "FROM Application a WHERE a.jobPosting.id IN :jobPostingIds GROUP BY a.jobPosting.id")
+    List<Object[]> countGroupedByJobPostingId(@Param("jobPostingIds") Collection<Long> jobPostingIds,
+                                             @Param("statuses") Collection<ApplicationStatus> statuses);
+
     // 공고별 지원서 수 조회
     long countByJobPostingId(Long jobPostingId);
     
     // 공고별 특정 상태의 지원서 수 조회
     long countByJobPostingIdAndStatusIn(Long jobPostingId, List<ApplicationStatus> statuses);
-}
\ No newline at end of file
+
+    // 공고 배점 비중 변경 시 저장된 득점 비율로 가중 점수/합격 여부 일괄 재계산
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Application a SET " +
+            "a.resumeWeightedScore = a.resumeScoreRatio * :resumeWeight, " +
+            "a.coverLetterWeightedScore = COALESCE(a.coverLetterScoreRatio, 0) * :coverLetterWeight, " +
+            "a.finalScore = a.resumeScoreRatio * :resumeWeight + COALESCE(a.coverLetterScoreRatio, 0) * :coverLetterWeight, " +
+            "a.passed = CASE WHEN a.resumeScoreRatio * :resumeWeight + COALESCE(a.coverLetterScoreRatio, 0) * :coverLetterWeight >= :passingScore " +
+            "THEN true ELSE false END " +
+            "WHERE a.jobPosting.id = :jobPostingId AND a.resumeScoreRatio IS NOT NULL")
+    int recomputeScores(@Param("jobPostingId") Long jobPostingId,
+                        @Param("resumeWeight") double resumeWeight,
+                        @Param("coverLetterWeight") double coverLetterWeight,
+                        @Param("passingScore") double passingScore);
+
+    // 합격기준점수가 없는 공고의 가중 점수 재계산 (합격 여부는 null)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Application a SET " +
+            "a.resumeWeightedScore = a.resumeScoreRatio * :resumeWeight, " +
+            "a.coverLetterWeightedScore = COALESCE(a.coverLetterScoreRatio, 0) * :coverLetterWeight, " +
+            "a.finalScore = a.resumeScoreRatio * :resumeWeight + COALESCE(a.coverLetterScoreRatio, 0) * :coverLetterWeight, " +
+            "a.passed = NULL " +
+            "WHERE a.jobPosting.id = :jobPostingId AND a.resumeScoreRatio IS NOT NULL")
+    int recomputeScoresWithoutPassingScore(@Param("jobPostingId") Long jobPostingId,
+                                           @Param("resumeWeight") double resumeWeight,
+                                           @Param("coverLetterWeight") double coverLetterWeight);
+
+    /**
+     * 평가 요청 전송지연 표시 해제 (디스패처가 아웃박스에서 가져간 지원서)
+     */
+    @Modifying
+    @Query("UPDATE Application a SET a.evaluationDeferred = false WHERE a.id IN :ids AND a.evaluationDeferred = true")
+    int clearEvaluationDeferred(@Param("ids") Collection<Long> ids);
+}
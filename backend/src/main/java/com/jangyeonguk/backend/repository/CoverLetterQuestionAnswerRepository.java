@@ -4,6 +4,7 @@ import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionAnswer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,4 +14,5 @@ import java.util.List;
 public interface CoverLetterQuestionAnswerRepository extends JpaRepository<CoverLetterQuestionAnswer, Long> {
     List<CoverLetterQuestionAnswer> findByApplicationId(Long applicationId);
     List<CoverLetterQuestionAnswer> findByApplicationIdAndCoverLetterQuestionId(Long applicationId, Long coverLetterQuestionId);
+    List<CoverLetterQuestionAnswer> findByApplicationIdIn(Collection<Long> applicationIds);
 }
\ No newline at end of file
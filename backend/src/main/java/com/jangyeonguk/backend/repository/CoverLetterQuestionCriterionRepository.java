@@ -2,6 +2,8 @@ package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionCriterion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +18,12 @@ public interface CoverLetterQuestionCriterionRepository extends JpaRepository<Co
      * 자기소개서 질문 ID로 평가기준 목록 조회
      */
     List<CoverLetterQuestionCriterion> findByCoverLetterQuestionId(Long coverLetterQuestionId);
+
+    /**
+     * 채용공고의 자기소개서 평가기준과 세부 기준을 한 번에 조회 (평가 기준 스냅샷용)
+     * 같은 영속성 컨텍스트에서 질문별 평가기준을 먼저 조회했다면 그 평가기준의 세부 기준도 함께 채워진다.
+     */
+    @Query("SELECT DISTINCT c FROM CoverLetterQuestionCriterion c LEFT JOIN FETCH c.details d " +
+            "WHERE c.coverLetterQuestion.jobPosting.id = :jobPostingId ORDER BY c.id, d.id")
+    List<CoverLetterQuestionCriterion> findWithDetailsByJobPostingId(@Param("jobPostingId") Long jobPostingId);
 }
\ No newline at end of file
@@ -20,6 +20,13 @@ public interface CoverLetterQuestionRepository extends JpaRepository<CoverLetter
      */
     List<CoverLetterQuestion> findByJobPostingId(Long jobPostingId);
 
+    /**
+     * 채용공고 ID로 자기소개서 질문과 평가기준을 한 번에 조회 (평가 기준 스냅샷용)
+     */
+    @Query("SELECT DISTINCT q FROM CoverLetterQuestion q LEFT JOIN FETCH q.criteria c " +
+            "WHERE q.jobPosting.id = :jobPostingId ORDER BY q.id, c.id")
+    List<CoverLetterQuestion> findWithCriteriaByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
     /**
      * 공고별 자기소개서 질문 삭제
      */
@@ -0,0 +1,30 @@
+package com.jangyeonguk.backend.repository;
+
+import com.jangyeonguk.backend.domain.evaluation.EvaluationCriterionGrade;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 자기소개서 평가 기준별 등급 Repository
+ */
+@Repository
+public interface EvaluationCriterionGradeRepository extends JpaRepository<EvaluationCriterionGrade, Long> {
+
+    List<EvaluationCriterionGrade> findByEvaluationResultIdOrderByPositionAsc(Long evaluationResultId);
+
+    List<EvaluationCriterionGrade> findByEvaluationResultIdInOrderByPositionAsc(Collection<Long> evaluationResultIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EvaluationCriterionGrade e WHERE e.evaluationResultId = :evaluationResultId")
+    void deleteByEvaluationResultId(@Param("evaluationResultId") Long evaluationResultId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EvaluationCriterionGrade e WHERE e.evaluationResultId IN :evaluationResultIds")
+    void deleteByEvaluationResultIdIn(@Param("evaluationResultIds") Collection<Long> evaluationResultIds);
+}
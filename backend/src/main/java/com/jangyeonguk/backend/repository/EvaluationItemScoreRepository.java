@@ -0,0 +1,30 @@
+package com.jangyeonguk.backend.repository;
+
+import com.jangyeonguk.backend.domain.evaluation.EvaluationItemScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이력서 항목별 평가 점수 Repository
+ */
+@Repository
+public interface EvaluationItemScoreRepository extends JpaRepository<EvaluationItemScore, Long> {
+
+    List<EvaluationItemScore> findByEvaluationResultIdOrderByPositionAsc(Long evaluationResultId);
+
+    List<EvaluationItemScore> findByEvaluationResultIdInOrderByPositionAsc(Collection<Long> evaluationResultIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EvaluationItemScore e WHERE e.evaluationResultId = :evaluationResultId")
+    void deleteByEvaluationResultId(@Param("evaluationResultId") Long evaluationResultId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EvaluationItemScore e WHERE e.evaluationResultId IN :evaluationResultIds")
+    void deleteByEvaluationResultIdIn(@Param("evaluationResultIds") Collection<Long> evaluationResultIds);
+}
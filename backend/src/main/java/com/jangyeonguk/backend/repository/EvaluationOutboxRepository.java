@@ -0,0 +1,72 @@
+package com.jangyeonguk.backend.repository;
+
+import com.jangyeonguk.backend.domain.evaluation.EvaluationOutbox;
+import com.jangyeonguk.backend.domain.evaluation.OutboxStatus;
+import com.jangyeonguk.backend.domain.jobposting.TrainingStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 평가 요청 아웃박스 Repository
+ */
+@Repository
+public interface EvaluationOutboxRepository extends JpaRepository<EvaluationOutbox, Long> {
+
+    /**
+     * 전송 가능한 아웃박스 행 조회 (다른 인스턴스가 잡고 있는 행은 SKIP LOCKED로 건너뜀)
+     * 전송중 상태로 오래 남아 있는 행(디스패처가 죽은 경우)도 다시 가져간다.
+     * 평가 기준 학습이 끝나지 않은 공고의 요청은 학습 완료까지 아웃박스에서 대기한다.
+     * 전송지연 행은 전송대기(재시도 포함) 행보다 뒤에 가져간다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM EvaluationOutbox o " +
+            "WHERE ((o.status IN (:pending, :deferred) AND o.nextAttemptAt <= :now) " +
+            "OR (o.status = :inFlight AND o.claimedAt < :staleBefore)) " +
+            "AND EXISTS (SELECT 1 FROM JobPosting j WHERE j.id = o.jobPostingId AND j.trainingStatus = :ready) " +
+            "ORDER BY CASE WHEN o.status = :deferred THEN 1 ELSE 0 END, o.id")
+    List<EvaluationOutbox> findClaimable(@Param("pending") OutboxStatus pending,
+                                         @Param("deferred") OutboxStatus deferred,
+                                         @Param("inFlight") OutboxStatus inFlight,
+                                         @Param("ready") TrainingStatus ready,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("staleBefore") LocalDateTime staleBefore,
+                                         Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    long countByStatusIn(Collection<OutboxStatus> statuses);
+
+    /**
+     * 가져간 행을 다시 전송대기 상태로 되돌림
+     */
+    @Modifying
+    @Query("UPDATE EvaluationOutbox o SET o.status = :pending, o.claimedAt = null WHERE o.id IN :ids AND o.status = :inFlight")
+    int releaseClaims(@Param("ids") Collection<Long> ids,
+                      @Param("pending") OutboxStatus pending,
+                      @Param("inFlight") OutboxStatus inFlight);
+
+    /**
+     * 가져간 시각 갱신 (아직 전송중인 행만)
+     */
+    @Modifying
+    @Query("UPDATE EvaluationOutbox o SET o.claimedAt = :now WHERE o.id IN :ids AND o.status = :inFlight")
+    int renewClaims(@Param("ids") Collection<Long> ids,
+                    @Param("inFlight") OutboxStatus inFlight,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 전송완료 행 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM EvaluationOutbox o WHERE o.status = :status AND o.completedAt < :before")
+    int deleteByStatusAndCompletedAtBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,28 @@
+package com.jangyeonguk.backend.repository;
+
+import com.jangyeonguk.backend.domain.evaluation.EvaluationRemark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 평가 코멘트 Repository
+ */
+@Repository
+public interface EvaluationRemarkRepository extends JpaRepository<EvaluationRemark, Long> {
+
+    List<EvaluationRemark> findByEvaluationResultIdOrderByPositionAsc(Long evaluationResultId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EvaluationRemark e WHERE e.evaluationResultId = :evaluationResultId")
+    void deleteByEvaluationResultId(@Param("evaluationResultId") Long evaluationResultId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EvaluationRemark e WHERE e.evaluationResultId IN :evaluationResultIds")
+    void deleteByEvaluationResultIdIn(@Param("evaluationResultIds") Collection<Long> evaluationResultIds);
+}
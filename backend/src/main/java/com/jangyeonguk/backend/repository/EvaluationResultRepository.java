@@ -1,9 +1,15 @@
 package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.domain.evaluation.EvaluationResult;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +19,46 @@ import java.util.Optional;
 @Repository
 public interface EvaluationResultRepository extends JpaRepository<EvaluationResult, Long> {
 
-    Optional<EvaluationResult> findByApplicationId(Long applicationId);
+    /**
+     * 지원서의 현재 평가 결과 조회 (지원서가 가리키는 버전)
+     */
+    @Query("SELECT r FROM Application a JOIN EvaluationResult r ON r.id = a.currentEvaluationResultId WHERE a.id = :applicationId")
+    Optional<EvaluationResult> findCurrentByApplicationId(@Param("applicationId") Long applicationId);
 
-    Optional<EvaluationResult> findByApplicantEmailAndJobPostingId(String applicantEmail, Long jobPostingId);
+    /**
+     * 여러 지원서의 현재 평가 결과를 한 번에 조회
+     */
+    @Query("SELECT r FROM Application a JOIN EvaluationResult r ON r.id = a.currentEvaluationResultId WHERE a.id IN :applicationIds")
+    List<EvaluationResult> findCurrentByApplicationIdIn(@Param("applicationIds") Collection<Long> applicationIds);
 
-    List<EvaluationResult> findByJobPostingId(Long jobPostingId);
-}
\ No newline at end of file
+    /**
+     * 지원서의 평가 이력 (최신 버전부터)
+     */
+    List<EvaluationResult> findByApplicationIdOrderByVersionDesc(Long applicationId);
+
+    /**
+     * 정리 대상 이전 버전 조회 (현재 버전이 아니고, 최신 keepVersions개 밖이며, 기준 시각 이전에 저장된 결과)
+     */
+    @Query("SELECT r.id FROM EvaluationResult r JOIN r.application a " +
+            "WHERE r.id <> a.currentEvaluationResultId " +
+            "AND r.version <= (SELECT c.version FROM EvaluationResult c WHERE c.id = a.currentEvaluationResultId) - :keepVersions " +
+            "AND r.createdAt < :before ORDER BY r.id")
+    List<Long> findCompactableIds(@Param("keepVersions") int keepVersions,
+                                  @Param("before") LocalDateTime before,
+                                  Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EvaluationResult r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 정규화 테이블로 아직 옮기지 않은 평가 결과 조회 (다른 인스턴스가 잡고 있는 행은 SKIP LOCKED로 건너뜀)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM EvaluationResult r WHERE (r.normalized = false OR r.normalized IS NULL) AND r.id > :afterId ORDER BY r.id")
+    List<EvaluationResult> findUnnormalized(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM EvaluationResult r WHERE r.normalized = false OR r.normalized IS NULL")
+    long countUnnormalized();
+}
@@ -2,12 +2,17 @@ package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.domain.jobposting.JobPosting;
 import com.jangyeonguk.backend.domain.jobposting.PostingStatus;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
+import com.jangyeonguk.backend.domain.jobposting.TrainingStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 채용공고 Repository
@@ -19,4 +24,51 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
      * 회사 ID로 채용공고 목록 조회
      */
     List<JobPosting> findByCompanyId(Long companyId);
+
+    /**
+     * 모든 채용공고 ID 조회
+     */
+    @Query("SELECT j.id FROM JobPosting j")
+    List<Long> findAllIds();
+
+    /**
+     * 회사와 함께 채용공고 조회
+     */
+    @Query("SELECT j FROM JobPosting j JOIN FETCH j.company WHERE j.id = :id")
+    Optional<JobPosting> findWithCompanyById(@Param("id") Long id);
+
+    /**
+     * 회사, 지원서, 지원자와 함께 채용공고 조회 (통합 조회용)
+     */
+    @Query("SELECT DISTINCT j FROM JobPosting j JOIN FETCH j.company " +
+            "LEFT JOIN FETCH j.applications a LEFT JOIN FETCH a.applicant WHERE j.id = :id")
+    Optional<JobPosting> findWithApplicationsById(@Param("id") Long id);
+
+    /**
+     * 채용공고의 이력서 항목 컬렉션 초기화 (같은 영속성 컨텍스트의 공고에 채워짐)
+     */
+    @Query("SELECT DISTINCT j FROM JobPosting j LEFT JOIN FETCH j.resumeItems WHERE j.id = :id")
+    Optional<JobPosting> fetchResumeItemsById(@Param("id") Long id);
+
+    /**
+     * 채용공고의 자기소개서 질문 컬렉션 초기화 (같은 영속성 컨텍스트의 공고에 채워짐)
+     */
+    @Query("SELECT DISTINCT j FROM JobPosting j LEFT JOIN FETCH j.coverLetterQuestions WHERE j.id = :id")
+    Optional<JobPosting> fetchCoverLetterQuestionsById(@Param("id") Long id);
+
+    /**
+     * 평가 기준 학습을 요청할 공고 조회 (다른 인스턴스가 잡고 있는 행은 SKIP LOCKED로 건너뜀)
+     * 학습중 상태로 오래 남아 있는 공고(요청한 인스턴스가 죽은 경우)도 다시 가져간다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM JobPosting j " +
+            "WHERE (j.trainingStatus = :pending AND (j.trainingNextAttemptAt IS NULL OR j.trainingNextAttemptAt <= :now)) " +
+            "OR (j.trainingStatus = :training AND j.trainingStartedAt < :staleBefore) " +
+            "ORDER BY j.id")
+    List<JobPosting> findTrainable(@Param("pending") TrainingStatus pending,
+                                   @Param("training") TrainingStatus training,
+                                   @Param("now") LocalDateTime now,
+                                   @Param("staleBefore") LocalDateTime staleBefore,
+                                   Pageable pageable);
 }
\ No newline at end of file
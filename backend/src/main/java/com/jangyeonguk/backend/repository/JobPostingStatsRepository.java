@@ -0,0 +1,54 @@
+package com.jangyeonguk.backend.repository;
+
+import com.jangyeonguk.backend.domain.jobposting.JobPostingStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 공고별 지원서 집계 Repository
+ */
+@Repository
+public interface JobPostingStatsRepository extends JpaRepository<JobPostingStats, Long> {
+
+    // 집계 증감 (행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE JobPostingStats s SET s.totalApplications = s.totalApplications + :totalDelta, " +
+            "s.completedEvaluations = s.completedEvaluations + :completedDelta, s.updatedAt = :now " +
+            "WHERE s.jobPostingId = :jobPostingId")
+    int increment(@Param("jobPostingId") Long jobPostingId,
+                  @Param("totalDelta") long totalDelta,
+                  @Param("completedDelta") long completedDelta,
+                  @Param("now") LocalDateTime now);
+
+    // 집계 행 생성 (이미 있으면 기본키 중복으로 실패, 호출하는 쪽에서 무시)
+    @Modifying
+    @Query(value = "INSERT INTO job_posting_stats (job_posting_id, total_applications, completed_evaluations, updated_at) " +
+            "VALUES (:jobPostingId, :totalApplications, :completedEvaluations, :now)", nativeQuery = true)
+    void insert(@Param("jobPostingId") Long jobPostingId,
+                @Param("totalApplications") long totalApplications,
+                @Param("completedEvaluations") long completedEvaluations,
+                @Param("now") LocalDateTime now);
+
+    // 집계 재계산 중 증감이 끼어들지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM JobPostingStats s")
+    List<JobPostingStats> findAllForUpdate();
+
+    // 공고별 지원서 수 (공고 목록용)
+    @Query("SELECT s.jobPostingId, s.totalApplications FROM JobPostingStats s WHERE s.jobPostingId IN :jobPostingIds")
+    List<Object[]> findApplicationCounts(@Param("jobPostingIds") Collection<Long> jobPostingIds);
+
+    // 통계 화면용 (공고 제목/상태와 함께 한 번에 조회, 집계 행이 없는 공고는 마지막 값이 null)
+    @Query("SELECT j.id, j.title, j.postingStatus, COALESCE(s.totalApplications, 0), COALESCE(s.completedEvaluations, 0), s.jobPostingId " +
+            "FROM JobPosting j LEFT JOIN JobPostingStats s ON s.jobPostingId = j.id ORDER BY j.id")
+    List<Object[]> findAllWithJobPosting();
+}
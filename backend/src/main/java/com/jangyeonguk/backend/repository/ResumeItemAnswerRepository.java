@@ -4,6 +4,7 @@ import com.jangyeonguk.backend.domain.resume.ResumeItemAnswer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,4 +14,5 @@ import java.util.List;
 public interface ResumeItemAnswerRepository extends JpaRepository<ResumeItemAnswer, Long> {
     List<ResumeItemAnswer> findByApplicationId(Long applicationId);
     List<ResumeItemAnswer> findByApplicationIdAndResumeItemId(Long applicationId, Long resumeItemId);
+    List<ResumeItemAnswer> findByApplicationIdIn(Collection<Long> applicationIds);
 }
@@ -20,6 +20,13 @@ public interface ResumeItemRepository extends JpaRepository<ResumeItem, Long> {
      */
     List<ResumeItem> findByJobPostingId(Long jobPostingId);
 
+    /**
+     * 채용공고 ID로 이력서 항목과 평가기준을 한 번에 조회 (평가 기준 스냅샷용)
+     */
+    @Query("SELECT DISTINCT r FROM ResumeItem r LEFT JOIN FETCH r.criteria c " +
+            "WHERE r.jobPosting.id = :jobPostingId ORDER BY r.id, c.id")
+    List<ResumeItem> findWithCriteriaByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
     /**
      * 공고별 이력서 항목 삭제
      */
@@ -0,0 +1,202 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.jobposting.JobPosting;
+import com.jangyeonguk.backend.dto.application.ApplicationCreateRequestDto;
+import com.jangyeonguk.backend.dto.application.ApplicationImportResultDto;
+import com.jangyeonguk.backend.exception.TooManyRequestsException;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 지원서 대량 가져오기 Service (NDJSON 스트리밍)
+ * 한 줄씩 읽어 고정 크기 청크 단위로 커밋하므로 파일 크기와 무관하게 메모리 사용량이 일정하다.
+ * 평가 요청은 청크와 같은 트랜잭션에서 아웃박스에 기록된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final JobPostingRepository jobPostingRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationWriter applicationWriter;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final EvaluationOutboxService evaluationOutboxService;
+
+    @Value("${application.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${evaluation.queue.max-import-backlog:50000}")
+    private long maxImportBacklog;
+
+    @Value("${evaluation.queue.retry-after-seconds:60}")
+    private long retryAfterSeconds;
+
+    /**
+     * NDJSON 본문을 읽어 지원서를 일괄 저장
+     */
+    public ApplicationImportResultDto importApplications(Long jobPostingId, InputStream inputStream) throws IOException {
+        if (!jobPostingRepository.existsById(jobPostingId)) {
+            throw new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId);
+        }
+
+        // 평가 대기 요청이 이미 많이 쌓여 있으면 대량 유입을 받지 않음 (단건 제출은 전송지연으로 접수)
+        long backlog = evaluationOutboxService.countBacklog();
+        if (backlog >= maxImportBacklog) {
+            log.warn("평가 대기 요청 과다로 대량 가져오기 거절 - 공고 ID: {}, 대기: {}건", jobPostingId, backlog);
+            throw new TooManyRequestsException(
+                    "평가 대기 중인 요청이 많아 지금은 가져오기를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+
+        log.info("지원서 대량 가져오기 시작 - 공고 ID: {}, 청크 크기: {}", jobPostingId, chunkSize);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ObjectReader reader = objectMapper.readerFor(ApplicationCreateRequestDto.class);
+        ApplicationWriter.AnswerTargets targets = applicationWriter.loadAnswerTargets(jobPostingId);
+        ImportProgress progress = new ImportProgress();
+
+        List<ParsedLine> chunk = new ArrayList<>(chunkSize);
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                progress.totalLines++;
+
+                try {
+                    chunk.add(new ParsedLine(lineNumber, reader.readValue(line)));
+                } catch (JsonProcessingException e) {
+                    progress.fail(lineNumber, "JSON 파싱 실패: " + e.getOriginalMessage());
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    importChunk(transactionTemplate, jobPostingId, chunk, targets, progress);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(transactionTemplate, jobPostingId, chunk, targets, progress);
+        }
+
+        log.info("지원서 대량 가져오기 완료 - 공고 ID: {}, 전체: {}, 성공: {}, 실패: {}",
+                jobPostingId, progress.totalLines, progress.importedCount, progress.failedCount);
+
+        return ApplicationImportResultDto.builder()
+                .jobPostingId(jobPostingId)
+                .totalLines(progress.totalLines)
+                .importedCount(progress.importedCount)
+                .failedCount(progress.failedCount)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failedCount > progress.errors.size())
+                .build();
+    }
+
+    /**
+     * 청크 하나를 하나의 트랜잭션으로 저장
+     * 검증 오류는 해당 라인만 실패 처리하고, DB 오류는 청크 전체를 실패 처리한다.
+     * 이미 지원한 지원자는 청크의 이메일만 한 번에 조회해 걸러내므로(유니크 제약 위반으로 청크 전체가 실패하지 않도록)
+     * 공고 지원자 수나 파일 길이와 무관하게 청크 크기만큼만 메모리에 둔다.
+     */
+    private void importChunk(TransactionTemplate transactionTemplate, Long jobPostingId, List<ParsedLine> chunk,
+                             ApplicationWriter.AnswerTargets targets, ImportProgress progress) {
+        List<ParsedLine> rejected = new ArrayList<>();
+        List<Long> imported = new ArrayList<>();
+        Set<String> chunkEmails = new HashSet<>(); // 청크 지원자 중 이미 지원했거나 이 청크에서 저장한 이메일
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                JobPosting jobPosting = jobPostingRepository.getReferenceById(jobPostingId);
+                Set<String> requestedEmails = chunk.stream()
+                        .map(parsed -> parsed.request.getApplicantEmail())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet());
+                if (!requestedEmails.isEmpty()) {
+                    chunkEmails.addAll(applicationRepository.findApplicantEmailsByJobPostingIdAndEmailIn(jobPostingId, requestedEmails));
+                }
+
+                for (ParsedLine parsed : chunk) {
+                    try {
+                        String email = parsed.request.getApplicantEmail();
+                        if (email != null && chunkEmails.contains(email)) {
+                            throw new IllegalArgumentException("이미 이 공고에 지원한 지원자입니다: " + email);
+                        }
+                        Application application = applicationWriter.write(jobPosting, parsed.request, targets);
+                        imported.add(application.getId());
+                        chunkEmails.add(email);
+                    } catch (IllegalArgumentException e) {
+                        parsed.error = e.getMessage();
+                        rejected.add(parsed);
+                    }
+                }
+
+                // 청크마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지 (트랜잭션 안에서 반영 후 비움)
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            log.error("지원서 대량 가져오기 청크 저장 실패 - 공고 ID: {}, 시작 라인: {}",
+                    jobPostingId, chunk.get(0).lineNumber, e);
+            chunk.forEach(parsed -> progress.fail(parsed.lineNumber, "저장 실패: " + e.getMessage()));
+            return;
+        }
+
+        rejected.forEach(parsed -> progress.fail(parsed.lineNumber, parsed.error));
+        progress.importedCount += imported.size();
+    }
+
+    private static class ParsedLine {
+        private final long lineNumber;
+        private final ApplicationCreateRequestDto request;
+        private String error;
+
+        ParsedLine(long lineNumber, ApplicationCreateRequestDto request) {
+            this.lineNumber = lineNumber;
+            this.request = request;
+        }
+    }
+
+    private static class ImportProgress {
+        private long totalLines;
+        private long importedCount;
+        private long failedCount;
+        private final List<ApplicationImportResultDto.LineErrorDto> errors = new ArrayList<>();
+
+        void fail(long lineNumber, String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ApplicationImportResultDto.LineErrorDto(lineNumber, message));
+            }
+        }
+    }
+}
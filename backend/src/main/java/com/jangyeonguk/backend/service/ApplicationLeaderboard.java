@@ -0,0 +1,398 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationCriterionGrade;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationItemScore;
+import com.jangyeonguk.backend.domain.jobposting.JobPosting;
+import com.jangyeonguk.backend.domain.jobposting.TieBreakerRule;
+import com.jangyeonguk.backend.dto.application.ApplicationLeaderboardResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
+import com.jangyeonguk.backend.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 공고별 지원자 순위표 (메모리 정렬 인덱스)
+ * 최종 점수 내림차순, 동점이면 TieBreakerRule 순서대로 비교하고, 그래도 같으면 먼저 지원한 순서다.
+ * 점수 계산/검토 상태 변경이 커밋되면 해당 지원서만 갱신하며(O(log n)), 조회는 커서 다음부터 필요한 만큼만 읽는다.
+ * 공고는 처음 조회될 때 또는 시작 시 DB에서 재구성하고, 배점 비중이 바뀌면 버렸다가 다시 구성한다.
+ * 재구성 중(DB를 읽는 동안) 커밋된 변경은 대기시켰다가 읽은 순위표에 적용한 뒤 공개하므로 빠지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationLeaderboard {
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingDouble((Entry entry) -> entry.finalScore).reversed()
+            .thenComparing((first, second) -> compareTieBreakers(second.tieBreakers, first.tieBreakers))
+            .thenComparingLong(entry -> entry.applicationId);
+
+    private final ApplicationRepository applicationRepository;
+    private final EvaluationItemScoreRepository evaluationItemScoreRepository;
+    private final EvaluationCriterionGradeRepository evaluationCriterionGradeRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${leaderboard.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @Value("${leaderboard.max-page-size:100}")
+    private int maxPageSize;
+
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+    private final Map<Long, List<Consumer<Board>>> pendingChanges = new HashMap<>(); // 재구성 중인 공고의 대기 변경 (공고 락 안에서만 접근)
+    private final Map<Long, Object> locks = new ConcurrentHashMap<>(); // 순위표 변경용 (짧게 잡음)
+    private final Map<Long, Object> rebuildLocks = new ConcurrentHashMap<>(); // 같은 공고 재구성 직렬화용 (DB 읽는 동안 잡음)
+
+    /**
+     * 시작 시 모든 공고의 순위표를 백그라운드에서 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAllOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        Thread.ofVirtual().name("leaderboard-rebuild").start(() -> {
+            List<Long> jobPostingIds = jobPostingRepository.findAll().stream().map(JobPosting::getId).collect(Collectors.toList());
+            for (Long jobPostingId : jobPostingIds) {
+                try {
+                    rebuild(jobPostingId);
+                } catch (RuntimeException e) {
+                    log.error("순위표 재구성 실패 - 공고 ID: {}", jobPostingId, e);
+                }
+            }
+            log.info("순위표 재구성 완료 - 공고 {}개", jobPostingIds.size());
+        });
+    }
+
+    /**
+     * 점수가 계산된 지원서 반영 (현재 트랜잭션이 커밋된 뒤 적용)
+     */
+    public void scoreChanged(Application application,
+                             List<EvaluationResultDto.ResumeEvaluationDto> resumeEvaluations,
+                             List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> coverEvaluations) {
+        if (application.getFinalScore() == null) {
+            return;
+        }
+        Long jobPostingId = application.getJobPosting().getId();
+        Entry entry = new Entry(application.getId(), application.getApplicant().getName(), application.getFinalScore(),
+                application.getPassed(), application.getStatus(), tieBreakers(resumeEvaluations, coverEvaluations));
+        afterCommit(() -> upsert(jobPostingId, entry));
+    }
+
+    /**
+     * 검토 상태 변경 반영 (순위는 그대로, 커밋 후 적용)
+     */
+    public void statusChanged(Long jobPostingId, Long applicationId, ApplicationStatus status) {
+        afterCommit(() -> change(jobPostingId, board -> {
+            Entry current = board.byApplicationId.get(applicationId);
+            if (current != null) {
+                board.put(current.withStatus(status));
+            }
+        }));
+    }
+
+    /**
+     * 공고 순위표 폐기 (배점 비중 변경 등 전체 점수가 바뀐 경우, 다음 조회 시 재구성)
+     * 진행 중인 재구성은 이전 점수를 읽었을 수 있으므로 결과를 공개하지 않게 한다.
+     */
+    public void invalidate(Long jobPostingId) {
+        afterCommit(() -> {
+            synchronized (lockFor(jobPostingId)) {
+                boards.remove(jobPostingId);
+                pendingChanges.remove(jobPostingId);
+            }
+        });
+    }
+
+    /**
+     * 순위표 조회 (after 지원서 다음 순위부터 limit건)
+     * 순위는 afterRank + 1부터 매겨지므로 다음 페이지는 응답의 nextCursor/nextRank를 그대로 넘긴다.
+     */
+    public ApplicationLeaderboardResponseDto getPage(Long jobPostingId, int limit, Long afterApplicationId, int afterRank, boolean passedOnly) {
+        if (limit <= 0 || limit > maxPageSize) {
+            throw new IllegalArgumentException("limit은 1 이상 " + maxPageSize + " 이하여야 합니다: " + limit);
+        }
+        if (!jobPostingRepository.existsById(jobPostingId)) {
+            throw new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId);
+        }
+
+        Board board = boards.get(jobPostingId);
+        if (board == null) {
+            board = rebuild(jobPostingId);
+        }
+
+        NavigableSet<Entry> candidates = board.ranking;
+        if (afterApplicationId != null) {
+            Entry cursor = board.byApplicationId.get(afterApplicationId);
+            if (cursor == null) {
+                throw new IllegalArgumentException("순위표에 없는 지원서입니다: " + afterApplicationId);
+            }
+            candidates = board.ranking.tailSet(cursor, false);
+        }
+
+        List<ApplicationLeaderboardResponseDto.EntryDto> entries = new ArrayList<>(limit);
+        boolean hasNext = false;
+        for (Entry entry : candidates) {
+            if (passedOnly && !Boolean.TRUE.equals(entry.passed)) {
+                continue;
+            }
+            if (entries.size() == limit) {
+                hasNext = true;
+                break;
+            }
+            entries.add(ApplicationLeaderboardResponseDto.EntryDto.builder()
+                    .rank(afterRank + entries.size() + 1)
+                    .applicationId(entry.applicationId)
+                    .applicantName(entry.applicantName)
+                    .finalScore(entry.finalScore)
+                    .passed(entry.passed)
+                    .status(entry.status)
+                    .build());
+        }
+
+        return ApplicationLeaderboardResponseDto.builder()
+                .jobPostingId(jobPostingId)
+                .totalCount(board.byApplicationId.size())
+                .tieBreakerRule(Arrays.stream(TieBreakerRule.values()).map(TieBreakerRule::getDescription).collect(Collectors.toList()))
+                .entries(entries)
+                .nextCursor(hasNext ? entries.get(entries.size() - 1).getApplicationId() : null)
+                .nextRank(hasNext ? afterRank + entries.size() : null)
+                .build();
+    }
+
+    /**
+     * DB에서 공고 순위표 재구성 (점수가 계산된 지원서와 동점자 기준 값)
+     * DB를 읽는 동안에는 순위표 락을 잡지 않고, 그 사이 커밋된 변경은 대기열에 모았다가 공개 직전에 적용한다.
+     */
+    private Board rebuild(Long jobPostingId) {
+        synchronized (rebuildLocks.computeIfAbsent(jobPostingId, id -> new Object())) {
+            List<Consumer<Board>> pending = new ArrayList<>();
+            synchronized (lockFor(jobPostingId)) {
+                Board existing = boards.get(jobPostingId);
+                if (existing != null) {
+                    return existing;
+                }
+                pendingChanges.put(jobPostingId, pending);
+            }
+
+            Board board;
+            try {
+                board = load(jobPostingId);
+            } catch (RuntimeException e) {
+                synchronized (lockFor(jobPostingId)) {
+                    pendingChanges.remove(jobPostingId, pending);
+                }
+                throw e;
+            }
+
+            synchronized (lockFor(jobPostingId)) {
+                if (!pendingChanges.remove(jobPostingId, pending)) {
+                    return board; // 읽는 사이 폐기됨 (이번 조회에만 사용하고 공개하지 않음)
+                }
+                pending.forEach(change -> change.accept(board));
+                boards.put(jobPostingId, board);
+            }
+            log.debug("순위표 재구성 - 공고 ID: {}, 지원서: {}건, 재구성 중 반영된 변경: {}건",
+                    jobPostingId, board.byApplicationId.size(), pending.size());
+            return board;
+        }
+    }
+
+    private Board load(Long jobPostingId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> {
+            List<Application> applications = applicationRepository.findScoredByJobPostingId(jobPostingId);
+            // 지원서가 가리키는 현재 평가 결과의 상세만 사용 (이전 버전은 제외)
+            Collection<Long> resultIds = applications.stream()
+                    .map(Application::getCurrentEvaluationResultId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            Map<Long, List<EvaluationItemScore>> itemScores = resultIds.isEmpty() ? new HashMap<>()
+                    : evaluationItemScoreRepository.findByEvaluationResultIdInOrderByPositionAsc(resultIds).stream()
+                    .collect(Collectors.groupingBy(EvaluationItemScore::getEvaluationResultId));
+            Map<Long, List<EvaluationCriterionGrade>> grades = resultIds.isEmpty() ? new HashMap<>()
+                    : evaluationCriterionGradeRepository.findByEvaluationResultIdInOrderByPositionAsc(resultIds).stream()
+                    .collect(Collectors.groupingBy(EvaluationCriterionGrade::getEvaluationResultId));
+
+            Board loaded = new Board();
+            for (Application application : applications) {
+                Long resultId = application.getCurrentEvaluationResultId();
+                double[] tieBreakers = tieBreakers(
+                        toResumeEvaluations(itemScores.getOrDefault(resultId, List.of())),
+                        toCoverEvaluations(grades.getOrDefault(resultId, List.of())));
+                loaded.put(new Entry(application.getId(), application.getApplicant().getName(), application.getFinalScore(),
+                        application.getPassed(), application.getStatus(), tieBreakers));
+            }
+            return loaded;
+        });
+    }
+
+    private void upsert(Long jobPostingId, Entry entry) {
+        change(jobPostingId, board -> board.put(entry));
+    }
+
+    /**
+     * 순위표 변경 적용 (재구성 중이면 대기열에 추가, 아직 구성되지 않은 공고는 처음 조회할 때 DB에서 읽음)
+     */
+    private void change(Long jobPostingId, Consumer<Board> change) {
+        synchronized (lockFor(jobPostingId)) {
+            Board board = boards.get(jobPostingId);
+            if (board != null) {
+                change.accept(board);
+                return;
+            }
+            List<Consumer<Board>> pending = pendingChanges.get(jobPostingId);
+            if (pending != null) {
+                pending.add(change);
+            }
+        }
+    }
+
+    private Object lockFor(Long jobPostingId) {
+        return locks.computeIfAbsent(jobPostingId, id -> new Object());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * TieBreakerRule 순서의 동점자 기준 값 (클수록 우선)
+     */
+    private static double[] tieBreakers(List<EvaluationResultDto.ResumeEvaluationDto> resumeEvaluations,
+                                        List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> coverEvaluations) {
+        List<EvaluationResultDto.ResumeEvaluationDto> resume = resumeEvaluations != null ? resumeEvaluations : List.of();
+        List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> cover = coverEvaluations != null ? coverEvaluations : List.of();
+
+        TieBreakerRule[] rules = TieBreakerRule.values();
+        double[] values = new double[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            TieBreakerRule rule = rules[i];
+            if (rule.getResumeItemKeyword() != null) {
+                values[i] = resume.stream()
+                        .filter(resumeEval -> resumeEval.getResumeItemName() != null
+                                && resumeEval.getResumeItemName().contains(rule.getResumeItemKeyword()))
+                        .mapToInt(resumeEval -> resumeEval.getScore() != null ? resumeEval.getScore() : 0)
+                        .sum();
+            } else {
+                values[i] = secondQuestionGradeAverage(cover);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 두 번째 자기소개서 문항(문항 ID 순)의 기준별 등급 평균
+     */
+    private static double secondQuestionGradeAverage(List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> coverEvaluations) {
+        List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> sorted = coverEvaluations.stream()
+                .filter(coverEval -> coverEval.getCoverLetterQuestionId() != null)
+                .sorted(Comparator.comparing(EvaluationResultDto.CoverLetterQuestionEvaluationDto::getCoverLetterQuestionId))
+                .collect(Collectors.toList());
+        if (sorted.size() < 2 || sorted.get(1).getAnswerEvaluations() == null) {
+            return 0;
+        }
+        return sorted.get(1).getAnswerEvaluations().stream()
+                .map(answerEval -> ApplicationScoreCalculator.gradeRatio(answerEval.getGrade()))
+                .filter(Objects::nonNull)
+                .mapToDouble(Double::doubleValue)
+                .average()
+                .orElse(0);
+    }
+
+    private static List<EvaluationResultDto.ResumeEvaluationDto> toResumeEvaluations(List<EvaluationItemScore> itemScores) {
+        return itemScores.stream()
+                .map(itemScore -> new EvaluationResultDto.ResumeEvaluationDto(
+                        itemScore.getResumeItemId(), itemScore.getResumeItemName(), null, itemScore.getScore()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> toCoverEvaluations(List<EvaluationCriterionGrade> grades) {
+        Map<Long, List<EvaluationResultDto.CoverLetterAnswerEvaluationDto>> byQuestion = grades.stream()
+                .filter(grade -> grade.getCoverLetterQuestionId() != null)
+                .collect(Collectors.groupingBy(EvaluationCriterionGrade::getCoverLetterQuestionId, LinkedHashMap::new,
+                        Collectors.mapping(grade -> new EvaluationResultDto.CoverLetterAnswerEvaluationDto(grade.getCriteriaName(),
+                                grade.getGrade() != null ? grade.getGrade().name() : null, null, null), Collectors.toList())));
+        return byQuestion.entrySet().stream()
+                .map(question -> new EvaluationResultDto.CoverLetterQuestionEvaluationDto(question.getKey(), null, null, question.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private static int compareTieBreakers(double[] first, double[] second) {
+        for (int i = 0; i < Math.min(first.length, second.length); i++) {
+            int compared = Double.compare(first[i], second[i]);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 공고 하나의 순위표 (정렬 집합 + 지원서 ID 색인)
+     */
+    private static class Board {
+        private final NavigableSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING);
+        private final Map<Long, Entry> byApplicationId = new ConcurrentHashMap<>();
+
+        void put(Entry entry) {
+            Entry previous = byApplicationId.put(entry.applicationId, entry);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            ranking.add(entry);
+        }
+    }
+
+    /**
+     * 순위표 항목 (불변, 점수가 바뀌면 새 항목으로 교체)
+     */
+    private static class Entry {
+        private final Long applicationId;
+        private final String applicantName;
+        private final double finalScore;
+        private final Boolean passed;
+        private final ApplicationStatus status;
+        private final double[] tieBreakers;
+
+        Entry(Long applicationId, String applicantName, double finalScore, Boolean passed, ApplicationStatus status, double[] tieBreakers) {
+            this.applicationId = applicationId;
+            this.applicantName = applicantName;
+            this.finalScore = finalScore;
+            this.passed = passed;
+            this.status = status;
+            this.tieBreakers = tieBreakers;
+        }
+
+        Entry withStatus(ApplicationStatus status) {
+            return new Entry(applicationId, applicantName, finalScore, passed, status, tieBreakers);
+        }
+    }
+}
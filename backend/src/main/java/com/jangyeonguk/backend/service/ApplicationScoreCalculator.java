@@ -0,0 +1,117 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.jobposting.JobPosting;
+import com.jangyeonguk.backend.domain.resume.Grade;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지원서 가중 점수/합격 여부 계산 컴포넌트
+ * 평가 결과를 받을 때 이력서/자기소개서 득점 비율을 구해 공고의 배점 비중과 합격기준점수를 적용하고 지원서에 저장한다.
+ * 득점 비율을 함께 저장하므로 배점 비중이 바뀌면 평가 결과를 다시 읽지 않고 UPDATE 한 번으로 재계산된다.
+ * 배점 비중이 없으면 0으로 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationScoreCalculator {
+
+    // 자기소개서 기준별 등급의 득점 비율
+    private static final Map<Grade, Double> GRADE_RATIOS = new EnumMap<>(Map.of(
+            Grade.EXCELLENT, 1.0,
+            Grade.GOOD, 0.75,
+            Grade.NORMAL, 0.5,
+            Grade.POOR, 0.25));
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationLeaderboard applicationLeaderboard;
+
+    /**
+     * 평가 결과로 지원서의 득점 비율과 가중 점수/합격 여부 갱신
+     */
+    public void apply(Application application,
+                      List<EvaluationResultDto.ResumeEvaluationDto> resumeEvaluations,
+                      Map<Long, Integer> maxScores,
+                      List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> coverEvaluations) {
+        int totalScore = 0;
+        int totalMaxScore = 0;
+        for (EvaluationResultDto.ResumeEvaluationDto resumeEval : resumeEvaluations != null ? resumeEvaluations : List.<EvaluationResultDto.ResumeEvaluationDto>of()) {
+            totalScore += resumeEval.getScore() != null ? resumeEval.getScore() : 0;
+            Integer maxScore = EvaluationResultWriter.resolveMaxScore(maxScores, resumeEval.getResumeItemId());
+            totalMaxScore += maxScore != null ? maxScore : 0;
+        }
+
+        double gradeSum = 0;
+        int gradeCount = 0;
+        for (EvaluationResultDto.CoverLetterQuestionEvaluationDto coverEval : coverEvaluations != null ? coverEvaluations : List.<EvaluationResultDto.CoverLetterQuestionEvaluationDto>of()) {
+            for (EvaluationResultDto.CoverLetterAnswerEvaluationDto answerEval : coverEval.getAnswerEvaluations() != null ? coverEval.getAnswerEvaluations() : List.<EvaluationResultDto.CoverLetterAnswerEvaluationDto>of()) {
+                Double ratio = gradeRatio(answerEval.getGrade());
+                if (ratio != null) {
+                    gradeSum += ratio;
+                    gradeCount++;
+                }
+            }
+        }
+
+        application.setResumeQuantitativeScore(totalScore);
+        application.setResumeScoreRatio(totalMaxScore > 0 ? Math.min(1.0, (double) totalScore / totalMaxScore) : 0.0);
+        application.setCoverLetterScoreRatio(gradeCount > 0 ? gradeSum / gradeCount : null);
+        applyWeights(application, application.getJobPosting());
+        applicationLeaderboard.scoreChanged(application, resumeEvaluations, coverEvaluations);
+    }
+
+    /**
+     * 저장된 득점 비율에 공고의 배점 비중/합격기준점수 적용
+     */
+    public void applyWeights(Application application, JobPosting jobPosting) {
+        if (application.getResumeScoreRatio() == null) {
+            return;
+        }
+        double resumeWeighted = application.getResumeScoreRatio() * weight(jobPosting.getResumeScoreWeight());
+        double coverLetterWeighted = (application.getCoverLetterScoreRatio() != null ? application.getCoverLetterScoreRatio() : 0)
+                * weight(jobPosting.getCoverLetterScoreWeight());
+        double finalScore = resumeWeighted + coverLetterWeighted;
+
+        application.setResumeWeightedScore(resumeWeighted);
+        application.setCoverLetterWeightedScore(coverLetterWeighted);
+        application.setFinalScore(finalScore);
+        application.setPassed(jobPosting.getPassingScore() != null ? finalScore >= jobPosting.getPassingScore() : null);
+    }
+
+    /**
+     * 공고 배점 비중/합격기준점수 변경 시 공고의 모든 지원서 점수 재계산 (UPDATE 한 번)
+     */
+    public int recompute(JobPosting jobPosting) {
+        int updated = jobPosting.getPassingScore() != null
+                ? applicationRepository.recomputeScores(jobPosting.getId(),
+                        weight(jobPosting.getResumeScoreWeight()), weight(jobPosting.getCoverLetterScoreWeight()), jobPosting.getPassingScore())
+                : applicationRepository.recomputeScoresWithoutPassingScore(jobPosting.getId(),
+                        weight(jobPosting.getResumeScoreWeight()), weight(jobPosting.getCoverLetterScoreWeight()));
+        applicationLeaderboard.invalidate(jobPosting.getId());
+        log.info("지원서 가중 점수 재계산 - 공고 ID: {}, 지원서: {}건", jobPosting.getId(), updated);
+        return updated;
+    }
+
+    private static double weight(Integer weight) {
+        return weight != null ? weight : 0;
+    }
+
+    static Double gradeRatio(String grade) {
+        if (grade == null) {
+            return null;
+        }
+        try {
+            return GRADE_RATIOS.get(Grade.valueOf(grade.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
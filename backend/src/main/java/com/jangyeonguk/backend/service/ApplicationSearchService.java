@@ -0,0 +1,95 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.dto.application.ApplicationPageResponseDto;
+import com.jangyeonguk.backend.dto.application.ApplicationSummaryDto;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지원서 목록 조회 Service (커서 기반 페이지)
+ * 지원서 ID 내림차순(최근 제출 순)으로 after 이후 limit개만 읽으므로 테이블 크기와 무관하게 한 페이지 비용이 일정하다.
+ * 조건이 주어진 필터만 WHERE 절에 넣어 (공고, 상태, ID) 인덱스를 그대로 탈 수 있게 하고, 행은 요약 DTO로 바로 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApplicationSearchService {
+
+    private final EntityManager entityManager;
+
+    @Value("${application.search.max-limit:100}")
+    private int maxLimit;
+
+    /**
+     * 지원서 목록 페이지 조회
+     */
+    public ApplicationPageResponseDto search(Long jobPostingId, ApplicationStatus status,
+                                             Double minScore, Double maxScore,
+                                             LocalDateTime submittedFrom, LocalDateTime submittedTo,
+                                             Long after, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("limit은 1 이상 " + maxLimit + " 이하여야 합니다.");
+        }
+        if (minScore != null && maxScore != null && minScore > maxScore) {
+            throw new IllegalArgumentException("minScore는 maxScore보다 클 수 없습니다.");
+        }
+        if (submittedFrom != null && submittedTo != null && submittedFrom.isAfter(submittedTo)) {
+            throw new IllegalArgumentException("submittedFrom은 submittedTo보다 늦을 수 없습니다.");
+        }
+
+        StringBuilder jpql = new StringBuilder(ApplicationRepository.SUMMARY_SELECT + " WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+        if (jobPostingId != null) {
+            jpql.append(" AND a.jobPosting.id = :jobPostingId");
+            parameters.put("jobPostingId", jobPostingId);
+        }
+        if (status != null) {
+            jpql.append(" AND a.status = :status");
+            parameters.put("status", status);
+        }
+        if (minScore != null) {
+            jpql.append(" AND a.finalScore >= :minScore");
+            parameters.put("minScore", minScore);
+        }
+        if (maxScore != null) {
+            jpql.append(" AND a.finalScore <= :maxScore");
+            parameters.put("maxScore", maxScore);
+        }
+        if (submittedFrom != null) {
+            jpql.append(" AND a.submittedAt >= :submittedFrom");
+            parameters.put("submittedFrom", submittedFrom);
+        }
+        if (submittedTo != null) {
+            jpql.append(" AND a.submittedAt < :submittedTo");
+            parameters.put("submittedTo", submittedTo);
+        }
+        if (after != null) {
+            jpql.append(" AND a.id < :after");
+            parameters.put("after", after);
+        }
+        jpql.append(" ORDER BY a.id DESC");
+
+        TypedQuery<ApplicationSummaryDto> query = entityManager.createQuery(jpql.toString(), ApplicationSummaryDto.class);
+        parameters.forEach(query::setParameter);
+        // 다음 페이지가 있는지 알기 위해 하나 더 읽음
+        List<ApplicationSummaryDto> rows = query.setMaxResults(limit + 1).getResultList();
+
+        boolean hasNext = rows.size() > limit;
+        List<ApplicationSummaryDto> page = hasNext ? rows.subList(0, limit) : rows;
+        return ApplicationPageResponseDto.builder()
+                .items(page)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+}
@@ -1,38 +1,30 @@
 package com.jangyeonguk.backend.service;
 
 import com.jangyeonguk.backend.domain.application.*;
-import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestion;
 import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionAnswer;
-import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionCriterion;
-import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionCriterionDetail;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationEventType;
 import com.jangyeonguk.backend.domain.evaluation.EvaluationResult;
 import com.jangyeonguk.backend.domain.jobposting.JobPosting;
-import com.jangyeonguk.backend.domain.jobposting.PostingStatus;
-import com.jangyeonguk.backend.domain.resume.ResumeItem;
 import com.jangyeonguk.backend.domain.resume.ResumeItemAnswer;
-import com.jangyeonguk.backend.domain.resume.ResumeItemCriterion;
 import com.jangyeonguk.backend.dto.application.ApplicationCreateRequestDto;
 import com.jangyeonguk.backend.dto.application.ApplicationResponseDto;
+import com.jangyeonguk.backend.dto.application.ApplicationSummaryDto;
 import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
 import com.jangyeonguk.backend.dto.evaluation.EvaluationResultResponseDto;
 import com.jangyeonguk.backend.repository.*;
+import com.jangyeonguk.backend.exception.DuplicateApplicationException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
-import org.springframework.scheduling.annotation.Async;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import jakarta.annotation.PostConstruct;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -45,506 +37,139 @@ import java.util.stream.Collectors;
 public class ApplicationService {
 
     private final ApplicationRepository applicationRepository;
-    private final ApplicantRepository applicantRepository;
     private final JobPostingRepository jobPostingRepository;
-    private final ResumeItemRepository resumeItemRepository;
-    private final CoverLetterQuestionRepository coverLetterQuestionRepository;
     private final ResumeItemAnswerRepository resumeItemAnswerRepository;
     private final CoverLetterQuestionAnswerRepository coverLetterQuestionAnswerRepository;
     private final EvaluationResultRepository evaluationResultRepository;
+    private final ApplicationWriter applicationWriter;
+    private final EvaluationResultWriter evaluationResultWriter;
+    private final ApplicationLeaderboard applicationLeaderboard;
+    private final EvaluationEventPublisher evaluationEventPublisher;
+    private final EvaluationViewCache evaluationViewCache;
+    private final EvaluationCriteriaCache evaluationCriteriaCache;
+    private final IdempotencyCache idempotencyCache;
+    private final JobPostingStatsService jobPostingStatsService;
 
-    @Value("${fastapi.base-url:http://localhost:8000}")
-    private String fastApiBaseUrl;
-
-    private RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
-    
-    @PostConstruct
-    public void initRestTemplate() {
-        this.restTemplate = new RestTemplate();
-        
-        // 기존 MessageConverter 제거
-        this.restTemplate.getMessageConverters().clear();
-        
-        // camelCase 설정된 ObjectMapper로 새로운 MessageConverter 생성
-        ObjectMapper camelCaseMapper = new ObjectMapper();
-        camelCaseMapper.setPropertyNamingStrategy(PropertyNamingStrategies.LOWER_CAMEL_CASE);
-        
-        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
-        converter.setObjectMapper(camelCaseMapper);
-        
-        // 기본 MessageConverter들 추가
-        this.restTemplate.getMessageConverters().add(new org.springframework.http.converter.StringHttpMessageConverter());
-        this.restTemplate.getMessageConverters().add(converter);
-        this.restTemplate.getMessageConverters().add(new org.springframework.http.converter.FormHttpMessageConverter());
-    }
 
     /**
      * 지원서 제출
+     * 같은 공고에 이미 제출한 지원자면 새로 저장하지 않고 기존 지원서를 반환한다 (평가도 다시 요청하지 않음).
+     * Idempotency-Key가 있으면 커밋 후 응답을 캐시해 재전송은 DB를 거치지 않고 응답한다.
      */
     @Transactional
-    public ApplicationResponseDto submitApplication(Long jobPostingId, ApplicationCreateRequestDto request) {
+    public ApplicationResponseDto submitApplication(Long jobPostingId, ApplicationCreateRequestDto request, String idempotencyKey) {
         // 채용공고 조회
         JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId));
 
-        // 지원자 조회 또는 생성
-        Applicant applicant = applicantRepository.findByEmail(request.getApplicantEmail())
-                .orElseGet(() -> {
-                    Applicant newApplicant = new Applicant();
-                    newApplicant.setName(request.getApplicantName());
-                    newApplicant.setEmail(request.getApplicantEmail());
-                    return applicantRepository.save(newApplicant);
-                });
-
-        // 지원서 생성
-        Application application = new Application();
-        application.setStatus(ApplicationStatus.BEFORE_EVALUATION);
-        application.setApplicant(applicant);
-        application.setJobPosting(jobPosting);
-
-        Application savedApplication = applicationRepository.save(application);
-
-        // 이력서 항목 답변 저장
-        if (request.getResumeItemAnswers() != null) {
-            request.getResumeItemAnswers().forEach(answerDto -> {
-                ResumeItem resumeItem = resumeItemRepository.findById(answerDto.getResumeItemId())
-                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이력서 항목입니다: " + answerDto.getResumeItemId()));
-
-                ResumeItemAnswer answer = new ResumeItemAnswer();
-                answer.setResumeContent(answerDto.getResumeContent());
-                answer.setApplication(savedApplication);
-                answer.setResumeItem(resumeItem);
-                resumeItemAnswerRepository.save(answer);
-            });
-        }
-
-        // 자기소개서 질문 답변 저장
-        if (request.getCoverLetterQuestionAnswers() != null) {
-            request.getCoverLetterQuestionAnswers().forEach(answerDto -> {
-                CoverLetterQuestion question = coverLetterQuestionRepository.findById(answerDto.getCoverLetterQuestionId())
-                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 자기소개서 질문입니다: " + answerDto.getCoverLetterQuestionId()));
-
-                CoverLetterQuestionAnswer answer = new CoverLetterQuestionAnswer();
-                answer.setAnswerContent(answerDto.getAnswerContent());
-                answer.setApplication(savedApplication);
-                answer.setCoverLetterQuestion(question);
-
-                coverLetterQuestionAnswerRepository.save(answer);
-            });
+        Optional<Application> existing = request.getApplicantEmail() != null
+                ? applicationRepository.findByApplicantEmailAndJobPostingId(request.getApplicantEmail(), jobPostingId)
+                : Optional.empty();
+        if (existing.isPresent()) {
+            log.info("중복 지원서 제출 - 기존 지원서 반환 - 공고 ID: {}, Application ID: {}", jobPostingId, existing.get().getId());
+            ApplicationResponseDto response = ApplicationResponseDto.from(existing.get());
+            cacheAfterCommit(jobPostingId, idempotencyKey, request.getApplicantEmail(), response);
+            return response;
         }
 
-        // FastAPI에 지원서 데이터 전송 (비동기)
+        // 지원서와 답변 저장 (평가 요청은 같은 트랜잭션에서 아웃박스에 기록되어 커밋 후 전송됨)
+        // 동시에 들어온 같은 지원자의 제출은 유니크 제약에 걸리므로 여기서 flush해 중복 제출로 구분한다.
+        Application savedApplication;
         try {
-            log.info("지원서 데이터를 FastAPI로 전송 시작 - Application ID: {}", savedApplication.getId());
-
-            Map<String, Object> applicationData = createApplicationDataForFastApi(savedApplication, request);
-            processApplicationAsync(savedApplication.getId(), applicationData);
-
-        } catch (Exception e) {
-            log.error("FastAPI 연동 실패 - Application ID: {}", savedApplication.getId(), e);
-            // FastAPI 연동 실패는 로그만 남기고 사용자에게는 성공으로 처리
+            savedApplication = applicationWriter.write(
+                    jobPosting, request, applicationWriter.loadAnswerTargets(jobPostingId));
+            applicationRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (!violates(e, Application.APPLICANT_JOB_POSTING_UNIQUE)) {
+                throw e;
+            }
+            log.warn("동시 중복 지원서 제출 - 공고 ID: {}, 지원자: {}", jobPostingId, request.getApplicantEmail());
+            throw new DuplicateApplicationException("이미 제출된 지원서가 있습니다. 다시 제출하면 기존 지원서가 조회됩니다.", e);
         }
 
-        return ApplicationResponseDto.from(savedApplication);
+        ApplicationResponseDto response = ApplicationResponseDto.from(savedApplication);
+        cacheAfterCommit(jobPostingId, idempotencyKey, request.getApplicantEmail(), response);
+        return response;
     }
 
     /**
-     * FastAPI로 보낼 지원서 데이터 생성
+     * Idempotency-Key로 이전 제출 응답 조회 (캐시에 있으면 DB를 거치지 않음)
      */
-    private Map<String, Object> createApplicationDataForFastApi(Application application, ApplicationCreateRequestDto request) {
-        Map<String, Object> data = new HashMap<>();
-
-        // 지원자 정보
-        data.put("applicantId", application.getApplicant().getId());
-        data.put("applicantName", application.getApplicant().getName());
-        data.put("applicantEmail", application.getApplicant().getEmail());
-
-        // 지원서 정보
-        data.put("applicationId", application.getId());
-        data.put("jobPostingId", application.getJobPosting().getId());
-
-        // 이력서 답변 정보
-        if (request.getResumeItemAnswers() != null) {
-            data.put("resumeItemAnswers", request.getResumeItemAnswers().stream()
-                    .map(answer -> {
-                        Map<String, Object> answerData = new HashMap<>();
-                        answerData.put("resumeItemId", answer.getResumeItemId());
-                        answerData.put("resumeItemName", answer.getResumeItemName());
-                        answerData.put("resumeContent", answer.getResumeContent());
-                        return answerData;
-                    })
-                    .collect(Collectors.toList()));
-        }
-
-        // 자기소개서 답변 정보
-        if (request.getCoverLetterQuestionAnswers() != null) {
-            data.put("coverLetterQuestionAnswers", request.getCoverLetterQuestionAnswers().stream()
-                    .map(answer -> {
-                        Map<String, Object> answerData = new HashMap<>();
-                        answerData.put("coverLetterQuestionId", answer.getCoverLetterQuestionId());
-                        answerData.put("questionContent", answer.getQuestionContent());
-                        answerData.put("answerContent", answer.getAnswerContent());
-                        return answerData;
-                    })
-                    .collect(Collectors.toList()));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ApplicationResponseDto> findIdempotentResponse(Long jobPostingId, String idempotencyKey, String applicantEmail) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return Optional.empty();
         }
-
-        // 생성된 데이터 로깅
-        try {
-            String jsonData = objectMapper.writeValueAsString(data);
-            log.info("=== FASTAPI로 보낼 지원서 데이터 ===");
-            log.info("Application ID: {}", application.getId());
-            log.info("Applicant: {} ({})", application.getApplicant().getName(), application.getApplicant().getEmail());
-            log.info("Job Posting ID: {}", application.getJobPosting().getId());
-            log.info("JSON Data: {}", jsonData);
-            log.info("=== FASTAPI 데이터 끝 ===");
-        } catch (Exception e) {
-            log.error("FASTAPI 데이터 로깅 실패: {}", e.getMessage());
-        }
-
-        return data;
+        return idempotencyCache.get(jobPostingId, idempotencyKey, applicantEmail);
     }
 
     /**
-     * 평가 기준 정보 생성
+     * 커밋이 성공한 경우에만 응답을 캐시 (롤백된 지원서가 재전송 응답으로 나가지 않도록)
      */
-    private Map<String, Object> createEvaluationCriteria(JobPosting jobPosting) {
-        Map<String, Object> criteria = new HashMap<>();
-        
-        // 기본 평가 기준
-        criteria.put("totalScore", jobPosting.getTotalScore());
-        criteria.put("resumeScoreWeight", jobPosting.getResumeScoreWeight());
-        criteria.put("coverLetterScoreWeight", jobPosting.getCoverLetterScoreWeight());
-        criteria.put("passingScore", jobPosting.getPassingScore());
-        
-        // 이력서 평가 기준
-        List<Map<String, Object>> resumeCriteria = new ArrayList<>();
-        if (jobPosting.getResumeItems() != null) {
-            for (ResumeItem resumeItem : jobPosting.getResumeItems()) {
-                Map<String, Object> itemCriteria = new HashMap<>();
-                itemCriteria.put("resumeItemId", resumeItem.getId());
-                itemCriteria.put("resumeItemName", resumeItem.getName());
-                itemCriteria.put("resumeItemType", resumeItem.getType().toString());
-                itemCriteria.put("isRequired", resumeItem.getIsRequired());
-                itemCriteria.put("maxScore", resumeItem.getMaxScore());
-                
-                // 이력서 항목별 평가 기준
-                if (resumeItem.getCriteria() != null) {
-                    List<Map<String, Object>> itemCriterionList = new ArrayList<>();
-                    for (ResumeItemCriterion criterion : resumeItem.getCriteria()) {
-                        Map<String, Object> criterionData = new HashMap<>();
-                        criterionData.put("grade", criterion.getGrade().toString());
-                        criterionData.put("description", criterion.getDescription());
-                        criterionData.put("scorePerGrade", criterion.getScorePerGrade());
-                        itemCriterionList.add(criterionData);
-                    }
-                    itemCriteria.put("criteria", itemCriterionList);
-                }
-                
-                resumeCriteria.add(itemCriteria);
-            }
-        }
-        criteria.put("resumeCriteria", resumeCriteria);
-        
-        // 자기소개서 평가 기준
-        List<Map<String, Object>> coverLetterCriteria = new ArrayList<>();
-        if (jobPosting.getCoverLetterQuestions() != null) {
-            for (CoverLetterQuestion question : jobPosting.getCoverLetterQuestions()) {
-                Map<String, Object> questionCriteria = new HashMap<>();
-                questionCriteria.put("coverLetterQuestionId", question.getId());
-                questionCriteria.put("questionContent", question.getContent());
-                questionCriteria.put("isRequired", question.getIsRequired());
-                questionCriteria.put("maxCharacters", question.getMaxCharacters());
-                
-                // 자기소개서 질문별 평가 기준
-                if (question.getCriteria() != null) {
-                    List<Map<String, Object>> questionCriterionList = new ArrayList<>();
-                    for (CoverLetterQuestionCriterion criterion : question.getCriteria()) {
-                        Map<String, Object> criterionData = new HashMap<>();
-                        criterionData.put("criteriaName", criterion.getName());
-                        criterionData.put("overallDescription", criterion.getOverallDescription());
-                        
-                        // 세부 기준 (등급별 정보)
-                        if (criterion.getDetails() != null) {
-                            List<Map<String, Object>> detailList = new ArrayList<>();
-                            for (CoverLetterQuestionCriterionDetail detail : criterion.getDetails()) {
-                                Map<String, Object> detailData = new HashMap<>();
-                                detailData.put("grade", detail.getGrade().toString());
-                                detailData.put("description", detail.getDescription());
-                                detailData.put("scorePerGrade", detail.getScorePerGrade());
-                                detailList.add(detailData);
-                            }
-                            criterionData.put("details", detailList);
-                        }
-                        
-                        questionCriterionList.add(criterionData);
-                    }
-                    questionCriteria.put("criteria", questionCriterionList);
-                }
-                
-                coverLetterCriteria.add(questionCriteria);
-            }
+    private void cacheAfterCommit(Long jobPostingId, String idempotencyKey, String applicantEmail, ApplicationResponseDto response) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return;
         }
-        criteria.put("coverLetterCriteria", coverLetterCriteria);
-        
-        return criteria;
-    }
-
-    /**
-     * 지원서 처리 (비동기)
-     */
-    @Async
-    public CompletableFuture<Void> processApplicationAsync(Long applicationId, Map<String, Object> applicationData) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                log.info("지원서 처리 시작 - Application ID: {}", applicationId);
-
-                // FastAPI에 데이터 전송
-                String fastApiResponse = sendApplicationDataToFastApi(applicationData);
-
-                log.info("지원서 처리 완료 - Application ID: {}, Response: {}", applicationId, fastApiResponse);
-
-                // 기업에게 알림 전송 (현재 비활성화)
-                // sendNotificationToCompany(applicationId, applicationData);
-
-            } catch (Exception e) {
-                log.error("지원서 처리 실패 - Application ID: {}", applicationId, e);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idempotencyCache.put(jobPostingId, idempotencyKey, applicantEmail, response);
             }
         });
     }
 
     /**
-     * FastAPI에 지원서 데이터 전송
+     * 무결성 제약 위반이 지정한 제약 때문인지 확인 (DB마다 제약 이름 표기가 달라 대소문자 무시 포함 검사)
      */
-    private String sendApplicationDataToFastApi(Map<String, Object> applicationData) {
-        try {
-            String url = fastApiBaseUrl + "/api/applications/submit";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // 전송할 데이터 로깅
-            log.info("FastAPI로 전송할 데이터: {}", objectMapper.writeValueAsString(applicationData));
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(applicationData, headers);
-
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-
-            // 응답 데이터 로깅
-            log.info("=== FASTAPI 응답 데이터 ===");
-            log.info("Status Code: {}", response.getStatusCode());
-            log.info("Response Body: {}", response.getBody());
-            log.info("=== FASTAPI 응답 끝 ===");
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                return response.getBody();
-            } else {
-                throw new RuntimeException("FastAPI 응답 오류: " + response.getStatusCode());
+    private static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
             }
-
-        } catch (Exception e) {
-            log.error("FastAPI 통신 실패", e);
-            throw new RuntimeException("FastAPI 통신 실패: " + e.getMessage());
         }
+        return false;
     }
 
     /**
-     * 평가 결과 처리
+     * 평가 결과 처리 (지원서 ID로 바로 조회, 콜백당 쿼리 수 일정)
      */
     @Transactional
     public void processEvaluationResult(EvaluationResultDto evaluationResult) {
         try {
-            log.info("평가 결과 처리 시작 - 지원자: {}, 공고 ID: {}",
-                    evaluationResult.getApplicantName(), evaluationResult.getJobPostingId());
+            log.info("평가 결과 처리 시작 - Application ID: {}, 공고 ID: {}, 이력서 평가: {}건, 자기소개서 평가: {}건",
+                    evaluationResult.getApplicationId(), evaluationResult.getJobPostingId(),
+                    evaluationResult.getResumeEvaluations() != null ? evaluationResult.getResumeEvaluations().size() : 0,
+                    evaluationResult.getCoverLetterQuestionEvaluations() != null ? evaluationResult.getCoverLetterQuestionEvaluations().size() : 0);
 
             // 받은 평가 결과 데이터 로깅
-            try {
-                String evaluationJson = objectMapper.writeValueAsString(evaluationResult);
-                log.info("=== FASTAPI에서 받은 평가 결과 데이터 ===");
-                log.info("Applicant: {} ({})", evaluationResult.getApplicantName(), evaluationResult.getApplicantEmail());
-                log.info("Application ID: {}", evaluationResult.getApplicationId());
-                log.info("Job Posting ID: {}", evaluationResult.getJobPostingId());
-                log.info("Resume Evaluations Count: {}", evaluationResult.getResumeEvaluations() != null ? evaluationResult.getResumeEvaluations().size() : 0);
-                log.info("Cover Letter Evaluations Count: {}", evaluationResult.getCoverLetterQuestionEvaluations() != null ? evaluationResult.getCoverLetterQuestionEvaluations().size() : 0);
-                log.info("JSON Data: {}", evaluationJson);
-                log.info("=== 평가 결과 데이터 끝 ===");
-            } catch (Exception e) {
-                log.error("평가 결과 데이터 로깅 실패: {}", e.getMessage());
-            }
-
-            // 지원서 조회
-            Applicant applicant = applicantRepository.findAllByEmail(evaluationResult.getApplicantEmail()).stream().findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("지원자를 찾을 수 없습니다."));
-
-            List<Application> applications = applicationRepository.findByApplicant(applicant);
-            Application application = applications.get(applications.size() - 1);
-
-            // 지원서 상태 업데이트
-            application.setStatus(ApplicationStatus.IN_PROGRESS);
-            applicationRepository.save(application);
-
-            // 이력서 평가 결과에 maxScore 추가
-            List<Map<String, Object>> resumeEvaluationsWithMaxScore = new ArrayList<>();
-            if (evaluationResult.getResumeEvaluations() != null) {
-                for (EvaluationResultDto.ResumeEvaluationDto resumeEval : evaluationResult.getResumeEvaluations()) {
-                    Map<String, Object> resumeEvalMap = new HashMap<>();
-                    resumeEvalMap.put("resumeItemId", resumeEval.getResumeItemId());
-                    resumeEvalMap.put("resumeItemName", resumeEval.getResumeItemName());
-                    resumeEvalMap.put("resumeContent", resumeEval.getResumeContent());
-                    resumeEvalMap.put("score", resumeEval.getScore());
-                    
-                    // ResumeItem에서 maxScore 조회 (maxScore가 0이어도 진행)
-                    Optional<ResumeItem> resumeItem = resumeItemRepository.findById(resumeEval.getResumeItemId());
-                    Integer maxScore = resumeItem.map(ResumeItem::getMaxScore).orElse(10);
-                    resumeEvalMap.put("maxScore", maxScore);
-                    
-                    log.info("ResumeItem 조회 - ID: {}, Name: {}, MaxScore: {}, Score: {}", 
-                            resumeEval.getResumeItemId(), 
-                            resumeEval.getResumeItemName(), 
-                            maxScore, 
-                            resumeEval.getScore());
-                    
-                    resumeEvaluationsWithMaxScore.add(resumeEvalMap);
-                }
-            }
-
-            // ResumeItemAnswer에 평가 점수 저장
-            if (evaluationResult.getResumeEvaluations() != null) {
-                for (EvaluationResultDto.ResumeEvaluationDto resumeEval : evaluationResult.getResumeEvaluations()) {
-                    // ResumeItemAnswer 조회 및 업데이트
-                    List<ResumeItemAnswer> resumeAnswers = resumeItemAnswerRepository.findByApplicationIdAndResumeItemId(
-                            application.getId(), resumeEval.getResumeItemId());
-                    
-                    if (!resumeAnswers.isEmpty()) {
-                        ResumeItemAnswer resumeAnswer = resumeAnswers.get(0);
-                        resumeAnswer.setResumeScore(resumeEval.getScore());
-                        resumeItemAnswerRepository.save(resumeAnswer);
-                        
-                        log.info("ResumeItemAnswer 점수 저장 - Application ID: {}, ResumeItem ID: {}, Score: {}", 
-                                application.getId(), resumeEval.getResumeItemId(), resumeEval.getScore());
-                    }
-                }
-            }
-
-            // CoverLetterQuestionAnswer에 평가 결과 저장
-            if (evaluationResult.getCoverLetterQuestionEvaluations() != null) {
-                for (EvaluationResultDto.CoverLetterQuestionEvaluationDto coverEval : evaluationResult.getCoverLetterQuestionEvaluations()) {
-                    // CoverLetterQuestionAnswer 조회 및 업데이트
-                    List<CoverLetterQuestionAnswer> coverAnswers = coverLetterQuestionAnswerRepository.findByApplicationIdAndCoverLetterQuestionId(
-                            application.getId(), coverEval.getCoverLetterQuestionId());
-                    
-                    if (!coverAnswers.isEmpty()) {
-                        CoverLetterQuestionAnswer coverAnswer = coverAnswers.get(0);
-                        
-                        // 요약 저장
-                        if (coverEval.getSummary() != null) {
-                            coverAnswer.setAnswerSummary(coverEval.getSummary());
-                        }
-                        
-                        // 키워드 저장 (JSON 형태로)
-                        if (coverEval.getKeywords() != null && !coverEval.getKeywords().isEmpty()) {
-                            try {
-                                String keywordsJson = objectMapper.writeValueAsString(coverEval.getKeywords());
-                                coverAnswer.setAnswerKeywords(keywordsJson);
-                            } catch (Exception e) {
-                                log.error("키워드 JSON 변환 실패: {}", e.getMessage());
-                            }
-                        }
-                        
-                        // 정성 평가 저장 (JSON 형태로)
-                        if (coverEval.getAnswerEvaluations() != null && !coverEval.getAnswerEvaluations().isEmpty()) {
-                            try {
-                                String evaluationsJson = objectMapper.writeValueAsString(coverEval.getAnswerEvaluations());
-                                coverAnswer.setAnswerQualitativeEvaluation(evaluationsJson);
-                            } catch (Exception e) {
-                                log.error("정성 평가 JSON 변환 실패: {}", e.getMessage());
-                            }
-                        }
-                        
-                        coverLetterQuestionAnswerRepository.save(coverAnswer);
-                        
-                        log.info("CoverLetterQuestionAnswer 평가 결과 저장 - Application ID: {}, Question ID: {}, Summary: {}", 
-                                application.getId(), coverEval.getCoverLetterQuestionId(), coverEval.getSummary());
-                    }
+            if (log.isDebugEnabled()) {
+                try {
+                    log.debug("FASTAPI에서 받은 평가 결과 데이터 - JSON Data: {}", objectMapper.writeValueAsString(evaluationResult));
+                } catch (Exception e) {
+                    log.error("평가 결과 데이터 로깅 실패: {}", e.getMessage());
                 }
             }
 
-            // 평가 결과 저장
-            EvaluationResult evaluationResultEntity = EvaluationResult.builder()
-                    .application(application)
-                    .applicantName(evaluationResult.getApplicantName())
-                    .applicantEmail(evaluationResult.getApplicantEmail())
-                    .jobPostingId(evaluationResult.getJobPostingId())
-                    .totalScore(calculateTotalScore(evaluationResult))
-                    .resumeScores(objectMapper.writeValueAsString(resumeEvaluationsWithMaxScore))
-                    .coverLetterScores(objectMapper.writeValueAsString(evaluationResult.getCoverLetterQuestionEvaluations()))
-                    .overallEvaluation(objectMapper.writeValueAsString(evaluationResult.getOverallAnalysis()))
-                    .evaluationCompletedAt(LocalDateTime.now())
-                    .build();
-
-            evaluationResultRepository.save(evaluationResultEntity);
+            Application application = evaluationResultWriter.resolveApplication(evaluationResult);
+            EvaluationResult savedResult = evaluationResultWriter.write(application, evaluationResult,
+                    evaluationResultWriter.loadMaxScores(application.getJobPosting().getId()));
 
-            log.info("평가 결과 처리 완료 - 지원자: {}, 총점: {}",
-                    evaluationResult.getApplicantName(), calculateTotalScore(evaluationResult));
+            log.info("평가 결과 처리 완료 - Application ID: {}, 총점: {}", application.getId(), savedResult.getTotalScore());
 
         } catch (Exception e) {
-            log.error("평가 결과 처리 실패 - 지원자: {}, 공고 ID: {}",
-                    evaluationResult.getApplicantName(), evaluationResult.getJobPostingId(), e);
+            log.error("평가 결과 처리 실패 - Application ID: {}, 공고 ID: {}",
+                    evaluationResult.getApplicationId(), evaluationResult.getJobPostingId(), e);
             throw new RuntimeException("평가 결과 처리에 실패했습니다: " + e.getMessage());
         }
     }
 
-    /**
-     * 총점 계산 (실제 받은 점수의 합계)
-     */
-    private Integer calculateTotalScore(EvaluationResultDto evaluationResult) {
-        int totalScore = 0;
-        
-        // 이력서 항목별 실제 점수 합계
-        if (evaluationResult.getResumeEvaluations() != null) {
-            for (EvaluationResultDto.ResumeEvaluationDto resumeEval : evaluationResult.getResumeEvaluations()) {
-                // ResumeItem에서 maxScore 조회하여 실제 점수 사용
-                Optional<ResumeItem> resumeItem = resumeItemRepository.findById(resumeEval.getResumeItemId());
-                Integer maxScore = resumeItem.map(ResumeItem::getMaxScore).orElse(10);
-                
-                // maxScore가 0이어도 점수 추가 (0점도 유효한 점수)
-                totalScore += resumeEval.getScore() != null ? resumeEval.getScore() : 0;
-                
-                log.info("총점 계산 - ResumeItem ID: {}, Score: {}, MaxScore: {}, Total: {}", 
-                        resumeEval.getResumeItemId(), 
-                        resumeEval.getScore(), 
-                        maxScore, 
-                        totalScore);
-            }
-        }
-        
-        // 자기소개서는 현재 점수 계산 로직이 없으므로 0으로 처리
-        // 필요시 추후 구현
-        
-        log.info("최종 총점: {}", totalScore);
-        return totalScore;
-    }
-
-
-    /**
-     * 모든 지원서 조회
-     */
-    public List<ApplicationResponseDto> getApplications() {
-        List<Application> applications = applicationRepository.findAll();
-        return applications.stream()
-                .map(ApplicationResponseDto::from)
-                .collect(Collectors.toList());
-    }
 
     /**
      * 공고별 지원서 조회
      */
-    public List<ApplicationResponseDto> getApplicationsByJobPosting(Long jobPostingId) {
-        List<Application> applications = applicationRepository.findByJobPostingId(jobPostingId);
-        return applications.stream()
-                .map(ApplicationResponseDto::from)
-                .collect(Collectors.toList());
+    public List<ApplicationSummaryDto> getApplicationsByJobPosting(Long jobPostingId) {
+        return applicationRepository.findSummariesByJobPostingId(jobPostingId);
     }
 
     /**
@@ -564,8 +189,8 @@ public class ApplicationService {
         // 자기소개서 답변 조회
         List<CoverLetterQuestionAnswer> coverLetterAnswers = coverLetterQuestionAnswerRepository.findByApplicationId(applicationId);
 
-        // 평가 결과 조회 (이미 저장된 것)
-        Optional<EvaluationResult> evaluationResult = evaluationResultRepository.findByApplicationId(applicationId);
+        // 평가 결과 조회 (캐시에 없을 때만 DB에서 조립)
+        Optional<EvaluationViewCache.EvaluationView> evaluationView = evaluationViewCache.get(applicationId);
 
         Map<String, Object> response = new HashMap<>();
         response.put("application", ApplicationResponseDto.from(application));
@@ -586,14 +211,14 @@ public class ApplicationService {
         )).collect(Collectors.toList()));
 
         // 평가 결과가 있으면 포함
-        if (evaluationResult.isPresent()) {
+        if (evaluationView.isPresent()) {
             try {
-                EvaluationResult evalResult = evaluationResult.get();
+                EvaluationDetailStore.EvaluationDetails details = evaluationView.get().getDetails();
                 Map<String, Object> evaluationData = new HashMap<>();
-                evaluationData.put("total_score", evalResult.getTotalScore());
-                evaluationData.put("resume_scores", objectMapper.readValue(evalResult.getResumeScores(), List.class));
-                evaluationData.put("cover_letter_scores", objectMapper.readValue(evalResult.getCoverLetterScores(), List.class));
-                evaluationData.put("overall_evaluation", objectMapper.readValue(evalResult.getOverallEvaluation(), Map.class));
+                evaluationData.put("total_score", evaluationView.get().getResult().getTotalScore());
+                evaluationData.put("resume_scores", details.getResumeScores());
+                evaluationData.put("cover_letter_scores", details.getCoverLetterScores());
+                evaluationData.put("overall_evaluation", details.getOverallEvaluation());
 
                 response.put("evaluationResult", evaluationData);
             } catch (Exception e) {
@@ -608,165 +233,28 @@ public class ApplicationService {
     }
 
     /**
-     * 공고별 지원서 통계 조회
+     * 공고별 지원서 통계 조회 (공고별 집계 테이블에서 조회, 짧게 캐시)
      */
     public Map<String, Object> getApplicationStatisticsByJobPosting() {
-        // 모든 채용공고 조회
-        List<JobPosting> jobPostings = jobPostingRepository.findAll();
-        
-        // 전체 통계 변수 (모집완료, 모집중 공고만)
-        long totalApplications = 0;
-        long totalCompletedEvaluations = 0;
-        
-        // 공고별 통계 리스트
-        List<Map<String, Object>> jobPostingStats = new ArrayList<>();
-        
-        for (JobPosting jobPosting : jobPostings) {
-            // 해당 공고의 지원서 수
-            long jobPostingApplications = applicationRepository.countByJobPostingId(jobPosting.getId());
-            
-            // 해당 공고의 평가 완료된 지원서 수 (합격/탈락 상태만)
-            long jobPostingCompletedEvaluations = applicationRepository.countByJobPostingIdAndStatusIn(
-                jobPosting.getId(), 
-                Arrays.asList(ApplicationStatus.ACCEPTED, ApplicationStatus.REJECTED)
-            );
-            
-            // 해당 공고의 평가 대기 중인 지원서 수
-            long jobPostingPendingEvaluations = jobPostingApplications - jobPostingCompletedEvaluations;
-            
-            // 해당 공고의 평가 완료율
-            double jobPostingCompletionRate = jobPostingApplications > 0 ? 
-                Math.round((double) jobPostingCompletedEvaluations / jobPostingApplications * 100 * 100) / 100.0 : 0.0;
-            
-            // 공고별 통계 정보
-            Map<String, Object> jobPostingStat = new HashMap<>();
-            jobPostingStat.put("jobPostingId", jobPosting.getId());
-            jobPostingStat.put("jobPostingTitle", jobPosting.getTitle());
-            jobPostingStat.put("totalApplications", jobPostingApplications);
-            jobPostingStat.put("completedEvaluations", jobPostingCompletedEvaluations);
-            jobPostingStat.put("pendingEvaluations", jobPostingPendingEvaluations);
-            jobPostingStat.put("completionRate", jobPostingCompletionRate);
-            jobPostingStat.put("postingStatus", jobPosting.getPostingStatus());
-            
-            jobPostingStats.add(jobPostingStat);
-            
-            // 모집완료(CLOSED)와 모집중(IN_PROGRESS) 공고만 전체 통계에 누적
-            if (jobPosting.getPostingStatus() == PostingStatus.CLOSED ||
-                jobPosting.getPostingStatus() == PostingStatus.IN_PROGRESS) {
-                totalApplications += jobPostingApplications;
-                totalCompletedEvaluations += jobPostingCompletedEvaluations;
-            }
-        }
-        
-        // 전체 평가 대기 중인 지원서 수
-        long totalPendingEvaluations = totalApplications - totalCompletedEvaluations;
-        
-        // 전체 평가 완료율
-        double totalCompletionRate = totalApplications > 0 ? 
-            Math.round((double) totalCompletedEvaluations / totalApplications * 100 * 100) / 100.0 : 0.0;
-        
-        Map<String, Object> statistics = new HashMap<>();
-        statistics.put("totalApplications", totalApplications);
-        statistics.put("totalCompletedEvaluations", totalCompletedEvaluations);
-        statistics.put("totalPendingEvaluations", totalPendingEvaluations);
-        statistics.put("totalCompletionRate", totalCompletionRate);
-        statistics.put("jobPostingStatistics", jobPostingStats);
-        
-        log.info("공고별 지원서 통계 조회 - 모집완료/모집중 공고 전체: {}, 완료: {}, 대기: {}, 완료율: {}%", 
-                totalApplications, totalCompletedEvaluations, totalPendingEvaluations, totalCompletionRate);
-        
+        Map<String, Object> statistics = jobPostingStatsService.getStatistics();
+
+        log.info("공고별 지원서 통계 조회 - 모집완료/모집중 공고 전체: {}, 완료: {}, 대기: {}, 완료율: {}%",
+                statistics.get("totalApplications"), statistics.get("totalCompletedEvaluations"),
+                statistics.get("totalPendingEvaluations"), statistics.get("totalCompletionRate"));
+
         return statistics;
     }
 
     /**
-     * 공고별 평가 기준 조회
+     * 공고별 평가 기준 조회 (공고별 평가 기준 스냅샷에서 반환)
      */
     public Map<String, Object> getEvaluationCriteria(Long jobPostingId) {
-        // 채용공고 조회
-        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId));
-
-        Map<String, Object> criteria = new HashMap<>();
-        
-        // 기본 정보
-        criteria.put("jobPostingId", jobPosting.getId());
-        criteria.put("jobPostingTitle", jobPosting.getTitle());
-        criteria.put("totalScore", jobPosting.getTotalScore());
-        criteria.put("resumeScoreWeight", jobPosting.getResumeScoreWeight());
-        criteria.put("coverLetterScoreWeight", jobPosting.getCoverLetterScoreWeight());
-        criteria.put("passingScore", jobPosting.getPassingScore());
-
-        // 이력서 평가 기준
-        List<Map<String, Object>> resumeCriteria = new ArrayList<>();
-        if (jobPosting.getResumeItems() != null) {
-            for (ResumeItem resumeItem : jobPosting.getResumeItems()) {
-                Map<String, Object> resumeItemData = new HashMap<>();
-                resumeItemData.put("id", resumeItem.getId());
-                resumeItemData.put("name", resumeItem.getName());
-                resumeItemData.put("type", resumeItem.getType());
-                resumeItemData.put("isRequired", resumeItem.getIsRequired());
-                resumeItemData.put("maxScore", resumeItem.getMaxScore());
-
-                // 이력서 항목별 평가 기준
-                List<Map<String, Object>> itemCriteria = new ArrayList<>();
-                if (resumeItem.getCriteria() != null) {
-                    for (ResumeItemCriterion criterion : resumeItem.getCriteria()) {
-                        Map<String, Object> criterionData = new HashMap<>();
-                        criterionData.put("grade", criterion.getGrade());
-                        criterionData.put("description", criterion.getDescription());
-                        criterionData.put("scorePerGrade", criterion.getScorePerGrade());
-                        itemCriteria.add(criterionData);
-                    }
-                }
-                resumeItemData.put("criteria", itemCriteria);
-                resumeCriteria.add(resumeItemData);
-            }
-        }
-        criteria.put("resumeCriteria", resumeCriteria);
+        EvaluationCriteriaCache.Snapshot snapshot = evaluationCriteriaCache.get(jobPostingId);
 
-        // 자기소개서 평가 기준
-        List<Map<String, Object>> coverLetterCriteria = new ArrayList<>();
-        if (jobPosting.getCoverLetterQuestions() != null) {
-            for (CoverLetterQuestion question : jobPosting.getCoverLetterQuestions()) {
-                Map<String, Object> questionData = new HashMap<>();
-                questionData.put("id", question.getId());
-                questionData.put("content", question.getContent());
-                questionData.put("isRequired", question.getIsRequired());
-                questionData.put("maxCharacters", question.getMaxCharacters());
+        log.info("공고별 평가 기준 조회 완료 - 공고 ID: {}, 버전: {}, 이력서 항목: {}개, 자기소개서 질문: {}개",
+                jobPostingId, snapshot.getVersion(), snapshot.getResumeItemCount(), snapshot.getCoverLetterQuestionCount());
 
-                // 자기소개서 질문별 평가 기준
-                List<Map<String, Object>> questionCriteria = new ArrayList<>();
-                if (question.getCriteria() != null) {
-                    for (CoverLetterQuestionCriterion criterion : question.getCriteria()) {
-                        Map<String, Object> criterionData = new HashMap<>();
-                        criterionData.put("name", criterion.getName());
-                        criterionData.put("overallDescription", criterion.getOverallDescription());
-                        
-                        // 평가 기준 세부사항
-                        List<Map<String, Object>> criterionDetails = new ArrayList<>();
-                        if (criterion.getDetails() != null) {
-                            for (CoverLetterQuestionCriterionDetail detail : criterion.getDetails()) {
-                                Map<String, Object> detailData = new HashMap<>();
-                                detailData.put("grade", detail.getGrade());
-                                detailData.put("description", detail.getDescription());
-                                detailData.put("scorePerGrade", detail.getScorePerGrade());
-                                criterionDetails.add(detailData);
-                            }
-                        }
-                        criterionData.put("details", criterionDetails);
-                        questionCriteria.add(criterionData);
-                    }
-                }
-                questionData.put("criteria", questionCriteria);
-                coverLetterCriteria.add(questionData);
-            }
-        }
-        criteria.put("coverLetterCriteria", coverLetterCriteria);
-
-        log.info("공고별 평가 기준 조회 완료 - 공고 ID: {}, 이력서 항목: {}개, 자기소개서 질문: {}개", 
-                jobPostingId, resumeCriteria.size(), coverLetterCriteria.size());
-
-        return criteria;
+        return snapshot.getCriteria();
     }
 
     /**
@@ -783,12 +271,16 @@ public class ApplicationService {
         // 평가 상태 저장
         try {
             ApplicationStatus applicationStatus = ApplicationStatus.valueOf(status);
+            jobPostingStatsService.statusChanged(application.getJobPosting().getId(), application.getStatus(), applicationStatus);
             application.setStatus(applicationStatus);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("유효하지 않은 평가 상태입니다: " + status);
         }
 
         applicationRepository.save(application);
+        applicationLeaderboard.statusChanged(application.getJobPosting().getId(), applicationId, application.getStatus());
+        evaluationViewCache.invalidateAfterCommit(applicationId);
+        evaluationEventPublisher.publishAfterCommit(EvaluationEventType.STATUS_CHANGED, application);
 
         log.info("지원서 평가 저장 완료 - Application ID: {}, Status: {}", applicationId, status);
     }
@@ -809,87 +301,16 @@ public class ApplicationService {
             // 입력 데이터 검증
             validateEvaluationResultForAdmin(evaluationResult);
 
-            // 지원서 조회 (applicationId로 직접 조회)
-            Application application = null;
-            if (evaluationResult.getApplicationId() != null) {
-                application = applicationRepository.findById(evaluationResult.getApplicationId())
-                        .orElse(null);
-            }
-
-            // applicationId로 찾지 못한 경우 이메일로 지원자 조회
-            if (application == null) {
-                log.warn("Application ID {}로 지원서를 찾을 수 없음. 이메일로 재시도: {}", 
-                        evaluationResult.getApplicationId(), evaluationResult.getApplicantEmail());
-                
-                Applicant applicant = applicantRepository.findAllByEmail(evaluationResult.getApplicantEmail()).stream().findFirst()
-                        .orElseThrow(() -> new IllegalArgumentException("지원자를 찾을 수 없습니다: " + evaluationResult.getApplicantEmail()));
+            // 지원서 조회 (applicationId, 없으면 이메일과 공고 ID로 조회)
+            Application application = evaluationResultWriter.resolveApplication(evaluationResult);
 
-                List<Application> applications = applicationRepository.findByApplicant(applicant);
-                if (!applications.isEmpty()) {
-                    application = applications.get(applications.size() - 1); // 가장 최근 지원서
-                    log.info("이메일로 지원서 찾음: Application ID {}", application.getId());
-                }
-            }
-
-            if (application == null) {
-                throw new IllegalArgumentException("지원서를 찾을 수 없습니다. Application ID: " + 
-                        evaluationResult.getApplicationId() + ", Email: " + evaluationResult.getApplicantEmail());
-            }
-
-            // 지원서 상태 업데이트
-            application.setStatus(ApplicationStatus.IN_PROGRESS);
-            applicationRepository.save(application);
-
-            // 기존 평가 결과가 있는지 확인
-            Optional<EvaluationResult> existingResult = evaluationResultRepository.findByApplicationId(application.getId());
-            if (existingResult.isPresent()) {
-                log.warn("이미 평가 결과가 존재합니다. 기존 결과를 삭제하고 새로 저장합니다. Application ID: {}", application.getId());
-                evaluationResultRepository.delete(existingResult.get());
-            }
-
-            // 이력서 평가 결과에 maxScore 추가
-            List<Map<String, Object>> resumeEvaluationsWithMaxScore = new ArrayList<>();
-            if (evaluationResult.getResumeEvaluations() != null) {
-                for (EvaluationResultDto.ResumeEvaluationDto resumeEval : evaluationResult.getResumeEvaluations()) {
-                    Map<String, Object> resumeEvalMap = new HashMap<>();
-                    resumeEvalMap.put("resumeItemId", resumeEval.getResumeItemId());
-                    resumeEvalMap.put("resumeItemName", resumeEval.getResumeItemName());
-                    resumeEvalMap.put("resumeContent", resumeEval.getResumeContent());
-                    resumeEvalMap.put("score", resumeEval.getScore());
-                    
-                    // ResumeItem에서 maxScore 조회 (maxScore가 0이어도 진행)
-                    Optional<ResumeItem> resumeItem = resumeItemRepository.findById(resumeEval.getResumeItemId());
-                    Integer maxScore = resumeItem.map(ResumeItem::getMaxScore).orElse(10);
-                    resumeEvalMap.put("maxScore", maxScore);
-                    
-                    log.info("관리자용 ResumeItem 조회 - ID: {}, Name: {}, MaxScore: {}, Score: {}", 
-                            resumeEval.getResumeItemId(), 
-                            resumeEval.getResumeItemName(), 
-                            maxScore, 
-                            resumeEval.getScore());
-                    
-                    resumeEvaluationsWithMaxScore.add(resumeEvalMap);
-                }
-            }
-
-            // 평가 결과 저장
-            EvaluationResult evaluationResultEntity = EvaluationResult.builder()
-                    .application(application)
-                    .applicantName(evaluationResult.getApplicantName())
-                    .applicantEmail(evaluationResult.getApplicantEmail())
-                    .jobPostingId(evaluationResult.getJobPostingId())
-                    .totalScore(calculateTotalScore(evaluationResult))
-                    .resumeScores(objectMapper.writeValueAsString(resumeEvaluationsWithMaxScore))
-                    .coverLetterScores(objectMapper.writeValueAsString(evaluationResult.getCoverLetterQuestionEvaluations()))
-                    .overallEvaluation(objectMapper.writeValueAsString(evaluationResult.getOverallAnalysis()))
-                    .evaluationCompletedAt(LocalDateTime.now())
-                    .build();
-
-            EvaluationResult savedResult = evaluationResultRepository.save(evaluationResultEntity);
+            // 콜백과 같은 저장 경로 사용 (답변별 점수/자기소개서 평가, 가중 점수, 이력 버전, 통계 모두 반영)
+            EvaluationResult savedResult = evaluationResultWriter.write(application, evaluationResult,
+                    evaluationResultWriter.loadMaxScores(application.getJobPosting().getId()), true);
 
             log.info("=== 관리자용 평가 결과 처리 완료 ===");
-            log.info("저장된 평가 결과 ID: {}, 지원자: {}, 총점: {}", 
-                    savedResult.getId(), evaluationResult.getApplicantName(), calculateTotalScore(evaluationResult));
+            log.info("저장된 평가 결과 ID: {}, 버전: {}, 지원자: {}, 총점: {}", 
+                    savedResult.getId(), savedResult.getVersion(), evaluationResult.getApplicantName(), savedResult.getTotalScore());
 
         } catch (Exception e) {
             log.error("=== 관리자용 평가 결과 처리 실패 ===");
@@ -927,27 +348,18 @@ public class ApplicationService {
             Application application = applicationRepository.findById(applicationId)
                     .orElseThrow(() -> new IllegalArgumentException("지원서를 찾을 수 없습니다."));
             
-            // 평가 결과 조회
-            Optional<EvaluationResult> evaluationResultOpt = evaluationResultRepository.findByApplicationId(applicationId);
-            if (!evaluationResultOpt.isPresent()) {
-                throw new IllegalArgumentException("평가 결과를 찾을 수 없습니다.");
-            }
-            
-            EvaluationResult evaluationResult = evaluationResultOpt.get();
+            // 평가 결과 조회 (캐시에 없을 때만 DB에서 조립)
+            EvaluationViewCache.EvaluationView evaluationView = evaluationViewCache.get(applicationId)
+                    .orElseThrow(() -> new IllegalArgumentException("평가 결과를 찾을 수 없습니다."));
             
             // 실제 지원자의 자기소개서 답변 조회
             List<CoverLetterQuestionAnswer> coverLetterAnswers = coverLetterQuestionAnswerRepository.findByApplicationId(applicationId);
             
-            // 자기소개서 문항 평가 결과 파싱
+            // 자기소개서 문항 평가 결과 (정규화된 행에서 조립)
             List<Map<String, Object>> coverLetterQuestions = new ArrayList<>();
-            if (evaluationResult.getCoverLetterScores() != null) {
+            List<Map<String, Object>> coverLetterEvaluations = evaluationView.getDetails().getCoverLetterScores();
+            if (coverLetterEvaluations != null) {
                 try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    List<Map<String, Object>> coverLetterEvaluations = objectMapper.readValue(
-                            evaluationResult.getCoverLetterScores(), 
-                            new TypeReference<List<Map<String, Object>>>() {}
-                    );
-                    
                     for (Map<String, Object> evaluation : coverLetterEvaluations) {
                         Long coverLetterQuestionId = Long.valueOf(evaluation.get("coverLetterQuestionId").toString());
                         
@@ -1067,7 +479,7 @@ public class ApplicationService {
                 .orElseThrow(() -> new RuntimeException("지원서를 찾을 수 없습니다: " + applicationId));
             
             // EvaluationResult 조회
-            EvaluationResult evaluationResult = evaluationResultRepository.findByApplicationId(applicationId)
+            EvaluationResult evaluationResult = evaluationResultRepository.findCurrentByApplicationId(applicationId)
                 .orElseThrow(() -> new RuntimeException("평가 결과를 찾을 수 없습니다: " + applicationId));
             
             // DTO로 변환
@@ -1094,6 +506,18 @@ public class ApplicationService {
         }
     }
 
+    /**
+     * 지원서의 평가 결과 이력 조회 (최신 버전부터, 정리된 이전 버전은 제외)
+     */
+    public List<EvaluationResultResponseDto> getEvaluationResultHistory(Long applicationId) {
+        if (!applicationRepository.existsById(applicationId)) {
+            throw new IllegalArgumentException("지원서를 찾을 수 없습니다.");
+        }
+        return evaluationResultRepository.findByApplicationIdOrderByVersionDesc(applicationId).stream()
+                .map(EvaluationResultResponseDto::from)
+                .collect(Collectors.toList());
+    }
+
     /**
      * ApplicationId로 EvaluationResult 조회
      */
@@ -1101,20 +525,19 @@ public class ApplicationService {
         try {
             log.info("ApplicationId로 EvaluationResult 조회 시작 - Application ID: {}", applicationId);
             
-            // ApplicationId로 EvaluationResult 조회
-            Optional<EvaluationResult> evaluationResultOpt = evaluationResultRepository.findByApplicationId(applicationId);
+            // ApplicationId로 EvaluationResult 조회 (캐시에 없을 때만 DB 조회)
+            Optional<EvaluationViewCache.EvaluationView> evaluationView = evaluationViewCache.get(applicationId);
             
-            if (evaluationResultOpt.isEmpty()) {
+            if (evaluationView.isEmpty()) {
                 log.warn("EvaluationResult를 찾을 수 없음 - Application ID: {}", applicationId);
                 throw new IllegalArgumentException("해당 지원서의 평가 결과를 찾을 수 없습니다: " + applicationId);
             }
             
-            EvaluationResult evaluationResult = evaluationResultOpt.get();
+            EvaluationResultResponseDto evaluationResult = evaluationView.get().getResult();
             log.info("EvaluationResult 조회 성공 - Application ID: {}, EvaluationResult ID: {}", 
                     applicationId, evaluationResult.getId());
             
-            // DTO로 변환하여 반환
-            return EvaluationResultResponseDto.from(evaluationResult);
+            return evaluationResult;
             
         } catch (Exception e) {
             log.error("ApplicationId로 EvaluationResult 조회 실패 - Application ID: {}, Error: {}", 
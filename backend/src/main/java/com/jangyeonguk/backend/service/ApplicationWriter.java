@@ -0,0 +1,193 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Applicant;
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestion;
+import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionAnswer;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationEventType;
+import com.jangyeonguk.backend.domain.jobposting.JobPosting;
+import com.jangyeonguk.backend.domain.resume.ResumeItem;
+import com.jangyeonguk.backend.domain.resume.ResumeItemAnswer;
+import com.jangyeonguk.backend.dto.application.ApplicationCreateRequestDto;
+import com.jangyeonguk.backend.repository.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 지원서 저장 컴포넌트 (단건 제출과 대량 가져오기에서 공통 사용)
+ * 트랜잭션은 호출하는 쪽에서 관리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationWriter {
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicantRepository applicantRepository;
+    private final ResumeItemRepository resumeItemRepository;
+    private final CoverLetterQuestionRepository coverLetterQuestionRepository;
+    private final ResumeItemAnswerRepository resumeItemAnswerRepository;
+    private final CoverLetterQuestionAnswerRepository coverLetterQuestionAnswerRepository;
+    private final EvaluationOutboxService evaluationOutboxService;
+    private final EvaluationEventPublisher evaluationEventPublisher;
+    private final JobPostingStatsService jobPostingStatsService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 공고의 이력서 항목/자기소개서 질문을 한 번에 조회 (답변 수와 무관하게 쿼리 수 고정)
+     */
+    public AnswerTargets loadAnswerTargets(Long jobPostingId) {
+        Map<Long, ResumeItem> resumeItemsById = resumeItemRepository.findByJobPostingId(jobPostingId).stream()
+                .collect(Collectors.toMap(ResumeItem::getId, Function.identity()));
+        Map<Long, CoverLetterQuestion> questionsById = coverLetterQuestionRepository.findByJobPostingId(jobPostingId).stream()
+                .collect(Collectors.toMap(CoverLetterQuestion::getId, Function.identity()));
+        return new AnswerTargets(resumeItemsById, questionsById);
+    }
+
+    /**
+     * 지원서와 답변 저장, 평가 요청을 같은 트랜잭션에서 아웃박스에 기록
+     * 잘못된 입력은 아무것도 저장하기 전에 IllegalArgumentException으로 거절한다.
+     */
+    public Application write(JobPosting jobPosting, ApplicationCreateRequestDto request, AnswerTargets targets) {
+        if (request.getApplicantEmail() == null || request.getApplicantEmail().trim().isEmpty()) {
+            throw new IllegalArgumentException("지원자 이메일이 필요합니다.");
+        }
+        if (request.getApplicantName() == null || request.getApplicantName().trim().isEmpty()) {
+            throw new IllegalArgumentException("지원자 이름이 필요합니다.");
+        }
+
+        // 지원서 생성
+        Application application = new Application();
+        application.setStatus(ApplicationStatus.BEFORE_EVALUATION);
+        application.setJobPosting(jobPosting);
+
+        // 이력서 항목 답변 생성
+        List<ResumeItemAnswer> resumeAnswers = new ArrayList<>();
+        if (request.getResumeItemAnswers() != null) {
+            for (ApplicationCreateRequestDto.ResumeItemAnswerDto answerDto : request.getResumeItemAnswers()) {
+                ResumeItem resumeItem = targets.getResumeItems().get(answerDto.getResumeItemId());
+                if (resumeItem == null) {
+                    throw new IllegalArgumentException("존재하지 않는 이력서 항목입니다: " + answerDto.getResumeItemId());
+                }
+
+                ResumeItemAnswer answer = new ResumeItemAnswer();
+                answer.setResumeContent(answerDto.getResumeContent());
+                answer.setApplication(application);
+                answer.setResumeItem(resumeItem);
+                resumeAnswers.add(answer);
+            }
+        }
+
+        // 자기소개서 질문 답변 생성
+        List<CoverLetterQuestionAnswer> coverLetterAnswers = new ArrayList<>();
+        if (request.getCoverLetterQuestionAnswers() != null) {
+            for (ApplicationCreateRequestDto.CoverLetterQuestionAnswerDto answerDto : request.getCoverLetterQuestionAnswers()) {
+                CoverLetterQuestion question = targets.getCoverLetterQuestions().get(answerDto.getCoverLetterQuestionId());
+                if (question == null) {
+                    throw new IllegalArgumentException("존재하지 않는 자기소개서 질문입니다: " + answerDto.getCoverLetterQuestionId());
+                }
+
+                CoverLetterQuestionAnswer answer = new CoverLetterQuestionAnswer();
+                answer.setAnswerContent(answerDto.getAnswerContent());
+                answer.setApplication(application);
+                answer.setCoverLetterQuestion(question);
+                coverLetterAnswers.add(answer);
+            }
+        }
+
+        // 지원자 조회 또는 생성
+        Applicant applicant = applicantRepository.findByEmail(request.getApplicantEmail())
+                .orElseGet(() -> {
+                    Applicant newApplicant = new Applicant();
+                    newApplicant.setName(request.getApplicantName());
+                    newApplicant.setEmail(request.getApplicantEmail());
+                    return applicantRepository.save(newApplicant);
+                });
+        application.setApplicant(applicant);
+
+        // 시퀀스 기반 ID라 persist 시점에는 INSERT가 나가지 않고, flush 시 JDBC 배치로 묶여 전송됨
+        Application savedApplication = applicationRepository.save(application);
+        resumeItemAnswerRepository.saveAll(resumeAnswers);
+        coverLetterQuestionAnswerRepository.saveAll(coverLetterAnswers);
+
+        // 커밋된 지원서만 평가 요청이 전송되도록 아웃박스에 기록
+        evaluationOutboxService.enqueue(savedApplication, createApplicationDataForFastApi(savedApplication, request));
+        evaluationEventPublisher.publishAfterCommit(EvaluationEventType.APPLICATION_SUBMITTED, savedApplication);
+        jobPostingStatsService.applicationSubmitted(jobPosting.getId());
+
+        return savedApplication;
+    }
+
+    /**
+     * FastAPI로 보낼 지원서 데이터 생성
+     */
+    public Map<String, Object> createApplicationDataForFastApi(Application application, ApplicationCreateRequestDto request) {
+        Map<String, Object> data = new HashMap<>();
+
+        // 지원자 정보
+        data.put("applicantId", application.getApplicant().getId());
+        data.put("applicantName", application.getApplicant().getName());
+        data.put("applicantEmail", application.getApplicant().getEmail());
+
+        // 지원서 정보 (applicationId는 평가 결과 콜백에서 그대로 돌려받는 상관관계 키)
+        data.put("applicationId", application.getId());
+        data.put("jobPostingId", application.getJobPosting().getId());
+
+        // 이력서 답변 정보
+        if (request.getResumeItemAnswers() != null) {
+            data.put("resumeItemAnswers", request.getResumeItemAnswers().stream()
+                    .map(answer -> {
+                        Map<String, Object> answerData = new HashMap<>();
+                        answerData.put("resumeItemId", answer.getResumeItemId());
+                        answerData.put("resumeItemName", answer.getResumeItemName());
+                        answerData.put("resumeContent", answer.getResumeContent());
+                        return answerData;
+                    })
+                    .collect(Collectors.toList()));
+        }
+
+        // 자기소개서 답변 정보
+        if (request.getCoverLetterQuestionAnswers() != null) {
+            data.put("coverLetterQuestionAnswers", request.getCoverLetterQuestionAnswers().stream()
+                    .map(answer -> {
+                        Map<String, Object> answerData = new HashMap<>();
+                        answerData.put("coverLetterQuestionId", answer.getCoverLetterQuestionId());
+                        answerData.put("questionContent", answer.getQuestionContent());
+                        answerData.put("answerContent", answer.getAnswerContent());
+                        return answerData;
+                    })
+                    .collect(Collectors.toList()));
+        }
+
+        // 생성된 데이터 로깅
+        if (log.isDebugEnabled()) {
+            try {
+                log.debug("FASTAPI로 보낼 지원서 데이터 - Application ID: {}, JSON Data: {}",
+                        application.getId(), objectMapper.writeValueAsString(data));
+            } catch (Exception e) {
+                log.error("FASTAPI 데이터 로깅 실패: {}", e.getMessage());
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * 공고별 답변 대상 (ID -> 엔티티)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AnswerTargets {
+        private final Map<Long, ResumeItem> resumeItems;
+        private final Map<Long, CoverLetterQuestion> coverLetterQuestions;
+    }
+}
@@ -0,0 +1,92 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.exception.EvaluatorUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 평가 기준 학습 디스패처
+ * 학습대기 공고를 주기적으로 가져와 FastAPI에 학습을 요청하고 결과를 공고의 학습 상태에 기록한다.
+ * 학습은 오래 걸리므로 가상 스레드에서 실행하고, 동시 학습 요청 수는 세마포어로 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CriteriaTrainingDispatcher {
+
+    private final CriteriaTrainingService criteriaTrainingService;
+    private final EvaluatorClient evaluatorClient;
+    private final EvaluatorCircuitBreaker evaluatorCircuitBreaker;
+
+    @Value("${criteria.training.max-concurrency:4}")
+    private int maxConcurrency;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 끝나지 않은 학습은 학습중 상태로 남고, stale-after-seconds 이후 다시 요청된다
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 학습대기 공고의 평가 기준 학습 요청
+     */
+    @Scheduled(fixedDelayString = "${criteria.training.poll-interval-ms:2000}")
+    public void dispatchPending() {
+        if (executor.isShutdown() || !evaluatorCircuitBreaker.isCallPermitted()) {
+            return;
+        }
+        int capacity = permits.availablePermits();
+        if (capacity == 0) {
+            return;
+        }
+
+        List<CriteriaTrainingService.ClaimedTraining> claimed = criteriaTrainingService.claimBatch(capacity);
+        for (CriteriaTrainingService.ClaimedTraining training : claimed) {
+            permits.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    train(training);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    private void train(CriteriaTrainingService.ClaimedTraining training) {
+        try {
+            log.info("평가 기준 학습 시작 - JobPosting ID: {}", training.getJobPostingId());
+
+            String fastApiResponse = evaluatorClient.trainEvaluationCriteria(training.getEvaluationData());
+            criteriaTrainingService.markReady(training.getJobPostingId());
+
+            log.info("평가 기준 학습 완료 - JobPosting ID: {}, Response: {}", training.getJobPostingId(), fastApiResponse);
+        } catch (EvaluatorUnavailableException e) {
+            criteriaTrainingService.release(training.getJobPostingId());
+            log.info("평가 서버 차단기 열림으로 학습 요청 보류 - JobPosting ID: {}", training.getJobPostingId());
+        } catch (Exception e) {
+            log.error("평가 기준 학습 실패 - JobPosting ID: {}", training.getJobPostingId(), e);
+            criteriaTrainingService.markFailed(training.getJobPostingId(), e.getMessage());
+        }
+    }
+}
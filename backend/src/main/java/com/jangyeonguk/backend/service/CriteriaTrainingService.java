@@ -0,0 +1,175 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.jobposting.JobPosting;
+import com.jangyeonguk.backend.domain.jobposting.TrainingStatus;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 평가 기준 학습 상태 관리 Service
+ * 공고 등록 트랜잭션에서는 학습대기로만 기록하고, 실제 학습 요청은 CriteriaTrainingDispatcher가 트랜잭션 밖에서 보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class CriteriaTrainingService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final JobPostingRepository jobPostingRepository;
+    private final EvaluationCriteriaCache evaluationCriteriaCache;
+
+    @Value("${criteria.training.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${criteria.training.initial-backoff-ms:10000}")
+    private long initialBackoffMs;
+
+    @Value("${criteria.training.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    @Value("${criteria.training.stale-after-seconds:1800}")
+    private long staleAfterSeconds;
+
+    /**
+     * 학습을 요청할 공고를 가져와 학습중으로 표시하고, 학습 요청 데이터를 만들어 반환
+     */
+    @Transactional
+    public List<ClaimedTraining> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<JobPosting> trainable = jobPostingRepository.findTrainable(
+                TrainingStatus.PENDING, TrainingStatus.TRAINING, now, now.minusSeconds(staleAfterSeconds),
+                PageRequest.of(0, limit));
+
+        return trainable.stream()
+                .map(jobPosting -> {
+                    if (jobPosting.getTrainingStatus() == TrainingStatus.TRAINING) {
+                        log.warn("학습중 상태로 남아 있던 공고 학습 재요청 - JobPosting ID: {}", jobPosting.getId());
+                    }
+                    jobPosting.setTrainingStatus(TrainingStatus.TRAINING);
+                    jobPosting.setTrainingStartedAt(now);
+                    return new ClaimedTraining(jobPosting.getId(),
+                            evaluationCriteriaCache.get(jobPosting.getId()).getEvaluationData());
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 학습 완료 처리
+     */
+    @Transactional
+    public void markReady(Long jobPostingId) {
+        jobPostingRepository.findById(jobPostingId).ifPresent(jobPosting -> {
+            jobPosting.setTrainingStatus(TrainingStatus.READY);
+            jobPosting.setTrainingAttempts(jobPosting.getTrainingAttempts() + 1);
+            jobPosting.setTrainedAt(LocalDateTime.now());
+            jobPosting.setTrainingError(null);
+        });
+    }
+
+    /**
+     * 학습 실패 처리 (지수 백오프로 재시도 예약, 최대 횟수 초과 시 실패 상태)
+     */
+    @Transactional
+    public void markFailed(Long jobPostingId, String error) {
+        jobPostingRepository.findById(jobPostingId).ifPresent(jobPosting -> {
+            int attempts = jobPosting.getTrainingAttempts() + 1;
+            jobPosting.setTrainingAttempts(attempts);
+            jobPosting.setTrainingError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+            if (attempts >= maxAttempts) {
+                jobPosting.setTrainingStatus(TrainingStatus.FAILED);
+                log.error("평가 기준 학습 최종 실패 - JobPosting ID: {}, 시도: {}회", jobPostingId, attempts);
+            } else {
+                jobPosting.setTrainingStatus(TrainingStatus.PENDING);
+                jobPosting.setTrainingNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+                log.warn("평가 기준 학습 실패, 재시도 예약 - JobPosting ID: {}, 시도: {}회, 다음 시도: {}",
+                        jobPostingId, attempts, jobPosting.getTrainingNextAttemptAt());
+            }
+        });
+    }
+
+    /**
+     * 학습 요청을 보내지 못한 공고를 학습대기로 되돌림 (시도 횟수는 그대로)
+     */
+    @Transactional
+    public void release(Long jobPostingId) {
+        jobPostingRepository.findById(jobPostingId)
+                .filter(jobPosting -> jobPosting.getTrainingStatus() == TrainingStatus.TRAINING)
+                .ifPresent(jobPosting -> {
+                    jobPosting.setTrainingStatus(TrainingStatus.PENDING);
+                    jobPosting.setTrainingStartedAt(null);
+                });
+    }
+
+    /**
+     * 평가 기준 재학습 요청 (학습 실패 후 복구 등)
+     */
+    @Transactional
+    public Map<String, Object> requestTraining(Long jobPostingId) {
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId));
+        if (jobPosting.getTrainingStatus() == TrainingStatus.TRAINING) {
+            throw new IllegalArgumentException("이미 평가 기준을 학습 중입니다: " + jobPostingId);
+        }
+
+        jobPosting.setTrainingStatus(TrainingStatus.PENDING);
+        jobPosting.setTrainingAttempts(0);
+        jobPosting.setTrainingNextAttemptAt(null);
+        jobPosting.setTrainingError(null);
+        log.info("평가 기준 재학습 요청 - JobPosting ID: {}", jobPostingId);
+        return toStatus(jobPosting);
+    }
+
+    /**
+     * 평가 기준 학습 상태 조회
+     */
+    public Map<String, Object> getTrainingStatus(Long jobPostingId) {
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId));
+        return toStatus(jobPosting);
+    }
+
+    private Map<String, Object> toStatus(JobPosting jobPosting) {
+        Map<String, Object> status = new HashMap<>();
+        status.put("jobPostingId", jobPosting.getId());
+        status.put("trainingStatus", jobPosting.getTrainingStatus());
+        status.put("trainingStatusDescription", jobPosting.getTrainingStatus().getDescription());
+        status.put("attempts", jobPosting.getTrainingAttempts());
+        status.put("nextAttemptAt", jobPosting.getTrainingNextAttemptAt());
+        status.put("startedAt", jobPosting.getTrainingStartedAt());
+        status.put("trainedAt", jobPosting.getTrainedAt());
+        status.put("lastError", jobPosting.getTrainingError());
+        return status;
+    }
+
+    private Duration backoff(int attempts) {
+        long delay = initialBackoffMs * (1L << Math.min(attempts - 1, 20));
+        return Duration.ofMillis(Math.min(delay, maxBackoffMs));
+    }
+
+    /**
+     * 디스패처가 가져간 학습 요청 (트랜잭션 밖에서 사용하는 스냅샷)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ClaimedTraining {
+        private final Long jobPostingId;
+        private final Map<String, Object> evaluationData;
+    }
+}
@@ -0,0 +1,256 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestion;
+import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionCriterion;
+import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionCriterionDetail;
+import com.jangyeonguk.backend.domain.jobposting.JobPosting;
+import com.jangyeonguk.backend.domain.resume.ResumeItem;
+import com.jangyeonguk.backend.domain.resume.ResumeItemCriterion;
+import com.jangyeonguk.backend.dto.coverletter.CoverLetterQuestionResponseDto;
+import com.jangyeonguk.backend.dto.jobposting.JobPostingResponseDto;
+import com.jangyeonguk.backend.dto.resume.ResumeItemResponseDto;
+import com.jangyeonguk.backend.repository.CoverLetterQuestionCriterionRepository;
+import com.jangyeonguk.backend.repository.CoverLetterQuestionRepository;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+import com.jangyeonguk.backend.repository.ResumeItemRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 공고별 평가 기준 스냅샷 캐시
+ * 이력서 항목/자기소개서 질문의 평가 기준 트리를 항목 수와 무관한 고정 쿼리로 한 번에 읽어 변경 불가능한 스냅샷으로 만들고,
+ * 평가 기준 조회 API와 평가 서버 학습 요청 데이터를 모두 이 스냅샷에서 내보낸다.
+ * 스냅샷에는 내용 해시(version)가 붙어 같은 기준인지 비교할 수 있으며, 공고가 수정되면 커밋 후 무효화된다.
+ * 트랜잭션은 호출하는 쪽에서 관리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationCriteriaCache {
+
+    private final JobPostingRepository jobPostingRepository;
+    private final ResumeItemRepository resumeItemRepository;
+    private final CoverLetterQuestionRepository coverLetterQuestionRepository;
+    private final CoverLetterQuestionCriterionRepository coverLetterQuestionCriterionRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong(); // 만드는 도중 무효화가 있었으면 캐시에 넣지 않음
+    private ObjectWriter canonicalWriter;
+
+    @PostConstruct
+    public void init() {
+        // 키 순서를 고정해 같은 내용이면 항상 같은 해시가 나오도록 함
+        this.canonicalWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * 공고의 평가 기준 스냅샷 조회 (없으면 DB에서 만들어 캐시에 저장)
+     */
+    public Snapshot get(Long jobPostingId) {
+        Snapshot cached = snapshots.get(jobPostingId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = invalidations.get();
+        Snapshot snapshot = build(jobPostingId);
+        if (stamp == invalidations.get()) {
+            snapshots.put(jobPostingId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 공고의 스냅샷 무효화 (현재 트랜잭션이 커밋된 뒤 제거)
+     */
+    public void invalidateAfterCommit(Long jobPostingId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(jobPostingId);
+                }
+            });
+        } else {
+            invalidate(jobPostingId);
+        }
+    }
+
+    public void invalidate(Long jobPostingId) {
+        invalidations.incrementAndGet();
+        snapshots.remove(jobPostingId);
+    }
+
+    private Snapshot build(Long jobPostingId) {
+        JobPosting jobPosting = jobPostingRepository.findWithCompanyById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId));
+
+        // 평가 기준 트리를 단계별로 한 번씩만 조회 (질문 -> 평가기준 -> 세부 기준은 같은 영속성 컨텍스트에서 채워짐)
+        List<ResumeItem> resumeItems = resumeItemRepository.findWithCriteriaByJobPostingId(jobPostingId);
+        List<CoverLetterQuestion> questions = coverLetterQuestionRepository.findWithCriteriaByJobPostingId(jobPostingId);
+        coverLetterQuestionCriterionRepository.findWithDetailsByJobPostingId(jobPostingId);
+
+        Map<String, Object> criteria = createCriteria(jobPosting, resumeItems, questions);
+        Map<String, Object> evaluationData = JobPostingResponseDto.builder()
+                .id(jobPosting.getId())
+                .title(jobPosting.getTitle())
+                .jobRole(jobPosting.getJobRole())
+                .companyName(jobPosting.getCompany().getName())
+                .totalScore(jobPosting.getTotalScore())
+                .resumeScoreWeight(jobPosting.getResumeScoreWeight())
+                .coverLetterScoreWeight(jobPosting.getCoverLetterScoreWeight())
+                .passingScore(jobPosting.getPassingScore())
+                .aiAutomaticEvaluation(jobPosting.getAiAutomaticEvaluation())
+                .resumeItems(resumeItems.stream().map(ResumeItemResponseDto::from).collect(Collectors.toList()))
+                .coverLetterQuestions(questions.stream().map(CoverLetterQuestionResponseDto::from).collect(Collectors.toList()))
+                .build()
+                .toFastApiEvaluationData();
+
+        String version = hash(criteria, evaluationData);
+        Map<String, Object> versionedCriteria = new HashMap<>(criteria);
+        versionedCriteria.put("criteriaVersion", version);
+        Map<String, Object> versionedEvaluationData = new HashMap<>(evaluationData);
+        versionedEvaluationData.put("criteriaVersion", version);
+
+        log.info("평가 기준 스냅샷 생성 - 공고 ID: {}, 버전: {}, 이력서 항목: {}개, 자기소개서 질문: {}개",
+                jobPostingId, version, resumeItems.size(), questions.size());
+
+        return new Snapshot(jobPostingId, version, resumeItems.size(), questions.size(),
+                freeze(versionedCriteria), freeze(versionedEvaluationData));
+    }
+
+    /**
+     * 평가 기준 조회 API 응답 생성
+     */
+    private Map<String, Object> createCriteria(JobPosting jobPosting, List<ResumeItem> resumeItems, List<CoverLetterQuestion> questions) {
+        Map<String, Object> criteria = new HashMap<>();
+
+        // 기본 정보
+        criteria.put("jobPostingId", jobPosting.getId());
+        criteria.put("jobPostingTitle", jobPosting.getTitle());
+        criteria.put("totalScore", jobPosting.getTotalScore());
+        criteria.put("resumeScoreWeight", jobPosting.getResumeScoreWeight());
+        criteria.put("coverLetterScoreWeight", jobPosting.getCoverLetterScoreWeight());
+        criteria.put("passingScore", jobPosting.getPassingScore());
+
+        // 이력서 평가 기준
+        List<Map<String, Object>> resumeCriteria = new ArrayList<>();
+        for (ResumeItem resumeItem : resumeItems) {
+            Map<String, Object> resumeItemData = new HashMap<>();
+            resumeItemData.put("id", resumeItem.getId());
+            resumeItemData.put("name", resumeItem.getName());
+            resumeItemData.put("type", resumeItem.getType());
+            resumeItemData.put("isRequired", resumeItem.getIsRequired());
+            resumeItemData.put("maxScore", resumeItem.getMaxScore());
+
+            List<Map<String, Object>> itemCriteria = new ArrayList<>();
+            for (ResumeItemCriterion criterion : resumeItem.getCriteria()) {
+                Map<String, Object> criterionData = new HashMap<>();
+                criterionData.put("grade", criterion.getGrade());
+                criterionData.put("description", criterion.getDescription());
+                criterionData.put("scorePerGrade", criterion.getScorePerGrade());
+                itemCriteria.add(criterionData);
+            }
+            resumeItemData.put("criteria", itemCriteria);
+            resumeCriteria.add(resumeItemData);
+        }
+        criteria.put("resumeCriteria", resumeCriteria);
+
+        // 자기소개서 평가 기준
+        List<Map<String, Object>> coverLetterCriteria = new ArrayList<>();
+        for (CoverLetterQuestion question : questions) {
+            Map<String, Object> questionData = new HashMap<>();
+            questionData.put("id", question.getId());
+            questionData.put("content", question.getContent());
+            questionData.put("isRequired", question.getIsRequired());
+            questionData.put("maxCharacters", question.getMaxCharacters());
+
+            List<Map<String, Object>> questionCriteria = new ArrayList<>();
+            for (CoverLetterQuestionCriterion criterion : question.getCriteria()) {
+                Map<String, Object> criterionData = new HashMap<>();
+                criterionData.put("name", criterion.getName());
+                criterionData.put("overallDescription", criterion.getOverallDescription());
+
+                List<Map<String, Object>> criterionDetails = new ArrayList<>();
+                for (CoverLetterQuestionCriterionDetail detail : criterion.getDetails()) {
+                    Map<String, Object> detailData = new HashMap<>();
+                    detailData.put("grade", detail.getGrade());
+                    detailData.put("description", detail.getDescription());
+                    detailData.put("scorePerGrade", detail.getScorePerGrade());
+                    criterionDetails.add(detailData);
+                }
+                criterionData.put("details", criterionDetails);
+                questionCriteria.add(criterionData);
+            }
+            questionData.put("criteria", questionCriteria);
+            coverLetterCriteria.add(questionData);
+        }
+        criteria.put("coverLetterCriteria", coverLetterCriteria);
+
+        return criteria;
+    }
+
+    /**
+     * 스냅샷 내용 해시 (SHA-256 앞 16자리)
+     */
+    private String hash(Map<String, Object> criteria, Map<String, Object> evaluationData) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(canonicalWriter.writeValueAsBytes(criteria));
+            digest.update(canonicalWriter.writeValueAsBytes(evaluationData));
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("평가 기준 스냅샷 해시 계산에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 중첩된 Map/List를 모두 읽기 전용으로 감쌈 (스냅샷은 여러 요청이 공유)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T freeze(T value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, item) -> copy.put(key, freeze(item)));
+            return (T) Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(freeze(item)));
+            return (T) Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    /**
+     * 공고 하나의 평가 기준 스냅샷
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final Long jobPostingId;
+        private final String version; // 내용 해시 (기준이 같으면 같은 값)
+        private final int resumeItemCount;
+        private final int coverLetterQuestionCount;
+        private final Map<String, Object> criteria; // 평가 기준 조회 API 응답
+        private final Map<String, Object> evaluationData; // 평가 서버 학습 요청 데이터
+    }
+}
@@ -0,0 +1,90 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationResult;
+import com.jangyeonguk.backend.repository.EvaluationResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 기존 평가 결과 정규화 이전 작업
+ * JSON 컬럼에만 저장된 평가 결과를 조금씩 가져와 항목 점수/기준별 등급/코멘트 행으로 옮긴다.
+ * 이전되기 전까지 조회는 JSON 컬럼을 파싱해 응답하므로 서비스 중에도 진행할 수 있다.
+ * 이전하면서 지원서의 가중 점수/합격 여부도 계산해 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationDetailMigrator {
+
+    private final EvaluationResultRepository evaluationResultRepository;
+    private final EvaluationDetailStore evaluationDetailStore;
+    private final ApplicationScoreCalculator applicationScoreCalculator;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${evaluation.normalization.enabled:true}")
+    private boolean enabled;
+
+    @Value("${evaluation.normalization.batch-size:100}")
+    private int batchSize;
+
+    private volatile long lastFailedId = 0; // 파싱할 수 없는 행은 재시작 전까지 건너뜀
+    private volatile boolean completed;
+
+    /**
+     * 이전되지 않은 평가 결과 한 묶음 처리
+     */
+    @Scheduled(fixedDelayString = "${evaluation.normalization.poll-interval-ms:5000}")
+    public void migrateBatch() {
+        if (!enabled || completed) {
+            return;
+        }
+
+        int[] migrated = {0};
+        Integer claimed = new TransactionTemplate(transactionManager).execute(status -> {
+            List<EvaluationResult> results = evaluationResultRepository.findUnnormalized(lastFailedId, PageRequest.of(0, batchSize));
+            for (EvaluationResult result : results) {
+                EvaluationDetailStore.LegacyEvaluation legacy;
+                try {
+                    legacy = evaluationDetailStore.readLegacy(result);
+                } catch (IOException e) {
+                    log.error("평가 결과 정규화 실패 - JSON 파싱 불가, EvaluationResult ID: {}, 오류: {}", result.getId(), e.getMessage());
+                    lastFailedId = Math.max(lastFailedId, result.getId());
+                    continue;
+                }
+                // 이미 정규화됐다가 다시 이전 대상으로 표시된 결과(V11)도 있으므로 기존 행을 지우고 다시 만듦
+                evaluationDetailStore.replace(result, legacy.getResumeEvaluations(), legacy.getMaxScores(),
+                        legacy.getCoverEvaluations(), legacy.getOverallAnalysis(), true);
+                // 현재 평가 결과면 기존 지원서의 가중 점수/합격 여부도 함께 채움 (이전 버전은 점수에 반영하지 않음)
+                Application application = result.getApplication();
+                if (application.getCurrentEvaluationResultId() == null) {
+                    application.setCurrentEvaluationResultId(result.getId()); // 버전 도입 전 결과 (지원서당 하나)
+                }
+                if (result.getId().equals(application.getCurrentEvaluationResultId())) {
+                    applicationScoreCalculator.apply(application, legacy.getResumeEvaluations(),
+                            legacy.getMaxScores(), legacy.getCoverEvaluations());
+                }
+                migrated[0]++;
+            }
+            return results.size();
+        });
+
+        if (migrated[0] > 0) {
+            log.info("평가 결과 정규화 이전 - {}건 완료, 남은 건수: {}", migrated[0], evaluationResultRepository.countUnnormalized());
+        }
+        if (claimed == null || claimed == 0) {
+            // 새 평가 결과는 저장 시 바로 정규화되므로 남은 행이 없으면 더 이상 조회하지 않음
+            completed = true;
+            log.info("평가 결과 정규화 이전 완료 - 파싱 불가로 건너뛴 마지막 ID: {}", lastFailedId);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.evaluation.*;
+import com.jangyeonguk.backend.domain.resume.Grade;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
+import com.jangyeonguk.backend.repository.EvaluationCriterionGradeRepository;
+import com.jangyeonguk.backend.repository.EvaluationItemScoreRepository;
+import com.jangyeonguk.backend.repository.EvaluationRemarkRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 정규화된 평가 상세 저장/조회 컴포넌트
+ * 항목별 점수, 자기소개서 기준별 등급, 강점/개선점/문항 키워드/요약을 행으로 저장하고,
+ * 조회 시에는 기존 JSON 컬럼과 같은 모양으로 조립해 화면이 JSON을 다시 파싱하지 않게 한다.
+ * 트랜잭션은 호출하는 쪽에서 관리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationDetailStore {
+
+    private final EvaluationItemScoreRepository evaluationItemScoreRepository;
+    private final EvaluationCriterionGradeRepository evaluationCriterionGradeRepository;
+    private final EvaluationRemarkRepository evaluationRemarkRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 평가 결과의 상세 행을 새 평가 내용으로 교체 (평가 결과는 이미 저장되어 ID가 있어야 함)
+     * existingRows가 true면 기존 행을 먼저 지운다. 방금 저장한 새 버전만 false로 호출한다
+     * (normalized 표시는 마이그레이션에서 다시 FALSE로 돌릴 수 있어 기존 행 유무를 판단하는 데 쓰지 않음).
+     */
+    public void replace(EvaluationResult result,
+                        List<EvaluationResultDto.ResumeEvaluationDto> resumeEvaluations,
+                        Map<Long, Integer> maxScores,
+                        List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> coverEvaluations,
+                        EvaluationResultDto.OverallAnalysisDto overallAnalysis,
+                        boolean existingRows) {
+        Long resultId = result.getId();
+        if (existingRows) {
+            delete(resultId);
+        }
+
+        // 이력서 항목별 점수
+        List<EvaluationItemScore> itemScores = new ArrayList<>();
+        for (EvaluationResultDto.ResumeEvaluationDto resumeEval : resumeEvaluations != null ? resumeEvaluations : List.<EvaluationResultDto.ResumeEvaluationDto>of()) {
+            itemScores.add(EvaluationItemScore.builder()
+                    .evaluationResultId(resultId)
+                    .resumeItemId(resumeEval.getResumeItemId())
+                    .resumeItemName(resumeEval.getResumeItemName())
+                    .resumeContent(resumeEval.getResumeContent())
+                    .score(resumeEval.getScore())
+                    .maxScore(EvaluationResultWriter.resolveMaxScore(maxScores, resumeEval.getResumeItemId()))
+                    .position(itemScores.size())
+                    .build());
+        }
+
+        // 자기소개서 문항별 기준 등급, 키워드, 요약 (문항 순서를 position으로 보존)
+        List<EvaluationCriterionGrade> grades = new ArrayList<>();
+        List<EvaluationRemark> remarks = new ArrayList<>();
+        int position = 0;
+        for (EvaluationResultDto.CoverLetterQuestionEvaluationDto coverEval : coverEvaluations != null ? coverEvaluations : List.<EvaluationResultDto.CoverLetterQuestionEvaluationDto>of()) {
+            Long questionId = coverEval.getCoverLetterQuestionId();
+            if (coverEval.getSummary() != null) {
+                remarks.add(remark(resultId, RemarkType.SUMMARY, questionId, coverEval.getSummary(), position++));
+            }
+            for (String keyword : coverEval.getKeywords() != null ? coverEval.getKeywords() : List.<String>of()) {
+                remarks.add(remark(resultId, RemarkType.KEYWORD, questionId, keyword, position++));
+            }
+            for (EvaluationResultDto.CoverLetterAnswerEvaluationDto answerEval : coverEval.getAnswerEvaluations() != null ? coverEval.getAnswerEvaluations() : List.<EvaluationResultDto.CoverLetterAnswerEvaluationDto>of()) {
+                grades.add(EvaluationCriterionGrade.builder()
+                        .evaluationResultId(resultId)
+                        .coverLetterQuestionId(questionId)
+                        .criteriaName(answerEval.getEvaluationCriteriaName())
+                        .grade(parseGrade(answerEval.getGrade()))
+                        .evaluatedContent(answerEval.getEvaluatedContent())
+                        .evaluationReason(answerEval.getEvaluationReason())
+                        .position(position++)
+                        .build());
+            }
+        }
+
+        // 종합 분석 (추천/신뢰도는 검색/집계용 컬럼)
+        if (overallAnalysis != null) {
+            for (String strength : overallAnalysis.getStrengths() != null ? overallAnalysis.getStrengths() : List.<String>of()) {
+                remarks.add(remark(resultId, RemarkType.STRENGTH, null, strength, position++));
+            }
+            for (String improvement : overallAnalysis.getImprovements() != null ? overallAnalysis.getImprovements() : List.<String>of()) {
+                remarks.add(remark(resultId, RemarkType.IMPROVEMENT, null, improvement, position++));
+            }
+        }
+        result.setOverallComment(overallAnalysis != null ? overallAnalysis.getOverallEvaluation() : null);
+        result.setAiRecommendation(overallAnalysis != null ? overallAnalysis.getAiRecommendation() : null);
+        result.setAiReliability(overallAnalysis != null ? overallAnalysis.getAiReliability() : null);
+        result.setNormalized(true);
+
+        evaluationItemScoreRepository.saveAll(itemScores);
+        evaluationCriterionGradeRepository.saveAll(grades);
+        evaluationRemarkRepository.saveAll(remarks);
+    }
+
+    /**
+     * 평가 결과의 상세 행 삭제 (평가 결과를 지우기 전에 호출)
+     */
+    public void delete(Long evaluationResultId) {
+        evaluationItemScoreRepository.deleteByEvaluationResultId(evaluationResultId);
+        evaluationCriterionGradeRepository.deleteByEvaluationResultId(evaluationResultId);
+        evaluationRemarkRepository.deleteByEvaluationResultId(evaluationResultId);
+    }
+
+    /**
+     * 여러 평가 결과의 상세 행 삭제 (이전 버전 정리용)
+     */
+    public void delete(Collection<Long> evaluationResultIds) {
+        evaluationItemScoreRepository.deleteByEvaluationResultIdIn(evaluationResultIds);
+        evaluationCriterionGradeRepository.deleteByEvaluationResultIdIn(evaluationResultIds);
+        evaluationRemarkRepository.deleteByEvaluationResultIdIn(evaluationResultIds);
+    }
+
+    /**
+     * 평가 상세 조회 (기존 JSON 컬럼과 같은 모양)
+     * 아직 이전되지 않은 기존 결과는 JSON 컬럼을 파싱해서 반환한다.
+     */
+    public EvaluationDetails load(EvaluationResult result) {
+        if (!Boolean.TRUE.equals(result.getNormalized())) {
+            return parseLegacy(result);
+        }
+
+        List<Map<String, Object>> resumeScores = new ArrayList<>();
+        for (EvaluationItemScore itemScore : evaluationItemScoreRepository.findByEvaluationResultIdOrderByPositionAsc(result.getId())) {
+            Map<String, Object> resumeEvalMap = new HashMap<>();
+            resumeEvalMap.put("resumeItemId", itemScore.getResumeItemId());
+            resumeEvalMap.put("resumeItemName", itemScore.getResumeItemName());
+            resumeEvalMap.put("resumeContent", itemScore.getResumeContent());
+            resumeEvalMap.put("score", itemScore.getScore());
+            resumeEvalMap.put("maxScore", itemScore.getMaxScore());
+            resumeScores.add(resumeEvalMap);
+        }
+
+        // 문항 순서는 position 기준으로 처음 등장한 순서
+        List<EvaluationRemark> remarks = evaluationRemarkRepository.findByEvaluationResultIdOrderByPositionAsc(result.getId());
+        List<EvaluationCriterionGrade> grades = evaluationCriterionGradeRepository.findByEvaluationResultIdOrderByPositionAsc(result.getId());
+        TreeMap<Integer, Long> questionOrder = new TreeMap<>();
+        remarks.stream()
+                .filter(remark -> remark.getType() == RemarkType.SUMMARY || remark.getType() == RemarkType.KEYWORD)
+                .forEach(remark -> questionOrder.put(remark.getPosition(), remark.getCoverLetterQuestionId()));
+        grades.forEach(grade -> questionOrder.put(grade.getPosition(), grade.getCoverLetterQuestionId()));
+
+        Map<Long, Map<String, Object>> questions = new LinkedHashMap<>();
+        for (Long questionId : questionOrder.values()) {
+            questions.computeIfAbsent(questionId, id -> {
+                Map<String, Object> question = new HashMap<>();
+                question.put("coverLetterQuestionId", id);
+                question.put("summary", null);
+                question.put("keywords", new ArrayList<String>());
+                question.put("answerEvaluations", new ArrayList<Map<String, Object>>());
+                return question;
+            });
+        }
+
+        List<String> strengths = new ArrayList<>();
+        List<String> improvements = new ArrayList<>();
+        for (EvaluationRemark remark : remarks) {
+            switch (remark.getType()) {
+                case SUMMARY -> questions.get(remark.getCoverLetterQuestionId()).put("summary", remark.getContent());
+                case KEYWORD -> castList(questions.get(remark.getCoverLetterQuestionId()).get("keywords")).add(remark.getContent());
+                case STRENGTH -> strengths.add(remark.getContent());
+                case IMPROVEMENT -> improvements.add(remark.getContent());
+            }
+        }
+        for (EvaluationCriterionGrade grade : grades) {
+            Map<String, Object> answerEvaluation = new HashMap<>();
+            answerEvaluation.put("evaluationCriteriaName", grade.getCriteriaName());
+            answerEvaluation.put("grade", grade.getGrade() != null ? grade.getGrade().name() : null);
+            answerEvaluation.put("evaluatedContent", grade.getEvaluatedContent());
+            answerEvaluation.put("evaluationReason", grade.getEvaluationReason());
+            castList(questions.get(grade.getCoverLetterQuestionId()).get("answerEvaluations")).add(answerEvaluation);
+        }
+
+        Map<String, Object> overallEvaluation = new HashMap<>();
+        overallEvaluation.put("overallEvaluation", result.getOverallComment());
+        overallEvaluation.put("strengths", strengths);
+        overallEvaluation.put("improvements", improvements);
+        overallEvaluation.put("aiRecommendation", result.getAiRecommendation());
+        overallEvaluation.put("aiReliability", result.getAiReliability());
+
+        return new EvaluationDetails(resumeScores, new ArrayList<>(questions.values()), overallEvaluation);
+    }
+
+    /**
+     * JSON 컬럼에 저장된 기존 평가 결과를 DTO로 변환 (백그라운드 이전용)
+     */
+    public LegacyEvaluation readLegacy(EvaluationResult result) throws java.io.IOException {
+        List<Map<String, Object>> resumeScores = result.getResumeScores() != null
+                ? objectMapper.readValue(result.getResumeScores(), new TypeReference<List<Map<String, Object>>>() {})
+                : null;
+        List<EvaluationResultDto.ResumeEvaluationDto> resumeEvaluations = new ArrayList<>();
+        Map<Long, Integer> maxScores = new HashMap<>();
+        for (Map<String, Object> resumeScore : resumeScores != null ? resumeScores : List.<Map<String, Object>>of()) {
+            EvaluationResultDto.ResumeEvaluationDto resumeEval = objectMapper.convertValue(resumeScore, EvaluationResultDto.ResumeEvaluationDto.class);
+            resumeEvaluations.add(resumeEval);
+            if (resumeEval.getResumeItemId() != null && resumeScore.get("maxScore") instanceof Number maxScore) {
+                maxScores.put(resumeEval.getResumeItemId(), maxScore.intValue());
+            }
+        }
+
+        List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> coverEvaluations = result.getCoverLetterScores() != null
+                ? objectMapper.readValue(result.getCoverLetterScores(), new TypeReference<List<EvaluationResultDto.CoverLetterQuestionEvaluationDto>>() {})
+                : null;
+        EvaluationResultDto.OverallAnalysisDto overallAnalysis = result.getOverallEvaluation() != null
+                ? objectMapper.readValue(result.getOverallEvaluation(), EvaluationResultDto.OverallAnalysisDto.class)
+                : null;
+        return new LegacyEvaluation(resumeEvaluations, maxScores, coverEvaluations, overallAnalysis);
+    }
+
+    private EvaluationDetails parseLegacy(EvaluationResult result) {
+        try {
+            return new EvaluationDetails(
+                    result.getResumeScores() != null ? objectMapper.readValue(result.getResumeScores(), new TypeReference<List<Map<String, Object>>>() {}) : null,
+                    result.getCoverLetterScores() != null ? objectMapper.readValue(result.getCoverLetterScores(), new TypeReference<List<Map<String, Object>>>() {}) : null,
+                    result.getOverallEvaluation() != null ? objectMapper.readValue(result.getOverallEvaluation(), new TypeReference<Map<String, Object>>() {}) : null);
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("평가 결과를 파싱할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static EvaluationRemark remark(Long resultId, RemarkType type, Long questionId, String content, int position) {
+        return EvaluationRemark.builder()
+                .evaluationResultId(resultId)
+                .type(type)
+                .coverLetterQuestionId(questionId)
+                .content(content)
+                .position(position)
+                .build();
+    }
+
+    private static Grade parseGrade(String grade) {
+        if (grade == null) {
+            return null;
+        }
+        try {
+            return Grade.valueOf(grade.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 평가 등급: {}", grade);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castList(Object list) {
+        return (List<T>) list;
+    }
+
+    /**
+     * 화면 표시용 평가 상세 (기존 JSON 컬럼과 같은 모양)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class EvaluationDetails {
+        private final List<Map<String, Object>> resumeScores;
+        private final List<Map<String, Object>> coverLetterScores;
+        private final Map<String, Object> overallEvaluation;
+    }
+
+    /**
+     * JSON 컬럼에서 읽은 기존 평가 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class LegacyEvaluation {
+        private final List<EvaluationResultDto.ResumeEvaluationDto> resumeEvaluations;
+        private final Map<Long, Integer> maxScores;
+        private final List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> coverEvaluations;
+        private final EvaluationResultDto.OverallAnalysisDto overallAnalysis;
+    }
+}
@@ -0,0 +1,374 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationEventType;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationProgressEventDto;
+import com.jangyeonguk.backend.exception.TooManyRequestsException;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 평가 진행 이벤트 발행 (공고별 SSE 스트림)
+ * 이벤트는 트랜잭션 커밋 후 발행되며, 공고별로 최근 이벤트를 보관해 재연결 시 Last-Event-ID 이후부터 이어서 보낸다.
+ * 이벤트 ID는 "채널 epoch-공고별 순번"이라 다른 공고의 이벤트로 번호가 건너뛰지 않고,
+ * 서버 재시작이나 채널 정리 전의 ID로 재연결하면 이어 보내지 않고 RESYNC를 보낸다.
+ * 구독자마다 전송 대기열과 전송 가상 스레드를 따로 두므로 느린 연결 하나가 다른 구독자나 공고의 이벤트를 막지 않고,
+ * 대기열이 넘치면 그 연결만 끊는다 (클라이언트는 Last-Event-ID로 다시 연결).
+ * 구독자가 없는 채널은 idle-channel-retention 뒤에 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationEventPublisher {
+
+    private final MeterRegistry meterRegistry;
+    private final JobPostingRepository jobPostingRepository;
+
+    @Value("${evaluation.events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${evaluation.events.replay-buffer-size:500}")
+    private int replayBufferSize;
+
+    @Value("${evaluation.events.max-subscribers:2000}")
+    private int maxSubscribers;
+
+    @Value("${evaluation.events.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
+    @Value("${evaluation.events.subscriber-buffer-size:200}")
+    private int subscriberBufferSize;
+
+    @Value("${evaluation.events.idle-channel-retention-ms:300000}")
+    private long idleChannelRetentionMs;
+
+    private final String bootEpoch = Long.toString(System.currentTimeMillis(), 36); // 서버 시작 시각 (재시작 구분)
+    private final AtomicLong channelCounter = new AtomicLong(); // 채널 생성 순번 (정리 후 다시 만든 채널 구분)
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void init() {
+        meterRegistry.gauge("evaluation.events.subscribers", subscriberCount);
+        this.droppedCounter = meterRegistry.counter("evaluation.events.dropped_subscribers");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * 공고 이벤트 구독 (lastEventId가 있으면 그 이후 이벤트부터 다시 보냄)
+     */
+    public SseEmitter subscribe(Long jobPostingId, String lastEventId) {
+        if (!jobPostingRepository.existsById(jobPostingId)) {
+            throw new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId);
+        }
+        LastEventId resumeFrom = LastEventId.parse(lastEventId);
+
+        // 구독자 수 제한은 자리를 먼저 잡고 확인 (동시에 구독해도 한도를 넘지 않음)
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new TooManyRequestsException("이벤트 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber[] registered = new Subscriber[1];
+        try {
+            // 놓친 이벤트를 대기열에 넣는 동안 새 이벤트가 끼어들거나 채널이 정리되지 않도록 채널 갱신 안에서 등록
+            channels.compute(jobPostingId, (id, existing) -> {
+                Channel channel = existing != null ? existing : new Channel(bootEpoch + "." + Long.toString(channelCounter.incrementAndGet(), 36));
+                List<EvaluationProgressEventDto> missed = resumeFrom != null ? replay(channel, jobPostingId, resumeFrom) : List.of();
+                Subscriber subscriber = new Subscriber(channel, emitter, missed.size());
+                missed.forEach(event -> subscriber.pending.addLast(toSse(event)));
+                channel.subscribers.add(subscriber);
+                channel.idleSince = 0;
+                registered[0] = subscriber;
+                return channel;
+            });
+        } catch (RuntimeException e) {
+            subscriberCount.decrementAndGet();
+            throw e;
+        }
+
+        Subscriber subscriber = registered[0];
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.startDrain();
+        return emitter;
+    }
+
+    /**
+     * 지원서 이벤트 발행 (현재 트랜잭션이 커밋된 뒤 전송, 롤백되면 보내지 않음)
+     */
+    public void publishAfterCommit(EvaluationEventType type, Application application) {
+        EvaluationProgressEventDto event = EvaluationProgressEventDto.builder()
+                .type(type)
+                .jobPostingId(application.getJobPosting().getId())
+                .applicationId(application.getId())
+                .status(application.getStatus())
+                .finalScore(type == EvaluationEventType.EVALUATION_COMPLETED ? application.getFinalScore() : null)
+                .passed(type == EvaluationEventType.EVALUATION_COMPLETED ? application.getPassed() : null)
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+            });
+        } else {
+            publish(event);
+        }
+    }
+
+    /**
+     * 평가 요청 전송 완료 이벤트 발행 (디스패처, 트랜잭션 밖)
+     */
+    public void publishDispatched(Long jobPostingId, List<Long> applicationIds) {
+        for (Long applicationId : applicationIds) {
+            publish(EvaluationProgressEventDto.builder()
+                    .type(EvaluationEventType.EVALUATION_DISPATCHED)
+                    .jobPostingId(jobPostingId)
+                    .applicationId(applicationId)
+                    .status(ApplicationStatus.BEFORE_EVALUATION)
+                    .build());
+        }
+    }
+
+    /**
+     * 연결 유지용 heartbeat (프록시가 유휴 연결을 끊지 않도록 주석 행 전송)
+     * 구독자가 없는 채널은 idle-channel-retention이 지나면 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${evaluation.events.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        long now = System.currentTimeMillis();
+        for (Long jobPostingId : channels.keySet()) {
+            channels.computeIfPresent(jobPostingId, (id, channel) -> {
+                if (!channel.subscribers.isEmpty()) {
+                    channel.idleSince = 0;
+                    return channel;
+                }
+                if (channel.idleSince == 0) {
+                    channel.idleSince = now;
+                }
+                return now - channel.idleSince >= idleChannelRetentionMs ? null : channel;
+            });
+        }
+        channels.values().forEach(channel -> channel.subscribers.forEach(Subscriber::heartbeat));
+    }
+
+    private void publish(EvaluationProgressEventDto event) {
+        // 구독한 적 없는(또는 정리된) 공고의 이벤트는 보관하지 않음
+        channels.computeIfPresent(event.getJobPostingId(), (id, channel) -> {
+            event.setSequence(++channel.sequence);
+            event.setEventId(channel.epoch + "-" + event.getSequence());
+            event.setOccurredAt(LocalDateTime.now().toString());
+            channel.recent.addLast(event);
+            while (channel.recent.size() > replayBufferSize) {
+                channel.recent.removeFirst();
+            }
+            SseEmitter.SseEventBuilder sse = toSse(event);
+            channel.subscribers.forEach(subscriber -> subscriber.enqueue(sse));
+            return channel;
+        });
+    }
+
+    /**
+     * 놓친 이벤트 목록 (이 채널에서 발급한 ID가 아니면 이어 보낼 수 없음)
+     * 보관 범위보다 오래된 이벤트가 필요하면 RESYNC 하나만 보내 클라이언트가 전체를 다시 조회하게 한다.
+     */
+    private List<EvaluationProgressEventDto> replay(Channel channel, Long jobPostingId, LastEventId lastEventId) {
+        EvaluationProgressEventDto oldest = channel.recent.peekFirst();
+        long lastSequence = lastEventId.sequence();
+        boolean gap = !channel.epoch.equals(lastEventId.epoch())
+                || lastSequence > channel.sequence
+                || (oldest != null && oldest.getSequence() > lastSequence + 1);
+        if (gap) {
+            return List.of(EvaluationProgressEventDto.builder()
+                    .eventId(channel.epoch + "-" + channel.sequence)
+                    .sequence(channel.sequence)
+                    .type(EvaluationEventType.RESYNC)
+                    .jobPostingId(jobPostingId)
+                    .occurredAt(LocalDateTime.now().toString())
+                    .build());
+        }
+        return channel.recent.stream()
+                .filter(event -> event.getSequence() > lastSequence)
+                .toList();
+    }
+
+    /**
+     * 이벤트 하나 전송 (구독자 전송 가상 스레드에서 호출)
+     */
+    void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) throws IOException {
+        emitter.send(event);
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(EvaluationProgressEventDto event) {
+        return SseEmitter.event()
+                .id(event.getEventId())
+                .name(event.getType().name())
+                .data(event);
+    }
+
+    /**
+     * 공고 하나의 구독자와 최근 이벤트 (구조 변경은 channels.compute 안에서만)
+     */
+    private static class Channel {
+        private final String epoch; // 이벤트 ID 접두사 (서버 시작 시각.채널 생성 순번)
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final Deque<EvaluationProgressEventDto> recent = new ArrayDeque<>();
+        private long sequence; // 마지막으로 발행한 공고별 순번
+        private long idleSince; // 구독자가 없어진 시각 (구독자가 있으면 0)
+
+        Channel(String epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    /**
+     * 구독자 하나의 전송 대기열 (한 번에 하나의 가상 스레드만 순서대로 전송)
+     */
+    private class Subscriber {
+        private final Channel channel;
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final Deque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>(); // this 잠금 안에서만 접근
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private boolean draining; // this 잠금 안에서만 접근
+
+        Subscriber(Channel channel, SseEmitter emitter, int replayed) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.capacity = subscriberBufferSize + replayed;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            boolean overflow;
+            synchronized (this) {
+                if (closed.get()) {
+                    return;
+                }
+                overflow = pending.size() >= capacity;
+                if (!overflow) {
+                    pending.addLast(event);
+                }
+            }
+            if (overflow) {
+                // 받는 속도가 발행 속도를 따라가지 못하는 연결은 끊음 (재연결 시 이어받기 또는 RESYNC)
+                log.warn("SSE 전송 대기열 초과로 구독 종료 - 대기: {}건", capacity);
+                droppedCounter.increment();
+                close();
+                emitter.complete();
+                return;
+            }
+            startDrain();
+        }
+
+        void heartbeat() {
+            synchronized (this) {
+                if (!pending.isEmpty() || draining) {
+                    return; // 전송 중인 연결은 heartbeat가 필요 없음
+                }
+            }
+            enqueue(SseEmitter.event().comment("heartbeat"));
+        }
+
+        void startDrain() {
+            synchronized (this) {
+                if (draining || pending.isEmpty() || closed.get()) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.debug("종료 중이라 평가 이벤트를 보내지 않음");
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder next;
+                synchronized (this) {
+                    next = closed.get() ? null : pending.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    send(emitter, next);
+                } catch (IOException | IllegalStateException e) {
+                    // 끊어진 연결
+                    close();
+                    emitter.completeWithError(e);
+                }
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                channel.subscribers.remove(this);
+                subscriberCount.decrementAndGet();
+                synchronized (this) {
+                    pending.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Last-Event-ID ("채널 epoch-순번")
+     */
+    private record LastEventId(String epoch, long sequence) {
+
+        static LastEventId parse(String lastEventId) {
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return null;
+            }
+            String value = lastEventId.trim();
+            int separator = value.lastIndexOf('-');
+            try {
+                long sequence = Long.parseLong(value.substring(separator + 1));
+                if (sequence < 0) {
+                    throw new NumberFormatException();
+                }
+                return new LastEventId(separator >= 0 ? value.substring(0, separator) : "", sequence);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("유효하지 않은 Last-Event-ID입니다: " + lastEventId);
+            }
+        }
+    }
+}
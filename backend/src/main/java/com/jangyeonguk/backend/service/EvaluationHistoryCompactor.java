@@ -0,0 +1,71 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.repository.EvaluationResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 평가 결과 이전 버전 정리 작업
+ * 지원서별 최신 keep-versions개와 현재 버전은 남기고, 보관 기간이 지난 나머지 버전을 상세 행과 함께 묶음 단위로 삭제한다.
+ * 현재 버전은 지원서가 가리키고 있으므로 정리 중에도 조회에 빈 구간이 생기지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationHistoryCompactor {
+
+    private final EvaluationResultRepository evaluationResultRepository;
+    private final EvaluationDetailStore evaluationDetailStore;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${evaluation.history.compaction.enabled:true}")
+    private boolean enabled;
+
+    @Value("${evaluation.history.keep-versions:3}")
+    private int keepVersions;
+
+    @Value("${evaluation.history.retention-days:30}")
+    private long retentionDays;
+
+    @Value("${evaluation.history.compaction.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 매일 03시 30분에 보관 기간이 지난 이전 버전 정리
+     */
+    @Scheduled(cron = "${evaluation.history.compaction.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long deleted = 0;
+        while (true) {
+            Integer removed = transactionTemplate.execute(status -> {
+                List<Long> ids = evaluationResultRepository.findCompactableIds(keepVersions, before, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                evaluationDetailStore.delete(ids);
+                return evaluationResultRepository.deleteByIdIn(ids);
+            });
+            if (removed == null || removed == 0) {
+                break;
+            }
+            deleted += removed;
+        }
+
+        log.info("평가 결과 이전 버전 정리 완료 - 삭제: {}건", deleted);
+    }
+}
@@ -0,0 +1,226 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.exception.EvaluatorUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 평가 요청 아웃박스 디스패처
+ * 커밋된 아웃박스 행을 주기적으로 가져와 대기열에 넣고, 전송 루프가 같은 공고의 요청을 묶어 FastAPI로 전송한다 (at-least-once).
+ * 대기열의 빈 자리만큼만 가져오므로 전송이 밀리면 나머지는 아웃박스에 남는다.
+ * 전송은 가상 스레드에서 실행되며, 동시 전송 수는 세마포어로 제한한다.
+ * 가져간 행은 끝날 때까지 가져간 시각을 주기적으로 갱신하므로, 대기열에서 오래 기다리거나 전송이 느려도
+ * 다른 인스턴스가 다시 가져가 중복 전송하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationOutboxDispatcher {
+
+    private final EvaluationOutboxService evaluationOutboxService;
+    private final EvaluatorClient evaluatorClient;
+    private final EvaluationQueue evaluationQueue;
+    private final EvaluatorCircuitBreaker evaluatorCircuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final EvaluationEventPublisher evaluationEventPublisher;
+
+    @Value("${evaluation.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${evaluation.outbox.retention-days:7}")
+    private long retentionDays;
+
+    @Value("${evaluation.dispatch.max-concurrency:200}")
+    private int maxConcurrency;
+
+    @Value("${evaluation.dispatch.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds;
+
+    @Value("${evaluation.batch.max-size:1}")
+    private int batchMaxSize;
+
+    @Value("${evaluation.batch.linger-ms:200}")
+    private long batchLingerMs;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Long> heldOutboxIds = ConcurrentHashMap.newKeySet(); // 가져가서 아직 끝내지 않은 행 (대기열 + 전송 중)
+    private Semaphore permits;
+    private Thread senderThread;
+    private volatile boolean running = true;
+    private Timer successTimer;
+    private Timer failureTimer;
+    private Counter claimedCounter;
+    private Counter parkedCounter;
+    private DistributionSummary batchSizeSummary;
+
+    @PostConstruct
+    public void init() {
+        this.permits = new Semaphore(maxConcurrency);
+        this.successTimer = meterRegistry.timer("evaluation.dispatch", "outcome", "success");
+        this.failureTimer = meterRegistry.timer("evaluation.dispatch", "outcome", "failure");
+        this.claimedCounter = meterRegistry.counter("evaluation.dispatch.claimed");
+        this.parkedCounter = meterRegistry.counter("evaluation.dispatch.parked");
+        this.batchSizeSummary = meterRegistry.summary("evaluation.dispatch.batch_size");
+        meterRegistry.gauge("evaluation.dispatch.in_flight", permits, p -> maxConcurrency - p.availablePermits());
+        this.senderThread = Thread.ofVirtual().name("evaluation-sender").start(this::sendLoop);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        senderThread.interrupt();
+        senderThread.join(TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds));
+
+        // 대기열에 남은 요청은 바로 다시 가져갈 수 있도록 전송대기로 되돌림
+        List<Long> unsent = evaluationQueue.drain().stream()
+                .map(EvaluationOutboxService.ClaimedEvaluation::getOutboxId)
+                .toList();
+        if (!unsent.isEmpty()) {
+            int released = evaluationOutboxService.releaseClaims(unsent);
+            unsent.forEach(heldOutboxIds::remove);
+            log.info("대기열에 남은 평가 요청 반환 - {}건", released);
+        }
+
+        // 끝나지 않은 전송은 전송중 상태로 남고, 더 이상 갱신되지 않으므로 stale-after-seconds 이후 다시 가져가진다
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+            log.warn("평가 요청 전송이 종료 대기 시간 안에 끝나지 않았습니다 - 남은 전송: {}건",
+                    maxConcurrency - permits.availablePermits());
+        }
+    }
+
+    /**
+     * 전송 대기 중인 평가 요청을 대기열의 빈 자리만큼 가져옴
+     */
+    @Scheduled(fixedDelayString = "${evaluation.outbox.poll-interval-ms:1000}")
+    public void dispatchPending() {
+        // 차단기가 열려 있는 동안은 가져오지 않음 (요청은 아웃박스에 그대로 보관됨)
+        if (!evaluatorCircuitBreaker.isCallPermitted()) {
+            log.debug("평가 서버 차단기 열림 - 평가 요청 가져오기 보류");
+            return;
+        }
+
+        while (running) {
+            int capacity = Math.min(batchSize, evaluationQueue.remainingCapacity());
+            if (capacity == 0) {
+                return;
+            }
+
+            List<EvaluationOutboxService.ClaimedEvaluation> claimed = evaluationOutboxService.claimBatch(capacity);
+            claimedCounter.increment(claimed.size());
+            for (EvaluationOutboxService.ClaimedEvaluation evaluation : claimed) {
+                heldOutboxIds.add(evaluation.getOutboxId());
+                if (!evaluationQueue.offer(evaluation)) {
+                    // 가져오는 쪽은 이 스케줄러뿐이라 발생하지 않지만, 들어가지 못한 행은 바로 되돌림
+                    evaluationOutboxService.releaseClaims(List.of(evaluation.getOutboxId()));
+                    heldOutboxIds.remove(evaluation.getOutboxId());
+                }
+            }
+
+            if (claimed.size() < capacity) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 전송 슬롯이 비는 대로 대기열에서 같은 공고의 요청을 묶어 꺼내 전송 (배치 하나가 슬롯 하나)
+     */
+    private void sendLoop() {
+        while (running) {
+            try {
+                permits.acquire();
+                List<EvaluationOutboxService.ClaimedEvaluation> batch;
+                try {
+                    batch = evaluationQueue.takeBatch(batchMaxSize, batchLingerMs);
+                } catch (InterruptedException e) {
+                    permits.release();
+                    throw e;
+                }
+                executor.execute(() -> {
+                    try {
+                        dispatch(batch);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void dispatch(List<EvaluationOutboxService.ClaimedEvaluation> batch) {
+        List<Long> outboxIds = batch.stream().map(EvaluationOutboxService.ClaimedEvaluation::getOutboxId).toList();
+        List<Long> applicationIds = batch.stream().map(EvaluationOutboxService.ClaimedEvaluation::getApplicationId).toList();
+        Long jobPostingId = batch.get(0).getJobPostingId();
+        batchSizeSummary.record(batch.size());
+
+        long startedAt = System.nanoTime();
+        try {
+            log.info("지원서 처리 시작 - 공고 ID: {}, Application IDs: {}", jobPostingId, applicationIds);
+
+            String fastApiResponse = batch.size() == 1
+                    ? evaluatorClient.sendApplicationData(batch.get(0).getPayload())
+                    : evaluatorClient.sendApplicationDataBatch(jobPostingId,
+                            batch.stream().map(EvaluationOutboxService.ClaimedEvaluation::getPayload).toList());
+            evaluationOutboxService.markDone(outboxIds);
+            evaluationEventPublisher.publishDispatched(jobPostingId, applicationIds);
+            successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            log.info("지원서 처리 완료 - 공고 ID: {}, 건수: {}, Response: {}", jobPostingId, batch.size(), fastApiResponse);
+        } catch (EvaluatorUnavailableException e) {
+            // 보내지 않았으므로 시도 횟수를 늘리지 않고 전송대기로 되돌림
+            parkedCounter.increment(batch.size());
+            evaluationOutboxService.releaseClaims(outboxIds);
+            log.info("평가 서버 차단기 열림으로 전송 보류 - 공고 ID: {}, 건수: {}", jobPostingId, batch.size());
+        } catch (Exception e) {
+            failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.error("지원서 처리 실패 - 공고 ID: {}, Application IDs: {}", jobPostingId, applicationIds, e);
+            evaluationOutboxService.markFailed(outboxIds, e.getMessage());
+        } finally {
+            outboxIds.forEach(heldOutboxIds::remove);
+        }
+    }
+
+    /**
+     * 이 인스턴스가 잡고 있는 행의 가져간 시각 갱신 (stale-after-seconds보다 충분히 짧은 주기)
+     */
+    @Scheduled(fixedDelayString = "${evaluation.outbox.claim-renew-interval-ms:60000}")
+    public void renewClaims() {
+        List<Long> held = List.copyOf(heldOutboxIds);
+        if (held.isEmpty()) {
+            return;
+        }
+        int renewed = evaluationOutboxService.renewClaims(held);
+        log.debug("평가 요청 가져간 시각 갱신 - {}건", renewed);
+    }
+
+    /**
+     * 매일 03시 00분에 보관 기간이 지난 전송완료 행 정리
+     */
+    @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
+    public void purgeCompleted() {
+        int deleted = evaluationOutboxService.purgeCompleted(Duration.ofDays(retentionDays));
+        log.info("평가 요청 아웃박스 정리 완료 - 삭제: {}건", deleted);
+    }
+}
@@ -0,0 +1,231 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationOutbox;
+import com.jangyeonguk.backend.domain.evaluation.OutboxStatus;
+import com.jangyeonguk.backend.domain.jobposting.TrainingStatus;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+import com.jangyeonguk.backend.repository.EvaluationOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 평가 요청 아웃박스 Service
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class EvaluationOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+    private static final List<OutboxStatus> WAITING_STATUSES = List.of(OutboxStatus.PENDING, OutboxStatus.DEFERRED);
+
+    private final EvaluationOutboxRepository evaluationOutboxRepository;
+    private final ApplicationRepository applicationRepository;
+    private final EvaluationQueue evaluationQueue;
+    private final ObjectMapper objectMapper;
+
+    @Value("${evaluation.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${evaluation.outbox.initial-backoff-ms:2000}")
+    private long initialBackoffMs;
+
+    @Value("${evaluation.outbox.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    @Value("${evaluation.outbox.stale-after-seconds:300}")
+    private long staleAfterSeconds;
+
+    @Value("${evaluation.outbox.defer-delay-ms:30000}")
+    private long deferDelayMs;
+
+    /**
+     * 아웃박스에 평가 요청 기록 (지원서 저장 트랜잭션 안에서만 호출)
+     * 대기열이 포화 상태면 전송지연으로 기록된다. 전송지연 요청은 defer-delay 뒤부터 전송 대상이 되고,
+     * 같은 시점에 전송 가능한 전송대기 요청보다 뒤에 가져간다. 지원서에도 전송지연 표시를 남긴다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EvaluationOutbox enqueue(Application application, Map<String, Object> applicationData) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(applicationData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("평가 요청 데이터 직렬화에 실패했습니다: " + e.getMessage(), e);
+        }
+
+        boolean deferred = evaluationQueue.isSaturated();
+        application.setEvaluationDeferred(deferred);
+
+        EvaluationOutbox outbox = EvaluationOutbox.builder()
+                .applicationId(application.getId())
+                .jobPostingId(application.getJobPosting().getId())
+                .payload(payload)
+                .status(deferred ? OutboxStatus.DEFERRED : OutboxStatus.PENDING)
+                .nextAttemptAt(deferred ? LocalDateTime.now().plus(Duration.ofMillis(deferDelayMs)) : null)
+                .build();
+        return evaluationOutboxRepository.save(outbox);
+    }
+
+    /**
+     * 전송할 행을 가져와 전송중 상태로 표시 (전송지연이었던 지원서는 표시 해제)
+     */
+    @Transactional
+    public List<ClaimedEvaluation> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EvaluationOutbox> claimable = evaluationOutboxRepository.findClaimable(
+                OutboxStatus.PENDING, OutboxStatus.DEFERRED, OutboxStatus.IN_FLIGHT, TrainingStatus.READY, now, now.minusSeconds(staleAfterSeconds),
+                PageRequest.of(0, limit));
+
+        List<Long> deferredApplicationIds = claimable.stream()
+                .filter(outbox -> outbox.getStatus() == OutboxStatus.DEFERRED)
+                .map(EvaluationOutbox::getApplicationId)
+                .collect(Collectors.toList());
+        if (!deferredApplicationIds.isEmpty()) {
+            applicationRepository.clearEvaluationDeferred(deferredApplicationIds);
+        }
+
+        return claimable.stream()
+                .map(outbox -> {
+                    if (outbox.getStatus() == OutboxStatus.IN_FLIGHT) {
+                        log.warn("전송중 상태로 남아 있던 평가 요청 재전송 - Outbox ID: {}, Application ID: {}",
+                                outbox.getId(), outbox.getApplicationId());
+                    }
+                    outbox.setStatus(OutboxStatus.IN_FLIGHT);
+                    outbox.setClaimedAt(now);
+                    return new ClaimedEvaluation(outbox.getId(), outbox.getApplicationId(),
+                            outbox.getJobPostingId(), outbox.getPayload(), outbox.getAttempts());
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 전송 완료 처리 (배치 전송이면 배치 안의 모든 요청)
+     */
+    @Transactional
+    public void markDone(List<Long> outboxIds) {
+        LocalDateTime now = LocalDateTime.now();
+        evaluationOutboxRepository.findAllById(outboxIds).forEach(outbox -> {
+            outbox.setStatus(OutboxStatus.DONE);
+            outbox.setAttempts(outbox.getAttempts() + 1);
+            outbox.setCompletedAt(now);
+            outbox.setLastError(null);
+        });
+    }
+
+    /**
+     * 전송 실패 처리 (지수 백오프로 재시도 예약, 최대 횟수 초과 시 실패 상태)
+     * 배치 전송이면 배치 안의 모든 요청에 같은 처리를 적용한다.
+     */
+    @Transactional
+    public void markFailed(List<Long> outboxIds, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        evaluationOutboxRepository.findAllById(outboxIds).forEach(outbox -> {
+            int attempts = outbox.getAttempts() + 1;
+            outbox.setAttempts(attempts);
+            outbox.setLastError(lastError);
+
+            if (attempts >= maxAttempts) {
+                outbox.setStatus(OutboxStatus.FAILED);
+                log.error("평가 요청 전송 최종 실패 - Outbox ID: {}, Application ID: {}, 시도: {}회",
+                        outbox.getId(), outbox.getApplicationId(), attempts);
+            } else {
+                outbox.setStatus(OutboxStatus.PENDING);
+                outbox.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+                log.warn("평가 요청 전송 실패, 재시도 예약 - Outbox ID: {}, Application ID: {}, 시도: {}회, 다음 시도: {}",
+                        outbox.getId(), outbox.getApplicationId(), attempts, outbox.getNextAttemptAt());
+            }
+        });
+    }
+
+    /**
+     * 전송하지 못한 채 가져간 행을 전송대기로 되돌림 (종료 시)
+     */
+    @Transactional
+    public int releaseClaims(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+        return evaluationOutboxRepository.releaseClaims(outboxIds, OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT);
+    }
+
+    /**
+     * 이 인스턴스가 잡고 있는 행(대기열에서 기다리거나 전송 중)의 가져간 시각 갱신
+     * 살아 있는 디스패처가 주기적으로 갱신하므로, stale-after-seconds가 지나 다시 가져가지는 행은 죽은 인스턴스의 행뿐이다.
+     */
+    @Transactional
+    public int renewClaims(Collection<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+        return evaluationOutboxRepository.renewClaims(outboxIds, OutboxStatus.IN_FLIGHT, LocalDateTime.now());
+    }
+
+    /**
+     * 아직 전송되지 않은 평가 요청 수 (전송대기 + 전송지연)
+     */
+    public long countBacklog() {
+        return evaluationOutboxRepository.countByStatusIn(WAITING_STATUSES);
+    }
+
+    /**
+     * 평가 대기열 현황 (화면 표시용)
+     */
+    public Map<String, Object> getQueueStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("queueDepth", evaluationQueue.size());
+        status.put("queueCapacity", evaluationQueue.getCapacity());
+        status.put("saturated", evaluationQueue.isSaturated());
+        status.put("queueDepthByJobPosting", evaluationQueue.depthByJobPosting());
+        status.put("pendingCount", evaluationOutboxRepository.countByStatus(OutboxStatus.PENDING));
+        status.put("deferredCount", evaluationOutboxRepository.countByStatus(OutboxStatus.DEFERRED));
+        status.put("inFlightCount", evaluationOutboxRepository.countByStatus(OutboxStatus.IN_FLIGHT));
+        status.put("failedCount", evaluationOutboxRepository.countByStatus(OutboxStatus.FAILED));
+        return status;
+    }
+
+    /**
+     * 보관 기간이 지난 전송완료 행 정리
+     */
+    @Transactional
+    public int purgeCompleted(Duration retention) {
+        return evaluationOutboxRepository.deleteByStatusAndCompletedAtBefore(
+                OutboxStatus.DONE, LocalDateTime.now().minus(retention));
+    }
+
+    private Duration backoff(int attempts) {
+        long delay = initialBackoffMs * (1L << Math.min(attempts - 1, 20));
+        return Duration.ofMillis(Math.min(delay, maxBackoffMs));
+    }
+
+    /**
+     * 디스패처가 가져간 평가 요청 (트랜잭션 밖에서 사용하는 스냅샷)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ClaimedEvaluation {
+        private final Long outboxId;
+        private final Long applicationId;
+        private final Long jobPostingId;
+        private final String payload;
+        private final Integer attempts;
+    }
+}
@@ -0,0 +1,148 @@
+package com.jangyeonguk.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 평가 요청 대기열 (아웃박스에서 가져온 요청을 전송 전까지 보관)
+ * 용량이 제한되어 있고, 공고별로 번갈아 꺼내므로 한 공고의 몰림이 다른 공고를 막지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EvaluationQueue {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${evaluation.queue.capacity:1000}")
+    private int capacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Map<Long, ArrayDeque<EvaluationOutboxService.ClaimedEvaluation>> queuesByJobPosting = new HashMap<>();
+    private final ArrayDeque<Long> jobPostingTurns = new ArrayDeque<>(); // 대기 요청이 있는 공고의 순번
+    private int size;
+
+    @PostConstruct
+    public void registerMetrics() {
+        meterRegistry.gauge("evaluation.queue.depth", this, EvaluationQueue::size);
+        meterRegistry.gauge("evaluation.queue.capacity", this, EvaluationQueue::getCapacity);
+    }
+
+    /**
+     * 대기열에 추가 (가득 찬 경우 false)
+     */
+    public boolean offer(EvaluationOutboxService.ClaimedEvaluation evaluation) {
+        lock.lock();
+        try {
+            if (size >= capacity) {
+                return false;
+            }
+            ArrayDeque<EvaluationOutboxService.ClaimedEvaluation> queue =
+                    queuesByJobPosting.computeIfAbsent(evaluation.getJobPostingId(), id -> new ArrayDeque<>());
+            if (queue.isEmpty()) {
+                jobPostingTurns.addLast(evaluation.getJobPostingId());
+            }
+            queue.addLast(evaluation);
+            size++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다음 차례 공고의 요청을 최대 maxSize건까지 묶어서 꺼냄
+     * 첫 요청이 들어온 뒤 linger 시간 동안 같은 공고의 요청이 더 쌓이기를 기다린다.
+     * (꺼내는 쪽은 전송 루프 하나뿐이라 기다리는 동안 차례가 바뀌지 않는다)
+     */
+    public List<EvaluationOutboxService.ClaimedEvaluation> takeBatch(int maxSize, long lingerMs) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            Long jobPostingId = jobPostingTurns.pollFirst();
+            ArrayDeque<EvaluationOutboxService.ClaimedEvaluation> queue = queuesByJobPosting.get(jobPostingId);
+
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+            while (queue.size() < maxSize && remainingNanos > 0) {
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+
+            List<EvaluationOutboxService.ClaimedEvaluation> batch = new ArrayList<>(Math.min(maxSize, queue.size()));
+            while (batch.size() < maxSize && !queue.isEmpty()) {
+                batch.add(queue.pollFirst());
+            }
+            if (queue.isEmpty()) {
+                queuesByJobPosting.remove(jobPostingId);
+            } else {
+                jobPostingTurns.addLast(jobPostingId);
+            }
+            size -= batch.size();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 요청을 모두 꺼냄 (종료 시 아웃박스로 되돌리기 위해 사용)
+     */
+    public List<EvaluationOutboxService.ClaimedEvaluation> drain() {
+        lock.lock();
+        try {
+            List<EvaluationOutboxService.ClaimedEvaluation> drained = new ArrayList<>(size);
+            queuesByJobPosting.values().forEach(drained::addAll);
+            queuesByJobPosting.clear();
+            jobPostingTurns.clear();
+            size = 0;
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int remainingCapacity() {
+        return Math.max(0, capacity - size());
+    }
+
+    public boolean isSaturated() {
+        return remainingCapacity() == 0;
+    }
+
+    /**
+     * 공고별 대기 요청 수
+     */
+    public Map<Long, Integer> depthByJobPosting() {
+        lock.lock();
+        try {
+            Map<Long, Integer> depth = new HashMap<>();
+            queuesByJobPosting.forEach((jobPostingId, queue) -> depth.put(jobPostingId, queue.size()));
+            return depth;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
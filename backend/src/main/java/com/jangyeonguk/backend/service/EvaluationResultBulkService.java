@@ -0,0 +1,157 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionAnswer;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationResult;
+import com.jangyeonguk.backend.domain.resume.ResumeItemAnswer;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultBulkResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+import com.jangyeonguk.backend.repository.CoverLetterQuestionAnswerRepository;
+import com.jangyeonguk.backend.repository.EvaluationResultRepository;
+import com.jangyeonguk.backend.repository.ResumeItemAnswerRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 평가 결과 일괄 처리 Service (공고 단위 재평가 콜백)
+ * 고정 크기 청크마다 한 트랜잭션으로 저장하고, 청크 안의 지원서/답변/기존 결과는 한 번에 조회한다.
+ * 갱신은 flush 시 JDBC 배치로 묶이므로 청크당 쿼리 수는 평가 결과 수와 거의 무관하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationResultBulkService {
+
+    private static final String SUCCEEDED = "SUCCEEDED";
+    private static final String FAILED = "FAILED";
+
+    private final ApplicationRepository applicationRepository;
+    private final ResumeItemAnswerRepository resumeItemAnswerRepository;
+    private final CoverLetterQuestionAnswerRepository coverLetterQuestionAnswerRepository;
+    private final EvaluationResultRepository evaluationResultRepository;
+    private final EvaluationResultWriter evaluationResultWriter;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+
+    @Value("${evaluation.result.bulk.chunk-size:200}")
+    private int chunkSize;
+
+    /**
+     * 평가 결과 여러 건 저장 (건별 처리 결과를 요청 순서대로 반환)
+     * 지원서를 찾지 못한 건은 해당 건만 실패 처리하고, DB 오류는 청크 전체를 실패 처리한다.
+     */
+    public EvaluationResultBulkResponseDto processEvaluationResults(List<EvaluationResultDto> evaluationResults) {
+        if (evaluationResults == null || evaluationResults.isEmpty()) {
+            throw new IllegalArgumentException("평가 결과가 비어 있습니다.");
+        }
+
+        log.info("평가 결과 일괄 처리 시작 - {}건, 청크 크기: {}", evaluationResults.size(), chunkSize);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<Long, Map<Long, Integer>> maxScoresByJobPosting = new HashMap<>(); // 공고별 배점은 요청 전체에서 한 번만 조회
+        EvaluationResultBulkResponseDto.ItemResultDto[] results =
+                new EvaluationResultBulkResponseDto.ItemResultDto[evaluationResults.size()];
+
+        for (int from = 0; from < evaluationResults.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, evaluationResults.size());
+            processChunk(transactionTemplate, evaluationResults, from, to, maxScoresByJobPosting, results);
+        }
+
+        List<EvaluationResultBulkResponseDto.ItemResultDto> resultList = Arrays.asList(results);
+        int succeeded = (int) resultList.stream().filter(result -> SUCCEEDED.equals(result.getStatus())).count();
+
+        log.info("평가 결과 일괄 처리 완료 - 전체: {}, 성공: {}, 실패: {}",
+                evaluationResults.size(), succeeded, evaluationResults.size() - succeeded);
+
+        return EvaluationResultBulkResponseDto.builder()
+                .totalCount(evaluationResults.size())
+                .succeededCount(succeeded)
+                .failedCount(evaluationResults.size() - succeeded)
+                .results(resultList)
+                .build();
+    }
+
+    /**
+     * 청크 하나를 하나의 트랜잭션으로 저장
+     */
+    private void processChunk(TransactionTemplate transactionTemplate, List<EvaluationResultDto> evaluationResults,
+                              int from, int to, Map<Long, Map<Long, Integer>> maxScoresByJobPosting,
+                              EvaluationResultBulkResponseDto.ItemResultDto[] results) {
+        Map<Integer, EvaluationResultBulkResponseDto.ItemResultDto> chunkResults = new HashMap<>();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<EvaluationResultDto> chunk = evaluationResults.subList(from, to);
+
+                // 지원서 일괄 조회 (applicationId가 없는 건은 (이메일, 공고)로 개별 조회)
+                Set<Long> applicationIds = chunk.stream()
+                        .map(EvaluationResultDto::getApplicationId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet());
+                Map<Long, Application> applications = applicationRepository.findAllById(applicationIds).stream()
+                        .collect(Collectors.toMap(Application::getId, Function.identity()));
+
+                Map<Integer, Application> resolved = new LinkedHashMap<>();
+                for (int i = from; i < to; i++) {
+                    EvaluationResultDto evaluationResult = evaluationResults.get(i);
+                    try {
+                        resolved.put(i, evaluationResultWriter.resolveApplication(evaluationResult, applications));
+                    } catch (IllegalArgumentException e) {
+                        chunkResults.put(i, new EvaluationResultBulkResponseDto.ItemResultDto(
+                                i, evaluationResult.getApplicationId(), FAILED, null, e.getMessage()));
+                    }
+                }
+                if (resolved.isEmpty()) {
+                    return;
+                }
+
+                // 답변과 현재 평가 결과를 지원서 묶음으로 한 번에 조회
+                Set<Long> resolvedIds = resolved.values().stream().map(Application::getId).collect(Collectors.toSet());
+                Map<Long, List<ResumeItemAnswer>> resumeAnswers = resumeItemAnswerRepository.findByApplicationIdIn(resolvedIds).stream()
+                        .collect(Collectors.groupingBy(answer -> answer.getApplication().getId()));
+                Map<Long, List<CoverLetterQuestionAnswer>> coverAnswers = coverLetterQuestionAnswerRepository.findByApplicationIdIn(resolvedIds).stream()
+                        .collect(Collectors.groupingBy(answer -> answer.getApplication().getId()));
+                Map<Long, EvaluationResult> currentResults = evaluationResultRepository.findCurrentByApplicationIdIn(resolvedIds).stream()
+                        .collect(Collectors.toMap(result -> result.getApplication().getId(), Function.identity(), (first, second) -> first));
+
+                for (Map.Entry<Integer, Application> entry : resolved.entrySet()) {
+                    Application application = entry.getValue();
+                    Long applicationId = application.getId();
+                    Map<Long, Integer> maxScores = maxScoresByJobPosting.computeIfAbsent(
+                            application.getJobPosting().getId(), evaluationResultWriter::loadMaxScores);
+
+                    EvaluationResult saved = evaluationResultWriter.write(application, evaluationResults.get(entry.getKey()), maxScores,
+                            resumeAnswers.getOrDefault(applicationId, List.of()),
+                            coverAnswers.getOrDefault(applicationId, List.of()),
+                            currentResults.get(applicationId));
+                    currentResults.put(applicationId, saved); // 같은 청크에 같은 지원서가 또 있으면 그다음 버전으로 저장
+                    chunkResults.put(entry.getKey(), new EvaluationResultBulkResponseDto.ItemResultDto(
+                            entry.getKey(), applicationId, SUCCEEDED, saved.getTotalScore(), null));
+                }
+
+                // 청크마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지 (트랜잭션 안에서 반영 후 비움)
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            log.error("평가 결과 일괄 처리 청크 저장 실패 - 범위: {}~{}", from, to - 1, e);
+            for (int i = from; i < to; i++) {
+                results[i] = new EvaluationResultBulkResponseDto.ItemResultDto(
+                        i, evaluationResults.get(i).getApplicationId(), FAILED, null, "저장 실패: " + e.getMessage());
+            }
+            return;
+        }
+
+        chunkResults.forEach((index, result) -> results[index] = result);
+    }
+}
@@ -0,0 +1,250 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionAnswer;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationEventType;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationResult;
+import com.jangyeonguk.backend.domain.resume.ResumeItem;
+import com.jangyeonguk.backend.domain.resume.ResumeItemAnswer;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
+import com.jangyeonguk.backend.repository.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 평가 결과 저장 컴포넌트 (평가 서버 콜백에서 공통 사용)
+ * 지원서 ID로 바로 찾아 저장하며, 콜백 한 건당 실행되는 쿼리 수는 평가 항목 수와 무관하게 일정하다.
+ * 트랜잭션은 호출하는 쪽에서 관리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationResultWriter {
+
+    private static final int DEFAULT_MAX_SCORE = 10;
+
+    private final ApplicationRepository applicationRepository;
+    private final ResumeItemRepository resumeItemRepository;
+    private final ResumeItemAnswerRepository resumeItemAnswerRepository;
+    private final CoverLetterQuestionAnswerRepository coverLetterQuestionAnswerRepository;
+    private final EvaluationResultRepository evaluationResultRepository;
+    private final EvaluationDetailStore evaluationDetailStore;
+    private final ApplicationScoreCalculator applicationScoreCalculator;
+    private final EvaluationEventPublisher evaluationEventPublisher;
+    private final EvaluationViewCache evaluationViewCache;
+    private final JobPostingStatsService jobPostingStatsService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 평가 결과가 가리키는 지원서 조회
+     * 평가 요청에 실어 보낸 applicationId가 상관관계 키이며, 없으면 (이메일, 공고) 유니크 조합으로 찾는다.
+     */
+    public Application resolveApplication(EvaluationResultDto evaluationResult) {
+        return resolveApplication(evaluationResult, Map.of());
+    }
+
+    /**
+     * 미리 조회해 둔 지원서(ID -> 지원서)에서 먼저 찾는 조회 (일괄 콜백용)
+     */
+    public Application resolveApplication(EvaluationResultDto evaluationResult, Map<Long, Application> preloaded) {
+        Application application;
+        if (evaluationResult.getApplicationId() != null && preloaded.containsKey(evaluationResult.getApplicationId())) {
+            application = preloaded.get(evaluationResult.getApplicationId());
+        } else if (evaluationResult.getApplicationId() != null) {
+            application = applicationRepository.findById(evaluationResult.getApplicationId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 지원서입니다: " + evaluationResult.getApplicationId()));
+        } else if (evaluationResult.getApplicantEmail() != null && evaluationResult.getJobPostingId() != null) {
+            application = applicationRepository.findByApplicantEmailAndJobPostingId(
+                            evaluationResult.getApplicantEmail(), evaluationResult.getJobPostingId())
+                    .orElseThrow(() -> new IllegalArgumentException("지원서를 찾을 수 없습니다. Email: "
+                            + evaluationResult.getApplicantEmail() + ", 공고 ID: " + evaluationResult.getJobPostingId()));
+        } else {
+            throw new IllegalArgumentException("평가 결과에 지원서 ID(또는 이메일과 공고 ID)가 필요합니다.");
+        }
+
+        Long jobPostingId = application.getJobPosting().getId();
+        if (evaluationResult.getJobPostingId() != null && !evaluationResult.getJobPostingId().equals(jobPostingId)) {
+            throw new IllegalArgumentException("평가 결과의 공고 ID가 지원서와 다릅니다. Application ID: "
+                    + application.getId() + ", 공고 ID: " + evaluationResult.getJobPostingId());
+        }
+        return application;
+    }
+
+    /**
+     * 공고의 이력서 항목별 배점 (항목 ID -> maxScore)
+     */
+    public Map<Long, Integer> loadMaxScores(Long jobPostingId) {
+        Map<Long, Integer> maxScores = new HashMap<>();
+        for (ResumeItem resumeItem : resumeItemRepository.findByJobPostingId(jobPostingId)) {
+            maxScores.put(resumeItem.getId(), resumeItem.getMaxScore());
+        }
+        return maxScores;
+    }
+
+    /**
+     * 답변별 점수/평가와 평가 결과 저장
+     * 답변은 종류별로 한 번에 조회한 뒤 변경 감지로 갱신되어 flush 시 JDBC 배치로 묶인다.
+     * 같은 지원서의 평가 결과가 다시 오면 다음 버전으로 새로 저장한다.
+     */
+    public EvaluationResult write(Application application, EvaluationResultDto evaluationResult, Map<Long, Integer> maxScores) {
+        return write(application, evaluationResult, maxScores, false);
+    }
+
+    /**
+     * 답변별 점수/평가와 평가 결과 저장 (manual이면 관리자가 직접 입력한 결과)
+     * 관리자 입력은 기존 평가 결과를 대체하는 경우가 많아 대체 사실을 경고로 남긴다.
+     */
+    public EvaluationResult write(Application application, EvaluationResultDto evaluationResult, Map<Long, Integer> maxScores,
+                                  boolean manual) {
+        EvaluationResult currentResult = evaluationResultRepository.findCurrentByApplicationId(application.getId()).orElse(null);
+        if (manual && currentResult != null) {
+            log.warn("관리자 입력으로 기존 평가 결과를 새 버전으로 대체합니다. Application ID: {}, 현재 버전: {}",
+                    application.getId(), currentResult.getVersion());
+        }
+        return write(application, evaluationResult, maxScores,
+                resumeItemAnswerRepository.findByApplicationId(application.getId()),
+                coverLetterQuestionAnswerRepository.findByApplicationId(application.getId()),
+                currentResult);
+    }
+
+    /**
+     * 미리 조회해 둔 답변과 현재 평가 결과로 저장 (여러 지원서를 한 번에 처리하는 일괄 콜백용)
+     * currentResult가 null이면 첫 버전으로 저장한다.
+     */
+    public EvaluationResult write(Application application, EvaluationResultDto evaluationResult, Map<Long, Integer> maxScores,
+                                  List<ResumeItemAnswer> resumeAnswers, List<CoverLetterQuestionAnswer> coverAnswers,
+                                  EvaluationResult currentResult) {
+        jobPostingStatsService.statusChanged(application.getJobPosting().getId(), application.getStatus(), ApplicationStatus.IN_PROGRESS);
+        application.setStatus(ApplicationStatus.IN_PROGRESS);
+
+        // 이력서 답변 점수
+        List<EvaluationResultDto.ResumeEvaluationDto> resumeEvaluations =
+                evaluationResult.getResumeEvaluations() != null ? evaluationResult.getResumeEvaluations() : List.of();
+        if (!resumeEvaluations.isEmpty()) {
+            Map<Long, EvaluationResultDto.ResumeEvaluationDto> byResumeItemId = resumeEvaluations.stream()
+                    .filter(resumeEval -> resumeEval.getResumeItemId() != null)
+                    .collect(Collectors.toMap(EvaluationResultDto.ResumeEvaluationDto::getResumeItemId,
+                            Function.identity(), (first, second) -> second));
+            for (ResumeItemAnswer answer : resumeAnswers) {
+                EvaluationResultDto.ResumeEvaluationDto resumeEval = byResumeItemId.get(answer.getResumeItem().getId());
+                if (resumeEval != null) {
+                    answer.setResumeScore(resumeEval.getScore());
+                }
+            }
+        }
+
+        // 자기소개서 답변 요약/키워드/정성 평가
+        List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> coverEvaluations =
+                evaluationResult.getCoverLetterQuestionEvaluations() != null ? evaluationResult.getCoverLetterQuestionEvaluations() : List.of();
+        if (!coverEvaluations.isEmpty()) {
+            Map<Long, EvaluationResultDto.CoverLetterQuestionEvaluationDto> byQuestionId = coverEvaluations.stream()
+                    .filter(coverEval -> coverEval.getCoverLetterQuestionId() != null)
+                    .collect(Collectors.toMap(EvaluationResultDto.CoverLetterQuestionEvaluationDto::getCoverLetterQuestionId,
+                            Function.identity(), (first, second) -> second));
+            for (CoverLetterQuestionAnswer answer : coverAnswers) {
+                EvaluationResultDto.CoverLetterQuestionEvaluationDto coverEval = byQuestionId.get(answer.getCoverLetterQuestion().getId());
+                if (coverEval == null) {
+                    continue;
+                }
+                if (coverEval.getSummary() != null) {
+                    answer.setAnswerSummary(coverEval.getSummary());
+                }
+                if (coverEval.getKeywords() != null && !coverEval.getKeywords().isEmpty()) {
+                    answer.setAnswerKeywords(toJson(coverEval.getKeywords()));
+                }
+                if (coverEval.getAnswerEvaluations() != null && !coverEval.getAnswerEvaluations().isEmpty()) {
+                    answer.setAnswerQualitativeEvaluation(toJson(coverEval.getAnswerEvaluations()));
+                }
+            }
+        }
+
+        // 가중 점수/합격 여부를 지원서에 저장 (순위/필터 조회는 인덱스만 사용)
+        applicationScoreCalculator.apply(application, resumeEvaluations, maxScores, coverEvaluations);
+
+        // 평가 결과는 새 버전으로 추가 (재전송/재평가여도 기존 결과는 그대로 둠)
+        EvaluationResult saved = evaluationResultRepository.save(EvaluationResult.builder()
+                .application(application)
+                .version(nextVersion(currentResult))
+                .applicantName(evaluationResult.getApplicantName())
+                .applicantEmail(evaluationResult.getApplicantEmail())
+                .jobPostingId(application.getJobPosting().getId())
+                .totalScore(calculateTotalScore(resumeEvaluations))
+                .resumeScores(toJson(withMaxScores(resumeEvaluations, maxScores)))
+                .coverLetterScores(toJson(evaluationResult.getCoverLetterQuestionEvaluations()))
+                .overallEvaluation(toJson(evaluationResult.getOverallAnalysis()))
+                .evaluationCompletedAt(LocalDateTime.now())
+                .build());
+
+        // 항목 점수/기준별 등급/코멘트를 행으로 저장 (JSON 컬럼은 기존 API 호환용으로 유지)
+        evaluationDetailStore.replace(saved, resumeEvaluations, maxScores,
+                evaluationResult.getCoverLetterQuestionEvaluations(), evaluationResult.getOverallAnalysis(), false);
+
+        // 현재 평가 결과 교체 (같은 트랜잭션이므로 커밋 전까지는 이전 버전이 보이고, 빈 구간이 없음)
+        application.setCurrentEvaluationResultId(saved.getId());
+
+        evaluationViewCache.invalidateAfterCommit(application.getId());
+        evaluationEventPublisher.publishAfterCommit(EvaluationEventType.EVALUATION_COMPLETED, application);
+        return saved;
+    }
+
+    /**
+     * 다음 평가 버전 (버전이 같은 결과가 동시에 저장되면 유니크 제약으로 한쪽이 실패)
+     */
+    public static int nextVersion(EvaluationResult currentResult) {
+        return currentResult != null && currentResult.getVersion() != null ? currentResult.getVersion() + 1 : 1;
+    }
+
+    /**
+     * 이력서 평가 결과에 항목별 배점(maxScore) 추가
+     */
+    public List<Map<String, Object>> withMaxScores(List<EvaluationResultDto.ResumeEvaluationDto> resumeEvaluations,
+                                                   Map<Long, Integer> maxScores) {
+        List<Map<String, Object>> resumeEvaluationsWithMaxScore = new ArrayList<>();
+        for (EvaluationResultDto.ResumeEvaluationDto resumeEval : resumeEvaluations) {
+            Map<String, Object> resumeEvalMap = new HashMap<>();
+            resumeEvalMap.put("resumeItemId", resumeEval.getResumeItemId());
+            resumeEvalMap.put("resumeItemName", resumeEval.getResumeItemName());
+            resumeEvalMap.put("resumeContent", resumeEval.getResumeContent());
+            resumeEvalMap.put("score", resumeEval.getScore());
+            resumeEvalMap.put("maxScore", resolveMaxScore(maxScores, resumeEval.getResumeItemId()));
+            resumeEvaluationsWithMaxScore.add(resumeEvalMap);
+        }
+        return resumeEvaluationsWithMaxScore;
+    }
+
+    /**
+     * 항목 배점 조회 (공고에 없는 항목이면 기본 배점 사용, maxScore가 0이어도 진행)
+     */
+    public static Integer resolveMaxScore(Map<Long, Integer> maxScores, Long resumeItemId) {
+        return maxScores.containsKey(resumeItemId) ? maxScores.get(resumeItemId) : DEFAULT_MAX_SCORE;
+    }
+
+    /**
+     * 총점 계산 (실제 받은 이력서 점수의 합계, 자기소개서는 현재 점수 계산 로직이 없으므로 0으로 처리)
+     */
+    public Integer calculateTotalScore(List<EvaluationResultDto.ResumeEvaluationDto> resumeEvaluations) {
+        int totalScore = 0;
+        for (EvaluationResultDto.ResumeEvaluationDto resumeEval : resumeEvaluations) {
+            // 0점도 유효한 점수
+            totalScore += resumeEval.getScore() != null ? resumeEval.getScore() : 0;
+        }
+        return totalScore;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("평가 결과 JSON 변환에 실패했습니다: " + e.getOriginalMessage(), e);
+        }
+    }
+}
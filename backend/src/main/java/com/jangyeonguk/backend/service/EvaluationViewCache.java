@@ -0,0 +1,157 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.evaluation.EvaluationResult;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultResponseDto;
+import com.jangyeonguk.backend.repository.EvaluationResultRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 평가 결과 조회 캐시 (지원서 ID -> 파싱된 평가 결과)
+ * 검토자가 같은 지원자를 반복해서 열 때 평가 결과 조회와 상세 조립을 건너뛰기 위한 용도이며,
+ * 항목 수와 대략적인 크기(문자 수) 두 기준으로 제한하고 가장 오래 안 쓴 항목부터 내보낸다.
+ * 캐시된 값은 여러 요청이 공유하므로 읽기 전용으로만 사용해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EvaluationViewCache {
+
+    private final EvaluationResultRepository evaluationResultRepository;
+    private final EvaluationDetailStore evaluationDetailStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${evaluation.view-cache.max-entries:5000}")
+    private int maxEntries;
+
+    @Value("${evaluation.view-cache.max-weight:50000000}")
+    private long maxWeight;
+
+    // 접근 순서 = 내보내는 순서 (가장 오래 안 쓴 항목이 맨 앞)
+    private final LinkedHashMap<Long, EvaluationView> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+    private long invalidations; // 조회 도중 무효화가 있었으면 조회 결과를 캐시에 넣지 않음
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter evictionCounter;
+
+    @PostConstruct
+    public void init() {
+        this.hitCounter = meterRegistry.counter("evaluation.view.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("evaluation.view.cache.requests", "result", "miss");
+        this.evictionCounter = meterRegistry.counter("evaluation.view.cache.evictions");
+        meterRegistry.gauge("evaluation.view.cache.size", this, cache -> cache.size());
+        meterRegistry.gauge("evaluation.view.cache.weight", this, cache -> cache.weight());
+    }
+
+    /**
+     * 지원서의 평가 결과 조회 (없으면 DB에서 읽어 캐시에 저장, 평가 결과가 아직 없으면 empty)
+     */
+    public Optional<EvaluationView> get(Long applicationId) {
+        long stamp;
+        synchronized (this) {
+            EvaluationView cached = entries.get(applicationId);
+            if (cached != null) {
+                hitCounter.increment();
+                return Optional.of(cached);
+            }
+            stamp = invalidations;
+        }
+        missCounter.increment();
+
+        Optional<EvaluationResult> result = evaluationResultRepository.findCurrentByApplicationId(applicationId);
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+        EvaluationView view = toView(result.get());
+
+        synchronized (this) {
+            if (stamp == invalidations) {
+                put(applicationId, view);
+            }
+        }
+        return Optional.of(view);
+    }
+
+    /**
+     * 지원서의 캐시 항목 무효화 (현재 트랜잭션이 커밋된 뒤 제거)
+     * 커밋 전에 지우면 그 사이 다른 요청이 커밋 전 값을 다시 채울 수 있으므로 커밋 후에 지운다.
+     */
+    public void invalidateAfterCommit(Long applicationId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(applicationId);
+                }
+            });
+        } else {
+            invalidate(applicationId);
+        }
+    }
+
+    public synchronized void invalidate(Long applicationId) {
+        invalidations++;
+        EvaluationView removed = entries.remove(applicationId);
+        if (removed != null) {
+            totalWeight -= removed.getWeight();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    private void put(Long applicationId, EvaluationView view) {
+        EvaluationView previous = entries.put(applicationId, view);
+        if (previous != null) {
+            totalWeight -= previous.getWeight();
+        }
+        totalWeight += view.getWeight();
+
+        Iterator<Map.Entry<Long, EvaluationView>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalWeight > maxWeight) && eldest.hasNext()) {
+            totalWeight -= eldest.next().getValue().getWeight();
+            eldest.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    private EvaluationView toView(EvaluationResult result) {
+        // 크기는 JSON 컬럼 길이로 추정 (응답 DTO와 파싱된 상세가 각각 비슷한 크기를 차지)
+        long weight = 2L * (length(result.getResumeScores()) + length(result.getCoverLetterScores())
+                + length(result.getOverallEvaluation())) + 256;
+        return new EvaluationView(EvaluationResultResponseDto.from(result), evaluationDetailStore.load(result), weight);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * 캐시된 평가 결과 (응답 DTO와 화면용으로 조립된 상세)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class EvaluationView {
+        private final EvaluationResultResponseDto result;
+        private final EvaluationDetailStore.EvaluationDetails details;
+        private final long weight;
+    }
+}
@@ -0,0 +1,123 @@
+package com.jangyeonguk.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평가 서버 호출 차단기
+ * 연속 실패가 기준을 넘으면 열려서 호출을 바로 거절하고, 대기 시간이 지나면 반열림 상태에서 소수의 시험 호출만 통과시킨다.
+ * 시험 호출이 모두 성공하면 닫히고, 하나라도 실패하면 다시 열린다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluatorCircuitBreaker {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${evaluator.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${evaluator.circuit.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${evaluator.circuit.half-open-probes:3}")
+    private int halfOpenProbes;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void registerMetrics() {
+        meterRegistry.gauge("evaluator.circuit.state", this, breaker -> breaker.getState().getCode());
+        this.rejectedCounter = meterRegistry.counter("evaluator.circuit.rejected");
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 onSuccess/onFailure로 결과를 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                rejectedCounter.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                rejectedCounter.increment();
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (++probeSuccesses >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            consecutiveFailures = 0;
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 새 요청을 보내도 되는 상태인지 (열려 있고 대기 시간이 남았으면 false)
+     */
+    public synchronized boolean isCallPermitted() {
+        return state != State.OPEN || System.currentTimeMillis() - openedAt >= openDurationMs;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("평가 서버 차단기 상태 변경 - {} -> {}", state, next);
+        meterRegistry.counter("evaluator.circuit.transitions", "to", next.name()).increment();
+        state = next;
+        consecutiveFailures = 0;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 차단기 상태 (code는 메트릭 값)
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum State {
+        CLOSED(0, "닫힘"),
+        OPEN(1, "열림"),
+        HALF_OPEN(2, "반열림");
+
+        private final int code;
+        private final String description;
+    }
+}
@@ -0,0 +1,313 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.exception.EvaluatorUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * FastAPI 평가 서버 클라이언트 (평가 서버 호출은 모두 여기를 거쳐 공유 연결 풀을 사용)
+ * 모든 호출은 차단기를 거치고, 일시적인 실패는 재시도 예산 안에서 지터를 준 지수 백오프로 재시도한다.
+ * 헤징을 켜면 멱등한 학습 호출은 응답이 최근 응답 시간의 백분위보다 늦을 때 같은 요청을 한 번 더 보내
+ * 먼저 온 응답을 사용한다. 학습은 평가 서버에 부담이 큰 호출이라 기본은 꺼 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluatorClient {
+
+    @Value("${fastapi.base-url:http://localhost:8000}")
+    private String fastApiBaseUrl;
+
+    @Value("${evaluator.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${evaluator.retry.initial-backoff-ms:200}")
+    private long initialBackoffMs;
+
+    @Value("${evaluator.retry.max-backoff-ms:2000}")
+    private long maxBackoffMs;
+
+    @Value("${evaluator.retry.budget-ratio:0.2}")
+    private double retryBudgetRatio;
+
+    @Value("${evaluator.retry.budget-max-tokens:20}")
+    private double retryBudgetMaxTokens;
+
+    @Value("${evaluator.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${evaluator.hedge.percentile:0.95}")
+    private double hedgePercentile;
+
+    @Value("${evaluator.hedge.min-samples:20}")
+    private int hedgeMinSamples;
+
+    @Value("${evaluator.hedge.delay-ms:2000}")
+    private long hedgeDelayMs; // 응답 시간 표본이 min-samples보다 적을 때 쓰는 지연
+
+    private final RestTemplate evaluatorRestTemplate;
+    private final RestTemplate evaluatorTrainingRestTemplate; // 응답 대기 시간이 긴 학습 전용
+    private final EvaluatorCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LatencyWindow trainLatencies = new LatencyWindow(200); // 최근 학습 호출 응답 시간
+    private double retryTokens = -1; // 첫 호출 시 최대치로 채움
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    /**
+     * FastAPI에 평가 기준 학습 요청 (동기)
+     */
+    public String trainEvaluationCriteria(Map<String, Object> evaluationData) {
+        String url = fastApiBaseUrl + "/api/evaluation-criteria/train";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(evaluationData, headers);
+
+        // 같은 평가 기준으로 다시 학습해도 결과가 같으므로 헤징 가능
+        Supplier<String> call = () -> timed(trainLatencies, () -> post(evaluatorTrainingRestTemplate, url, request));
+        return execute("train", hedgeEnabled ? () -> hedged(call) : call);
+    }
+
+    /**
+     * FastAPI에 지원서 데이터 전송 (이미 직렬화된 JSON 그대로 전송)
+     */
+    public String sendApplicationData(String applicationJson) {
+        String url = fastApiBaseUrl + "/api/applications/submit";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<String> request = new HttpEntity<>(applicationJson, headers);
+
+        return execute("submit", () -> post(evaluatorRestTemplate, url, request));
+    }
+
+    /**
+     * 평가 서버에 같은 공고의 지원서 여러 건을 한 번에 전송 (평가 기준은 배치당 한 번만 로드됨)
+     * 배치 접수는 대역 평가 서버(local-evaluator)만 지원하므로 evaluation.batch.max-size가 1보다 클 때만 사용한다.
+     * 본문: {"jobPostingId": ..., "applications": [지원서 JSON, ...]}
+     */
+    public String sendApplicationDataBatch(Long jobPostingId, List<String> applicationJsons) {
+        String url = fastApiBaseUrl + "/api/applications/submit-batch";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // 아웃박스에 저장된 JSON을 다시 파싱하지 않고 그대로 이어 붙임
+        String body = "{\"jobPostingId\":" + jobPostingId
+                + ",\"applications\":[" + String.join(",", applicationJsons) + "]}";
+        HttpEntity<String> request = new HttpEntity<>(body, headers);
+
+        return execute("submit-batch", () -> post(evaluatorRestTemplate, url, request));
+    }
+
+    /**
+     * 차단기 확인 후 호출, 일시적 실패는 재시도 예산이 남아 있는 동안 재시도
+     */
+    private String execute(String operation, Supplier<String> call) {
+        depositRetryToken();
+
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                throw new EvaluatorUnavailableException("평가 서버 차단기가 열려 있습니다 - " + operation);
+            }
+
+            try {
+                String response = call.get();
+                circuitBreaker.onSuccess();
+                return response;
+            } catch (RuntimeException e) {
+                boolean retryable = isRetryable(e);
+                if (retryable) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess(); // 4xx는 평가 서버 장애가 아님
+                }
+
+                if (!retryable || attempt >= maxAttempts) {
+                    log.error("FastAPI 통신 실패 - {} ({}회 시도): {}", operation, attempt, e.getMessage());
+                    throw new RuntimeException("FastAPI 통신 실패: " + e.getMessage(), e);
+                }
+                if (!withdrawRetryToken()) {
+                    meterRegistry.counter("evaluator.retry.budget_exhausted", "operation", operation).increment();
+                    log.warn("재시도 예산 소진으로 재시도 생략 - {}: {}", operation, e.getMessage());
+                    throw new RuntimeException("FastAPI 통신 실패: " + e.getMessage(), e);
+                }
+
+                meterRegistry.counter("evaluator.retries", "operation", operation).increment();
+                long delay = ThreadLocalRandom.current().nextLong(backoffCeiling(attempt) + 1); // full jitter
+                log.warn("FastAPI 호출 재시도 예정 - {}, 시도: {}회, 대기: {}ms, 원인: {}", operation, attempt, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("FastAPI 재시도 대기 중 중단됨", ie);
+                }
+            }
+        }
+    }
+
+    /**
+     * 첫 요청이 최근 응답 시간의 hedge.percentile 백분위 안에 끝나지 않으면 같은 요청을 한 번 더 보내 먼저 성공한 응답을 사용
+     */
+    private String hedged(Supplier<String> call) {
+        long delayMs = trainLatencies.percentile(hedgePercentile, hedgeMinSamples, hedgeDelayMs);
+        CompletableFuture<String> primary = CompletableFuture.supplyAsync(call, hedgeExecutor);
+        try {
+            return primary.get(delayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            meterRegistry.counter("evaluator.hedges").increment();
+            log.info("FastAPI 응답 지연으로 헤지 요청 전송 - {}ms 경과", delayMs);
+            CompletableFuture<String> hedge = CompletableFuture.supplyAsync(call, hedgeExecutor);
+            return await(firstSuccessful(primary, hedge));
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("FastAPI 응답 대기 중 중단됨", e);
+        }
+    }
+
+    /**
+     * 성공한 호출의 응답 시간 기록
+     */
+    private static String timed(LatencyWindow window, Supplier<String> call) {
+        long start = System.nanoTime();
+        String response = call.get();
+        window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return response;
+    }
+
+    private String post(RestTemplate restTemplate, String url, HttpEntity<?> request) {
+        ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
+
+        log.debug("FastAPI 응답 - URL: {}, Status Code: {}", url, response.getStatusCode());
+
+        if (response.getStatusCode() == HttpStatus.OK) {
+            return response.getBody();
+        } else {
+            throw new RuntimeException("FastAPI 응답 오류: " + response.getStatusCode());
+        }
+    }
+
+    /**
+     * 연결 실패/타임아웃, 5xx, 429만 재시도 대상
+     */
+    private boolean isRetryable(RuntimeException e) {
+        if (e instanceof ResourceAccessException || e instanceof HttpServerErrorException) {
+            return true;
+        }
+        return e instanceof HttpClientErrorException clientError
+                && clientError.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    private long backoffCeiling(int attempt) {
+        return Math.min(maxBackoffMs, initialBackoffMs * (1L << Math.min(attempt - 1, 20)));
+    }
+
+    /**
+     * 재시도 예산: 요청마다 budget-ratio만큼 적립되고 재시도마다 1씩 차감 (장애 시 재시도 폭증 방지)
+     */
+    private synchronized void depositRetryToken() {
+        if (retryTokens < 0) {
+            retryTokens = retryBudgetMaxTokens;
+        }
+        retryTokens = Math.min(retryBudgetMaxTokens, retryTokens + retryBudgetRatio);
+    }
+
+    private synchronized boolean withdrawRetryToken() {
+        if (retryTokens < 1) {
+            return false;
+        }
+        retryTokens -= 1;
+        return true;
+    }
+
+    private static CompletableFuture<String> firstSuccessful(CompletableFuture<String> first, CompletableFuture<String> second) {
+        CompletableFuture<String> winner = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        for (CompletableFuture<String> future : List.of(first, second)) {
+            future.whenComplete((result, error) -> {
+                if (error == null) {
+                    winner.complete(result);
+                } else if (remaining.decrementAndGet() == 0) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+        return winner;
+    }
+
+    private static String await(CompletableFuture<String> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("FastAPI 응답 대기 중 중단됨", e);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new RuntimeException(cause);
+    }
+
+    /**
+     * 최근 응답 시간 표본 (고정 크기 원형 버퍼)
+     */
+    static class LatencyWindow {
+        private final long[] samples;
+        private int count;
+        private int next;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long latencyMs) {
+            samples[next] = latencyMs;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        /**
+         * 백분위 응답 시간 (표본이 minSamples보다 적으면 fallback)
+         */
+        synchronized long percentile(double percentile, int minSamples, long fallback) {
+            if (count == 0 || count < minSamples) {
+                return fallback;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * count) - 1;
+            return sorted[Math.max(0, Math.min(index, count - 1))];
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.dto.application.ApplicationResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 지원서 제출 멱등성 캐시 (Idempotency-Key -> 최초 제출 응답)
+ * 짧은 시간 안의 재전송(더블 클릭, 마감 직전 재시도)을 DB와 평가 서버를 거치지 않고 처리하기 위한 용도이며,
+ * 캐시가 비어도 (지원자, 공고) 유니크 제약으로 중복 저장은 막힌다.
+ */
+@Component
+public class IdempotencyCache {
+
+    @Value("${application.idempotency.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${application.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    // 삽입 순서 = 만료 순서 (TTL이 모두 같으므로 가장 오래된 항목부터 만료)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * 저장된 응답 조회 (같은 키로 다른 지원자의 지원서를 제출하면 거절)
+     */
+    public synchronized Optional<ApplicationResponseDto> get(Long jobPostingId, String idempotencyKey, String applicantEmail) {
+        evictExpired();
+        Entry entry = entries.get(key(jobPostingId, idempotencyKey));
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!Objects.equals(entry.getApplicantEmail(), applicantEmail)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key로 다른 지원서를 제출할 수 없습니다.");
+        }
+        return Optional.of(entry.getResponse());
+    }
+
+    public synchronized void put(Long jobPostingId, String idempotencyKey, String applicantEmail, ApplicationResponseDto response) {
+        evictExpired();
+        String key = key(jobPostingId, idempotencyKey);
+        entries.remove(key);
+        entries.put(key, new Entry(applicantEmail, response, System.currentTimeMillis() + ttlSeconds * 1000));
+        while (entries.size() > maxEntries) {
+            Iterator<String> oldest = entries.keySet().iterator();
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && iterator.next().getValue().getExpiresAt() <= now) {
+            iterator.remove();
+        }
+    }
+
+    private String key(Long jobPostingId, String idempotencyKey) {
+        return jobPostingId + ":" + idempotencyKey;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Entry {
+        private final String applicantEmail;
+        private final ApplicationResponseDto response;
+        private final long expiresAt;
+    }
+}
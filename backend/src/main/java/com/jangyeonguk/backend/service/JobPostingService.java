@@ -1,12 +1,12 @@
 package com.jangyeonguk.backend.service;
 
-import com.jangyeonguk.backend.domain.application.Application;
 import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestion;
 import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionCriterion;
 import com.jangyeonguk.backend.domain.coverletter.CoverLetterQuestionCriterionDetail;
 import com.jangyeonguk.backend.domain.jobposting.Company;
 import com.jangyeonguk.backend.domain.jobposting.JobPosting;
 import com.jangyeonguk.backend.domain.jobposting.PostingStatus;
+import com.jangyeonguk.backend.domain.jobposting.TrainingStatus;
 import com.jangyeonguk.backend.domain.resume.ResumeItem;
 import com.jangyeonguk.backend.domain.resume.ResumeItemCriterion;
 import com.jangyeonguk.backend.dto.jobposting.JobPostingCreateRequestDto;
@@ -14,16 +14,14 @@ import com.jangyeonguk.backend.dto.jobposting.JobPostingResponseDto;
 import com.jangyeonguk.backend.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -43,12 +41,9 @@ public class JobPostingService {
     private final CoverLetterQuestionCriterionRepository coverLetterQuestionCriterionRepository;
     private final CoverLetterQuestionCriterionDetailRepository coverLetterQuestionCriterionDetailRepository;
     private final CompanyRepository companyRepository;
-
-
-    @Value("${fastapi.base-url:http://localhost:8000}")
-    private String fastApiBaseUrl;
-
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final ApplicationScoreCalculator applicationScoreCalculator;
+    private final EvaluationCriteriaCache evaluationCriteriaCache;
+    private final JobPostingStatsService jobPostingStatsService;
 
     /**
      * 채용공고 등록
@@ -80,6 +75,7 @@ public class JobPostingService {
                 .aiAutomaticEvaluation(request.getAiAutomaticEvaluation())
                 .manualReview(request.getManualReview())
                 .postingStatus(request.getPostingStatus())
+                .trainingStatus(TrainingStatus.PENDING)
                 .company(company)
                 .build();
 
@@ -93,6 +89,7 @@ public class JobPostingService {
         String publicLinkUrl = generatePublicLinkUrl(savedJobPosting.getId());
         savedJobPosting.setPublicLinkUrl(publicLinkUrl);
         jobPostingRepository.save(savedJobPosting);
+        jobPostingStatsService.created(savedJobPosting.getId());
 
         // ResumeItems 저장
         if (request.getResumeItems() != null) {
@@ -168,51 +165,14 @@ public class JobPostingService {
         }
 
         // JobPostingResponseDto 생성
-        JobPostingResponseDto response = JobPostingResponseDto.from(savedJobPosting);
-
-        // FAST API에 평가 기준 학습 요청 (동기)
-        try {
-            log.info("평가 기준 학습 시작 - JobPosting ID: {}", savedJobPosting.getId());
-
-            Map<String, Object> evaluationData = response.toFastApiEvaluationData();
-            String fastApiResponse = sendEvaluationDataToFastApi(evaluationData);
+        JobPostingResponseDto response = JobPostingResponseDto.from(savedJobPosting, 0);
 
-            log.info("평가 기준 학습 완료 - JobPosting ID: {}, Response: {}", savedJobPosting.getId(), fastApiResponse);
-
-        } catch (Exception e) {
-            log.error("FAST API 연동 실패 - JobPosting ID: {}", savedJobPosting.getId(), e);
-            throw new RuntimeException("평가 기준 학습에 실패했습니다: " + e.getMessage());
-        }
+        // 평가 기준 학습은 커밋 후 CriteriaTrainingDispatcher가 비동기로 요청 (학습 완료 전 지원서는 아웃박스에서 대기)
+        log.info("채용공고 등록 완료, 평가 기준 학습 대기 - JobPosting ID: {}", savedJobPosting.getId());
 
         return response;
     }
 
-    /**
-     * FAST API에 평가 기준 데이터 전송 (동기)
-     */
-    private String sendEvaluationDataToFastApi(Map<String, Object> evaluationData) {
-        try {
-            String url = fastApiBaseUrl + "/api/evaluation-criteria/train";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(evaluationData, headers);
-
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                return response.getBody();
-            } else {
-                throw new RuntimeException("FAST API 응답 오류: " + response.getStatusCode());
-            }
-
-        } catch (Exception e) {
-            log.error("FAST API 통신 실패", e);
-            throw new RuntimeException("FAST API 통신 실패: " + e.getMessage());
-        }
-    }
-
     /**
      * 채용공고 조회
      */
@@ -220,70 +180,43 @@ public class JobPostingService {
         JobPosting jobPosting = jobPostingRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + id));
 
-        return JobPostingResponseDto.from(jobPosting);
+        return JobPostingResponseDto.from(jobPosting, jobPostingStatsService.applicationCount(id));
     }
 
     /**
-     * 채용공고 목록 조회
+     * 채용공고 목록 조회 (지원서 수는 공고별 집계에서 한 번에 조회)
      */
     public List<JobPostingResponseDto> getJobPostings() {
         List<JobPosting> jobPostings = jobPostingRepository.findAll();
+        Map<Long, Long> applicationCounts = jobPostingStatsService.applicationCounts(
+                jobPostings.stream().map(JobPosting::getId).collect(Collectors.toList()));
         return jobPostings.stream()
-                .map(JobPostingResponseDto::from)
+                .map(jobPosting -> JobPostingResponseDto.from(jobPosting, applicationCounts.getOrDefault(jobPosting.getId(), 0L)))
                 .collect(Collectors.toList());
     }
 
     /**
      * 채용공고와 모든 지원서 데이터 조회 (통합 API)
+     * 공고/평가 기준/지원서/답변을 지원서 수와 무관한 고정 개수의 쿼리로 읽는다 (한 쿼리에 컬렉션 하나씩 fetch join).
+     * 이력서 정량 점수는 평가 결과 수신 시 계산되므로 조회 중에는 아무것도 저장하지 않는다.
      */
-    @Transactional
     public JobPostingResponseDto getJobPostingWithApplications(Long id) {
-        JobPosting jobPosting = jobPostingRepository.findById(id)
+        JobPosting jobPosting = jobPostingRepository.findWithApplicationsById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + id));
 
-        // LAZY 로딩된 applications를 명시적으로 로드
-        jobPosting.getApplications().size();
-        
-        // 각 application의 관련 데이터도 로드하고 resumeQuantitativeScore 계산 및 저장
-        jobPosting.getApplications().forEach(application -> {
-            application.getResumeItemAnswers().size();
-            application.getCoverLetterQuestionAnswers().size();
-            application.getApplicant().getName(); // applicant 정보 로드
-            
-            // resumeQuantitativeScore 계산 및 저장
-            calculateAndSaveResumeQuantitativeScore(application);
-        });
+        // 평가 기준 트리 (항목 -> 기준, 질문 -> 기준 -> 세부 기준)
+        jobPostingRepository.fetchResumeItemsById(id);
+        resumeItemRepository.findWithCriteriaByJobPostingId(id);
+        jobPostingRepository.fetchCoverLetterQuestionsById(id);
+        coverLetterQuestionRepository.findWithCriteriaByJobPostingId(id);
+        coverLetterQuestionCriterionRepository.findWithDetailsByJobPostingId(id);
+
+        // 지원서 답변 (답변이 가리키는 항목/질문 포함)
+        applicationRepository.fetchResumeItemAnswersByJobPostingId(id);
+        applicationRepository.fetchCoverLetterQuestionAnswersByJobPostingId(id);
 
         return JobPostingResponseDto.fromWithApplications(jobPosting);
     }
-    
-    /**
-     * 지원서의 resumeQuantitativeScore 계산 및 저장
-     */
-    private void calculateAndSaveResumeQuantitativeScore(Application application) {
-        try {
-            // resumeItemAnswers의 resumeScore 합계 계산
-            int totalResumeScore = application.getResumeItemAnswers().stream()
-                    .mapToInt(answer -> answer.getResumeScore() != null ? answer.getResumeScore() : 0)
-                    .sum();
-            
-            // 기존 값과 다르면 업데이트
-            if (application.getResumeQuantitativeScore() == null || 
-                !application.getResumeQuantitativeScore().equals(totalResumeScore)) {
-                
-                application.setResumeQuantitativeScore(totalResumeScore);
-                applicationRepository.save(application);
-                
-                log.info("resumeQuantitativeScore 업데이트 - Application ID: {}, 지원자: {}, 점수: {}점", 
-                        application.getId(), 
-                        application.getApplicant().getName(), 
-                        totalResumeScore);
-            }
-        } catch (Exception e) {
-            log.error("resumeQuantitativeScore 계산 실패 - Application ID: {}, Error: {}", 
-                    application.getId(), e.getMessage(), e);
-        }
-    }
 
     /**
      * 채용공고 수정
@@ -294,6 +227,11 @@ public class JobPostingService {
         JobPosting existingJobPosting = jobPostingRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + id));
 
+        // 배점 비중/합격기준점수가 바뀌면 지원서 가중 점수를 다시 계산
+        boolean scoringChanged = !Objects.equals(existingJobPosting.getResumeScoreWeight(), request.getResumeScoreWeight())
+                || !Objects.equals(existingJobPosting.getCoverLetterScoreWeight(), request.getCoverLetterScoreWeight())
+                || !Objects.equals(existingJobPosting.getPassingScore(), request.getPassingScore());
+
         // 기존 데이터를 새로운 데이터로 업데이트
         existingJobPosting.setTitle(request.getTitle());
         existingJobPosting.setTeamDepartment(request.getTeamDepartment());
@@ -408,7 +346,11 @@ public class JobPostingService {
         }
 
         JobPosting updatedJobPosting = jobPostingRepository.save(existingJobPosting);
-        return JobPostingResponseDto.from(updatedJobPosting);
+        evaluationCriteriaCache.invalidateAfterCommit(id);
+        if (scoringChanged) {
+            applicationScoreCalculator.recompute(updatedJobPosting);
+        }
+        return JobPostingResponseDto.from(updatedJobPosting, jobPostingStatsService.applicationCount(id));
     }
 
     /**
@@ -0,0 +1,324 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.domain.jobposting.JobPostingStats;
+import com.jangyeonguk.backend.domain.jobposting.PostingStatus;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+import com.jangyeonguk.backend.repository.JobPostingStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 공고별 지원서 집계 (job_posting_stats) 관리와 통계 조회
+ * 지원서 제출/상태 변경 시 증감분을 트랜잭션 안에 모아 두었다가 커밋 직전에 공고마다 UPDATE 한 번으로 반영한다
+ * (대량 가져오기 청크도 공고당 한 번). 통계 조회는 집계 테이블만 읽고, 결과는 짧게 캐시했다가 집계가 바뀌면 커밋 후 무효화한다.
+ * 집계 행이 없는 공고(집계 도입 전 공고)는 지원서 테이블에서 세며, 시작 시 재계산으로 행을 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobPostingStatsService {
+
+    private static final List<ApplicationStatus> COMPLETED_STATUSES = List.of(ApplicationStatus.ACCEPTED, ApplicationStatus.REJECTED);
+
+    private final JobPostingStatsRepository jobPostingStatsRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final ApplicationRepository applicationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${job-posting-stats.cache-ttl-ms:5000}")
+    private long cacheTtlMs;
+
+    @Value("${job-posting-stats.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    private volatile CachedStatistics cached;
+    private long invalidations; // 조회 도중 무효화가 있었으면 조회 결과를 캐시에 넣지 않음
+
+    /**
+     * 새 공고의 집계 행 생성
+     */
+    public void created(Long jobPostingId) {
+        jobPostingStatsRepository.save(JobPostingStats.builder().jobPostingId(jobPostingId).build());
+        invalidateAfterCommit();
+    }
+
+    /**
+     * 지원서 제출 반영
+     */
+    public void applicationSubmitted(Long jobPostingId) {
+        addDelta(jobPostingId, 1, 0);
+    }
+
+    /**
+     * 지원서 상태 변경 반영 (평가 완료 여부가 바뀔 때만 증감)
+     */
+    public void statusChanged(Long jobPostingId, ApplicationStatus from, ApplicationStatus to) {
+        int delta = (COMPLETED_STATUSES.contains(to) ? 1 : 0) - (COMPLETED_STATUSES.contains(from) ? 1 : 0);
+        if (delta != 0) {
+            addDelta(jobPostingId, 0, delta);
+        }
+    }
+
+    /**
+     * 공고들의 지원서 수 (집계 행이 없는 공고는 지원서 테이블에서 GROUP BY로 셈)
+     */
+    public Map<Long, Long> applicationCounts(Collection<Long> jobPostingIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (jobPostingIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : jobPostingStatsRepository.findApplicationCounts(jobPostingIds)) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        List<Long> missing = jobPostingIds.stream().filter(id -> !counts.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            Map<Long, long[]> grouped = countByJobPosting(missing);
+            missing.forEach(id -> counts.put(id, grouped.getOrDefault(id, new long[2])[0]));
+        }
+        return counts;
+    }
+
+    public long applicationCount(Long jobPostingId) {
+        return applicationCounts(List.of(jobPostingId)).get(jobPostingId);
+    }
+
+    /**
+     * 공고별 지원서 통계 조회 (모집완료/모집중 공고만 전체 통계에 누적)
+     */
+    public Map<String, Object> getStatistics() {
+        CachedStatistics current = cached;
+        if (current != null && current.expiresAt > System.currentTimeMillis()) {
+            return current.statistics;
+        }
+
+        long stamp;
+        synchronized (this) {
+            stamp = invalidations;
+        }
+        Map<String, Object> statistics = Collections.unmodifiableMap(loadStatistics());
+        synchronized (this) {
+            if (stamp == invalidations) {
+                cached = new CachedStatistics(statistics, System.currentTimeMillis() + cacheTtlMs);
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * 통계 캐시 무효화 (현재 트랜잭션이 커밋된 뒤)
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    public synchronized void invalidate() {
+        invalidations++;
+        cached = null;
+    }
+
+    /**
+     * 시작 시 집계 재계산 (마이그레이션 없이 스키마가 만들어진 환경에서도 기존 공고의 집계 행을 채움)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!reconcileOnStartup) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("시작 시 공고별 지원서 집계 재계산 실패 (정기 재계산에서 다시 시도)", e);
+        }
+    }
+
+    /**
+     * 지원서 테이블 기준으로 집계 재계산 (증감 누락 보정)
+     * 집계 행을 잠근 뒤 세므로, 그 사이 커밋하려는 트랜잭션의 증감은 재계산 후에 더해진다.
+     */
+    @Scheduled(cron = "${job-posting-stats.reconcile.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Map<Long, JobPostingStats> rows = new HashMap<>();
+            jobPostingStatsRepository.findAllForUpdate().forEach(row -> rows.put(row.getJobPostingId(), row));
+
+            List<Long> jobPostingIds = jobPostingRepository.findAllIds();
+            Map<Long, long[]> counts = countByJobPosting(jobPostingIds);
+            int corrected = 0;
+            for (Long jobPostingId : jobPostingIds) {
+                long[] count = counts.getOrDefault(jobPostingId, new long[2]);
+                JobPostingStats row = rows.computeIfAbsent(jobPostingId,
+                        id -> JobPostingStats.builder().jobPostingId(id).build());
+                if (row.getTotalApplications() != count[0] || row.getCompletedEvaluations() != count[1]) {
+                    row.setTotalApplications(count[0]);
+                    row.setCompletedEvaluations(count[1]);
+                    jobPostingStatsRepository.save(row);
+                    corrected++;
+                }
+            }
+            log.info("공고별 지원서 집계 재계산 완료 - 공고: {}개, 보정: {}개", jobPostingIds.size(), corrected);
+        });
+        invalidate();
+    }
+
+    private void addDelta(Long jobPostingId, long totalDelta, long completedDelta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(jobPostingId, totalDelta, completedDelta);
+            invalidate();
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, long[]> pending = (Map<Long, long[]>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Long, long[]> deltas = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // 공고 ID 순으로 반영해 여러 공고를 건드리는 트랜잭션끼리 잠금 순서가 엇갈리지 않게 함
+                    new TreeMap<>(deltas).forEach((id, delta) -> apply(id, delta[0], delta[1]));
+                }
+
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(JobPostingStatsService.this);
+                }
+            });
+            pending = deltas;
+        }
+        long[] delta = pending.computeIfAbsent(jobPostingId, id -> new long[2]);
+        delta[0] += totalDelta;
+        delta[1] += completedDelta;
+    }
+
+    private void apply(Long jobPostingId, long totalDelta, long completedDelta) {
+        if (totalDelta == 0 && completedDelta == 0) {
+            return;
+        }
+        if (jobPostingStatsRepository.increment(jobPostingId, totalDelta, completedDelta, LocalDateTime.now()) == 0) {
+            // 집계 행이 없는 공고 (집계 도입 전 공고 등): 행을 먼저 만든 뒤 다시 증감
+            insertIfAbsent(jobPostingId);
+            jobPostingStatsRepository.increment(jobPostingId, totalDelta, completedDelta, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 집계 행이 없으면 커밋된 지원서 수로 생성 (별도 트랜잭션)
+     * 동시에 여러 트랜잭션이 생성하려 하면 한쪽만 성공하고 나머지는 기본키 중복을 무시한 뒤 증감만 한다.
+     * 커밋된 지원서만 세므로 각 트랜잭션의 변경분은 이어지는 증감으로 한 번씩만 더해진다.
+     */
+    private void insertIfAbsent(Long jobPostingId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                long[] count = countByJobPosting(List.of(jobPostingId)).getOrDefault(jobPostingId, new long[2]);
+                jobPostingStatsRepository.insert(jobPostingId, count[0], count[1], LocalDateTime.now());
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("공고 집계 행이 이미 생성됨 - 공고 ID: {}", jobPostingId);
+        }
+    }
+
+    private Map<Long, long[]> countByJobPosting(Collection<Long> jobPostingIds) {
+        Map<Long, long[]> counts = new HashMap<>();
+        if (jobPostingIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : applicationRepository.countGroupedByJobPostingId(jobPostingIds, COMPLETED_STATUSES)) {
+            counts.put((Long) row[0], new long[]{((Number) row[1]).longValue(), row[2] != null ? ((Number) row[2]).longValue() : 0});
+        }
+        return counts;
+    }
+
+    private Map<String, Object> loadStatistics() {
+        long totalApplications = 0;
+        long totalCompletedEvaluations = 0;
+        List<Map<String, Object>> jobPostingStats = new ArrayList<>();
+
+        List<Object[]> rows = jobPostingStatsRepository.findAllWithJobPosting();
+        // 집계 행이 없는 공고는 지원서 테이블에서 한 번에 셈
+        Map<Long, long[]> fallbackCounts = countByJobPosting(rows.stream()
+                .filter(row -> row[5] == null)
+                .map(row -> (Long) row[0])
+                .toList());
+
+        for (Object[] row : rows) {
+            PostingStatus postingStatus = (PostingStatus) row[2];
+            long[] fallback = row[5] == null ? fallbackCounts.getOrDefault((Long) row[0], new long[2]) : null;
+            long applications = fallback != null ? fallback[0] : ((Number) row[3]).longValue();
+            long completed = fallback != null ? fallback[1] : ((Number) row[4]).longValue();
+
+            Map<String, Object> jobPostingStat = new HashMap<>();
+            jobPostingStat.put("jobPostingId", row[0]);
+            jobPostingStat.put("jobPostingTitle", row[1]);
+            jobPostingStat.put("totalApplications", applications);
+            jobPostingStat.put("completedEvaluations", completed);
+            jobPostingStat.put("pendingEvaluations", applications - completed);
+            jobPostingStat.put("completionRate", completionRate(completed, applications));
+            jobPostingStat.put("postingStatus", postingStatus);
+            jobPostingStats.add(Collections.unmodifiableMap(jobPostingStat));
+
+            // 모집완료(CLOSED)와 모집중(IN_PROGRESS) 공고만 전체 통계에 누적
+            if (postingStatus == PostingStatus.CLOSED || postingStatus == PostingStatus.IN_PROGRESS) {
+                totalApplications += applications;
+                totalCompletedEvaluations += completed;
+            }
+        }
+
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalApplications", totalApplications);
+        statistics.put("totalCompletedEvaluations", totalCompletedEvaluations);
+        statistics.put("totalPendingEvaluations", totalApplications - totalCompletedEvaluations);
+        statistics.put("totalCompletionRate", completionRate(totalCompletedEvaluations, totalApplications));
+        statistics.put("jobPostingStatistics", Collections.unmodifiableList(jobPostingStats));
+        return statistics;
+    }
+
+    private static double completionRate(long completed, long total) {
+        return total > 0 ? Math.round((double) completed / total * 100 * 100) / 100.0 : 0.0;
+    }
+
+    /**
+     * 캐시된 통계와 만료 시각
+     */
+    private static class CachedStatistics {
+        private final Map<String, Object> statistics;
+        private final long expiresAt;
+
+        private CachedStatistics(Map<String, Object> statistics, long expiresAt) {
+            this.statistics = statistics;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
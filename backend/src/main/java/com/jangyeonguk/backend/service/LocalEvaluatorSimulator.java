@@ -0,0 +1,236 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
+import com.jangyeonguk.backend.exception.TooManyRequestsException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FastAPI 평가 서버 대역 (local-evaluator 프로필 전용, 부하 테스트용)
+ * 접수한 지원서마다 설정한 지연 분포(로그정규, 중앙값/p99)만큼 기다린 뒤 임의 평가 결과를 평가 결과 콜백으로 보낸다.
+ * 동시 평가 수는 세마포어로 제한하고, 대기까지 가득 차면 접수를 429로 거절하며, 설정한 비율만큼 요청을 실패(503)시킨다.
+ */
+@Component
+@Profile("local-evaluator")
+@RequiredArgsConstructor
+@Slf4j
+public class LocalEvaluatorSimulator {
+
+    private static final double Z_99 = 2.326; // 표준정규분포 99퍼센타일
+    private static final String[] GRADES = {"EXCELLENT", "GOOD", "NORMAL", "POOR"};
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${local-evaluator.latency.median-ms:800}")
+    private long latencyMedianMs;
+
+    @Value("${local-evaluator.latency.p99-ms:5000}")
+    private long latencyP99Ms;
+
+    @Value("${local-evaluator.error-rate:0.0}")
+    private double errorRate;
+
+    @Value("${local-evaluator.max-concurrency:50}")
+    private int maxConcurrency;
+
+    @Value("${local-evaluator.max-queued:5000}")
+    private int maxQueued;
+
+    @Value("${local-evaluator.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    @Value("${local-evaluator.callback.enabled:true}")
+    private boolean callbackEnabled;
+
+    @Value("${local-evaluator.callback.url:http://localhost:8080/api/applications/evaluation-result}")
+    private String callbackUrl;
+
+    private final Map<Long, JsonNode> trainedCriteria = new ConcurrentHashMap<>(); // 공고 ID -> 학습 요청 데이터
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(3)).build();
+    private final AtomicInteger pending = new AtomicInteger(); // 평가 중 + 대기 중
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong callbacksSucceeded = new AtomicLong();
+    private final AtomicLong callbacksFailed = new AtomicLong();
+    private final AtomicLong totalLatencyMs = new AtomicLong();
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 설정한 오류 비율에 따라 이번 요청을 실패시킬지 결정
+     */
+    public boolean shouldFail() {
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 평가 기준 학습 (채점용 항목 배점과 자기소개서 평가 기준 이름을 기억)
+     */
+    public void train(JsonNode evaluationData) {
+        trainedCriteria.put(evaluationData.path("jobPostingId").asLong(), evaluationData);
+    }
+
+    /**
+     * 지원서 접수 (평가는 비동기로 진행되고 결과는 콜백으로 전송)
+     */
+    public void submit(List<JsonNode> applications) {
+        if (pending.addAndGet(applications.size()) > maxConcurrency + maxQueued) {
+            pending.addAndGet(-applications.size());
+            rejected.addAndGet(applications.size());
+            throw new TooManyRequestsException("대역 평가 서버 대기열이 가득 찼습니다.", retryAfterSeconds);
+        }
+        for (JsonNode application : applications) {
+            executor.execute(() -> evaluate(application));
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        long completed = callbacksSucceeded.get() + callbacksFailed.get();
+        stats.put("pending", pending.get());
+        stats.put("running", maxConcurrency - permits.availablePermits());
+        stats.put("injectedErrors", injectedErrors.get());
+        stats.put("rejected", rejected.get());
+        stats.put("callbacksSucceeded", callbacksSucceeded.get());
+        stats.put("callbacksFailed", callbacksFailed.get());
+        stats.put("averageLatencyMs", completed > 0 ? totalLatencyMs.get() / completed : 0);
+        return stats;
+    }
+
+    private void evaluate(JsonNode application) {
+        try {
+            permits.acquire();
+            try {
+                long latencyMs = sampleLatencyMs();
+                Thread.sleep(latencyMs);
+                totalLatencyMs.addAndGet(latencyMs);
+                if (callbackEnabled) {
+                    sendCallback(createResult(application));
+                }
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            callbacksFailed.incrementAndGet();
+            log.warn("[대역 평가 서버] 평가 결과 콜백 실패 - Application ID: {}, 오류: {}",
+                    application.path("applicationId").asText(), e.getMessage());
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    private void sendCallback(EvaluationResultDto result) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(callbackUrl))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(result)))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("콜백 응답 코드 " + response.statusCode());
+        }
+        callbacksSucceeded.incrementAndGet();
+    }
+
+    /**
+     * 임의 평가 결과 생성 (학습한 공고면 항목 배점과 평가 기준 이름을 사용)
+     */
+    private EvaluationResultDto createResult(JsonNode application) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long jobPostingId = application.path("jobPostingId").asLong();
+        JsonNode criteria = trainedCriteria.get(jobPostingId);
+
+        Map<Long, Integer> maxScores = new HashMap<>();
+        Map<Long, List<String>> criteriaNames = new HashMap<>();
+        if (criteria != null) {
+            criteria.path("resumeItems").forEach(item -> maxScores.put(item.path("id").asLong(), item.path("scoreWeight").asInt(10)));
+            criteria.path("coverLetterQuestions").forEach(question -> {
+                List<String> names = new ArrayList<>();
+                question.path("criteria").forEach(criterion -> names.add(criterion.path("name").asText()));
+                criteriaNames.put(question.path("id").asLong(), names);
+            });
+        }
+
+        List<EvaluationResultDto.ResumeEvaluationDto> resumeEvaluations = new ArrayList<>();
+        application.path("resumeItemAnswers").forEach(answer -> {
+            long resumeItemId = answer.path("resumeItemId").asLong();
+            resumeEvaluations.add(new EvaluationResultDto.ResumeEvaluationDto(resumeItemId,
+                    answer.path("resumeItemName").asText(null), answer.path("resumeContent").asText(null),
+                    random.nextInt(maxScores.getOrDefault(resumeItemId, 10) + 1)));
+        });
+
+        List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> coverEvaluations = new ArrayList<>();
+        application.path("coverLetterQuestionAnswers").forEach(answer -> {
+            long questionId = answer.path("coverLetterQuestionId").asLong();
+            List<String> names = criteriaNames.getOrDefault(questionId, List.of());
+            List<EvaluationResultDto.CoverLetterAnswerEvaluationDto> answerEvaluations = new ArrayList<>();
+            for (String name : names.isEmpty() ? List.of("종합") : names) {
+                answerEvaluations.add(new EvaluationResultDto.CoverLetterAnswerEvaluationDto(name,
+                        GRADES[random.nextInt(GRADES.length)], "대역 평가 대상 문장", "대역 평가 서버가 임의로 매긴 등급"));
+            }
+            coverEvaluations.add(new EvaluationResultDto.CoverLetterQuestionEvaluationDto(questionId,
+                    List.of("키워드" + random.nextInt(10), "키워드" + random.nextInt(10)), "대역 평가 요약", answerEvaluations));
+        });
+
+        EvaluationResultDto result = new EvaluationResultDto();
+        result.setApplicantId(application.path("applicantId").asLong());
+        result.setApplicantName(application.path("applicantName").asText(null));
+        result.setApplicantEmail(application.path("applicantEmail").asText(null));
+        result.setApplicationId(application.path("applicationId").asLong());
+        result.setJobPostingId(jobPostingId);
+        result.setResumeEvaluations(resumeEvaluations);
+        result.setCoverLetterQuestionEvaluations(coverEvaluations);
+        result.setOverallAnalysis(new EvaluationResultDto.OverallAnalysisDto("대역 평가 서버 종합평가",
+                List.of("강점 1", "강점 2"), List.of("개선점 1"),
+                random.nextBoolean() ? "합격 권장" : "탈락 권장", Math.round(random.nextDouble(0.5, 1.0) * 100) / 100.0));
+        return result;
+    }
+
+    /**
+     * 지연 시간 샘플 (중앙값과 p99로 정한 로그정규분포, 두 값이 같으면 고정 지연)
+     */
+    private long sampleLatencyMs() {
+        if (latencyMedianMs <= 0) {
+            return 0;
+        }
+        double sigma = latencyP99Ms > latencyMedianMs ? Math.log((double) latencyP99Ms / latencyMedianMs) / Z_99 : 0;
+        return Math.round(latencyMedianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+}
@@ -0,0 +1,52 @@
+-- 평가 결과 정규화 (항목 점수/기준별 등급/코멘트를 행으로 저장, JSON 컬럼은 기존 API 호환용으로 유지)
+ALTER TABLE evaluation_results
+ADD COLUMN overall_comment TEXT,
+ADD COLUMN ai_recommendation VARCHAR(50),
+ADD COLUMN ai_reliability DOUBLE PRECISION,
+ADD COLUMN normalized BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_evaluation_results_ai_recommendation ON evaluation_results (job_posting_id, ai_recommendation);
+CREATE INDEX IF NOT EXISTS idx_evaluation_results_ai_reliability ON evaluation_results (job_posting_id, ai_reliability);
+CREATE INDEX IF NOT EXISTS idx_evaluation_results_normalized ON evaluation_results (normalized);
+
+CREATE SEQUENCE IF NOT EXISTS evaluation_item_scores_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS evaluation_criterion_grades_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS evaluation_remarks_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS evaluation_item_scores (
+    id BIGINT PRIMARY KEY,
+    evaluation_result_id BIGINT NOT NULL REFERENCES evaluation_results (id),
+    resume_item_id BIGINT,
+    resume_item_name VARCHAR(255),
+    resume_content TEXT,
+    score INTEGER,
+    max_score INTEGER,
+    position INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS evaluation_criterion_grades (
+    id BIGINT PRIMARY KEY,
+    evaluation_result_id BIGINT NOT NULL REFERENCES evaluation_results (id),
+    cover_letter_question_id BIGINT,
+    criteria_name VARCHAR(255),
+    grade VARCHAR(20),
+    evaluated_content TEXT,
+    evaluation_reason TEXT,
+    position INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS evaluation_remarks (
+    id BIGINT PRIMARY KEY,
+    evaluation_result_id BIGINT NOT NULL REFERENCES evaluation_results (id),
+    type VARCHAR(20) NOT NULL,
+    cover_letter_question_id BIGINT,
+    content TEXT NOT NULL,
+    position INTEGER NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_evaluation_item_scores_result ON evaluation_item_scores (evaluation_result_id);
+CREATE INDEX IF NOT EXISTS idx_evaluation_item_scores_resume_item_score ON evaluation_item_scores (resume_item_id, score);
+CREATE INDEX IF NOT EXISTS idx_evaluation_criterion_grades_result ON evaluation_criterion_grades (evaluation_result_id);
+CREATE INDEX IF NOT EXISTS idx_evaluation_criterion_grades_question_grade ON evaluation_criterion_grades (cover_letter_question_id, grade);
+CREATE INDEX IF NOT EXISTS idx_evaluation_remarks_result ON evaluation_remarks (evaluation_result_id);
+CREATE INDEX IF NOT EXISTS idx_evaluation_remarks_type ON evaluation_remarks (type);
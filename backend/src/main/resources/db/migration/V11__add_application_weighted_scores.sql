@@ -0,0 +1,14 @@
+-- 지원서 가중 점수/합격 여부 (평가 결과 수신 시 계산, 기존 지원서는 평가 결과 정규화 이전 작업에서 채움)
+ALTER TABLE applications
+ADD COLUMN resume_score_ratio DOUBLE PRECISION,
+ADD COLUMN cover_letter_score_ratio DOUBLE PRECISION,
+ADD COLUMN resume_weighted_score DOUBLE PRECISION,
+ADD COLUMN cover_letter_weighted_score DOUBLE PRECISION,
+ADD COLUMN final_score DOUBLE PRECISION,
+ADD COLUMN passed BOOLEAN;
+
+CREATE INDEX IF NOT EXISTS idx_applications_job_posting_final_score ON applications (job_posting_id, final_score);
+CREATE INDEX IF NOT EXISTS idx_applications_job_posting_passed_final_score ON applications (job_posting_id, passed, final_score);
+
+-- 이미 정규화된 평가 결과도 다시 이전 작업을 거쳐 점수를 채우도록 표시
+UPDATE evaluation_results SET normalized = FALSE;
@@ -0,0 +1,38 @@
+-- 평가 결과를 지원서별 버전 이력으로 저장 (재평가는 새 버전 추가 후 지원서의 현재 평가 결과만 교체)
+ALTER TABLE evaluation_results
+ADD COLUMN result_version INTEGER NOT NULL DEFAULT 1;
+
+ALTER TABLE applications
+ADD COLUMN current_evaluation_result_id BIGINT;
+
+-- 지원서당 하나로 묶던 유니크 제약(@OneToOne) 제거
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'evaluation_results'::regclass
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname = 'application_id'
+    LOOP
+        EXECUTE format('ALTER TABLE evaluation_results DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
+
+-- (지원서, 버전) 유니크 인덱스가 지원서 ID 조회도 처리하므로 기존 단일 컬럼 인덱스는 제거
+DROP INDEX IF EXISTS idx_evaluation_results_application;
+ALTER TABLE evaluation_results
+ADD CONSTRAINT uk_evaluation_results_application_version UNIQUE (application_id, result_version);
+
+-- 기존 평가 결과를 현재 평가 결과로 지정
+UPDATE applications a
+SET current_evaluation_result_id = (SELECT MAX(r.id) FROM evaluation_results r WHERE r.application_id = a.id);
+
+-- 평가 결과 ID를 IDENTITY 대신 pooled 시퀀스로 발급 (일괄 콜백의 INSERT를 JDBC 배치로 묶기 위함)
+-- allocationSize(50)와 INCREMENT BY 값이 반드시 같아야 함
+CREATE SEQUENCE IF NOT EXISTS evaluation_results_seq INCREMENT BY 50;
+SELECT setval('evaluation_results_seq', COALESCE((SELECT MAX(id) FROM evaluation_results), 0) + 1, false);
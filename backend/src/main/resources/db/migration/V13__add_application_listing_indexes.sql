@@ -0,0 +1,8 @@
+-- 지원서 제출 시각 (기존 지원서는 제출 시각을 알 수 없어 비워 둠, 제출 시각 필터에서 제외됨)
+ALTER TABLE applications ADD COLUMN submitted_at TIMESTAMP;
+
+-- 지원서 목록 커서 페이지 (ID 내림차순) 조회용 인덱스
+CREATE INDEX IF NOT EXISTS idx_applications_job_posting_id ON applications (job_posting_id, id);
+CREATE INDEX IF NOT EXISTS idx_applications_job_posting_status_id ON applications (job_posting_id, status, id);
+CREATE INDEX IF NOT EXISTS idx_applications_status_id ON applications (status, id);
+CREATE INDEX IF NOT EXISTS idx_applications_submitted_at ON applications (submitted_at);
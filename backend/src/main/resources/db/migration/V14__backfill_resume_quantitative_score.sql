@@ -0,0 +1,7 @@
+-- 이력서 정량 점수를 조회 시 계산하지 않고 평가 결과 수신 시 저장하므로, 이전에 조회된 적 없는 지원서의 값을 채움
+UPDATE applications a
+SET resume_quantitative_score = (
+    SELECT COALESCE(SUM(r.resume_score), 0) FROM resume_item_answers r WHERE r.application_id = a.id
+)
+WHERE a.resume_quantitative_score IS NULL
+  AND EXISTS (SELECT 1 FROM resume_item_answers r WHERE r.application_id = a.id AND r.resume_score IS NOT NULL);
@@ -0,0 +1,18 @@
+-- 공고별 지원서 집계 (지원서 제출/상태 변경 시 같은 트랜잭션에서 증감)
+CREATE TABLE IF NOT EXISTS job_posting_stats (
+    job_posting_id BIGINT PRIMARY KEY REFERENCES job_postings (id),
+    total_applications BIGINT NOT NULL DEFAULT 0,
+    completed_evaluations BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP
+);
+
+-- 기존 공고 집계 채우기
+INSERT INTO job_posting_stats (job_posting_id, total_applications, completed_evaluations, updated_at)
+SELECT j.id,
+       COUNT(a.id),
+       COUNT(a.id) FILTER (WHERE a.status IN ('ACCEPTED', 'REJECTED')),
+       NOW()
+FROM job_postings j
+LEFT JOIN applications a ON a.job_posting_id = j.id
+GROUP BY j.id
+ON CONFLICT (job_posting_id) DO NOTHING;
@@ -0,0 +1,10 @@
+-- 지원서/답변 ID를 IDENTITY 대신 pooled 시퀀스로 발급 (JDBC 배치 INSERT 가능하도록)
+-- allocationSize(50)와 INCREMENT BY 값이 반드시 같아야 함
+CREATE SEQUENCE IF NOT EXISTS applications_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS resume_item_answers_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS cover_letter_question_answers_seq INCREMENT BY 50;
+
+-- 기존 데이터와 ID가 겹치지 않도록 시퀀스 시작값 보정
+SELECT setval('applications_seq', COALESCE((SELECT MAX(id) FROM applications), 0) + 1, false);
+SELECT setval('resume_item_answers_seq', COALESCE((SELECT MAX(id) FROM resume_item_answers), 0) + 1, false);
+SELECT setval('cover_letter_question_answers_seq', COALESCE((SELECT MAX(id) FROM cover_letter_question_answers), 0) + 1, false);
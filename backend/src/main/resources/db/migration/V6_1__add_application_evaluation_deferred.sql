@@ -0,0 +1,6 @@
+-- 지원서 평가 요청 전송지연 표시 (제출 시 평가 대기열이 포화였던 지원서)
+ALTER TABLE applications ADD COLUMN evaluation_deferred BOOLEAN;
+
+-- 아직 전송되지 않은 전송지연 요청의 지원서 표시
+UPDATE applications SET evaluation_deferred = TRUE
+WHERE id IN (SELECT application_id FROM evaluation_outbox WHERE status = 'DEFERRED');
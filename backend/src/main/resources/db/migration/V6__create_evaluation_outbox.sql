@@ -0,0 +1,18 @@
+-- 평가 요청 아웃박스 (지원서와 같은 트랜잭션에서 기록, 디스패처가 FastAPI로 전송)
+CREATE SEQUENCE IF NOT EXISTS evaluation_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS evaluation_outbox (
+    id BIGINT PRIMARY KEY,
+    application_id BIGINT NOT NULL,
+    job_posting_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    claimed_at TIMESTAMP,
+    last_error TEXT,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_evaluation_outbox_status_next_attempt ON evaluation_outbox (status, next_attempt_at);
@@ -0,0 +1,15 @@
+-- 평가 기준 학습 상태 (공고 등록과 분리된 비동기 학습)
+ALTER TABLE job_postings
+ADD COLUMN training_status VARCHAR(20) DEFAULT 'READY',
+ADD COLUMN training_attempts INTEGER DEFAULT 0,
+ADD COLUMN training_next_attempt_at TIMESTAMP,
+ADD COLUMN training_started_at TIMESTAMP,
+ADD COLUMN trained_at TIMESTAMP,
+ADD COLUMN training_error TEXT;
+
+-- 기존 공고는 등록 시 동기로 학습이 끝난 상태
+UPDATE job_postings
+SET training_status = 'READY', training_attempts = 0
+WHERE training_status IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_job_postings_training_status ON job_postings (training_status);
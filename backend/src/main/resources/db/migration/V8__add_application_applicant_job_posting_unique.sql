@@ -0,0 +1,5 @@
+-- 같은 지원자가 같은 공고에 중복 지원하지 못하도록 유니크 제약 추가
+-- 기존 중복 데이터가 있으면 실패하므로 먼저 아래 쿼리로 확인 후 정리 필요
+-- SELECT applicant_id, job_posting_id, COUNT(*) FROM applications GROUP BY applicant_id, job_posting_id HAVING COUNT(*) > 1;
+ALTER TABLE applications
+ADD CONSTRAINT uk_applications_applicant_job_posting UNIQUE (applicant_id, job_posting_id);
@@ -0,0 +1,5 @@
+-- 평가 결과 콜백이 지원서 ID/공고 ID로 바로 조회하는 경로의 인덱스
+CREATE INDEX IF NOT EXISTS idx_resume_item_answers_application ON resume_item_answers (application_id);
+CREATE INDEX IF NOT EXISTS idx_cover_letter_question_answers_application ON cover_letter_question_answers (application_id);
+CREATE INDEX IF NOT EXISTS idx_evaluation_results_application ON evaluation_results (application_id);
+CREATE INDEX IF NOT EXISTS idx_resume_items_job_posting ON resume_items (job_posting_id);
@@ -0,0 +1,147 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Applicant;
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.domain.jobposting.JobPosting;
+import com.jangyeonguk.backend.dto.application.ApplicationLeaderboardResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
+import com.jangyeonguk.backend.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공고별 순위표 정렬 (점수, 동점자 기준, 지원 순서)과 재구성 중 변경 반영
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationLeaderboardTest {
+
+    private static final Long JOB_POSTING_ID = 1L;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private EvaluationItemScoreRepository evaluationItemScoreRepository;
+
+    @Mock
+    private EvaluationCriterionGradeRepository evaluationCriterionGradeRepository;
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ApplicationLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new ApplicationLeaderboard(applicationRepository, evaluationItemScoreRepository,
+                evaluationCriterionGradeRepository, jobPostingRepository, transactionManager);
+        ReflectionTestUtils.setField(leaderboard, "maxPageSize", 100);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(jobPostingRepository.existsById(JOB_POSTING_ID)).thenReturn(true);
+    }
+
+    @Test
+    void ordersByScoreThenTieBreakerRulesThenApplicationId() {
+        when(applicationRepository.findScoredByJobPostingId(JOB_POSTING_ID)).thenReturn(List.of());
+        leaderboard.getPage(JOB_POSTING_ID, 10, null, 0, false); // 빈 순위표 구성
+
+        leaderboard.scoreChanged(application(3L, 80.0), resume(5), List.of());
+        leaderboard.scoreChanged(application(2L, 80.0), resume(5), List.of());
+        leaderboard.scoreChanged(application(5L, 80.0), resume(0), secondQuestionGrade("EXCELLENT"));
+        leaderboard.scoreChanged(application(6L, 80.0), resume(7), List.of());
+        leaderboard.scoreChanged(application(4L, 90.0), resume(0), List.of());
+
+        ApplicationLeaderboardResponseDto page = leaderboard.getPage(JOB_POSTING_ID, 10, null, 0, false);
+
+        // 90점 > 직무적합 등급 > 경력 점수 > 먼저 지원한 순
+        assertThat(page.getEntries()).extracting(ApplicationLeaderboardResponseDto.EntryDto::getApplicationId)
+                .containsExactly(4L, 5L, 6L, 2L, 3L);
+        assertThat(page.getEntries()).extracting(ApplicationLeaderboardResponseDto.EntryDto::getRank)
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void pagesContinueFromCursorWithRunningRank() {
+        when(applicationRepository.findScoredByJobPostingId(JOB_POSTING_ID)).thenReturn(List.of(
+                application(1L, 70.0), application(2L, 90.0), application(3L, 80.0)));
+
+        ApplicationLeaderboardResponseDto first = leaderboard.getPage(JOB_POSTING_ID, 2, null, 0, false);
+        ApplicationLeaderboardResponseDto second = leaderboard.getPage(JOB_POSTING_ID, 2, first.getNextCursor(), first.getNextRank(), false);
+
+        assertThat(first.getEntries()).extracting(ApplicationLeaderboardResponseDto.EntryDto::getApplicationId).containsExactly(2L, 3L);
+        assertThat(first.getNextCursor()).isEqualTo(3L);
+        assertThat(second.getEntries()).extracting(ApplicationLeaderboardResponseDto.EntryDto::getApplicationId).containsExactly(1L);
+        assertThat(second.getEntries().get(0).getRank()).isEqualTo(3);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void changeCommittedDuringRebuildIsApplied() {
+        when(applicationRepository.findScoredByJobPostingId(JOB_POSTING_ID)).thenAnswer(invocation -> {
+            // 재구성이 DB를 읽는 사이에 다른 트랜잭션의 점수 변경이 커밋됨
+            leaderboard.scoreChanged(application(2L, 95.0), List.of(), List.of());
+            return List.of(application(1L, 80.0));
+        });
+
+        ApplicationLeaderboardResponseDto page = leaderboard.getPage(JOB_POSTING_ID, 10, null, 0, false);
+
+        assertThat(page.getEntries()).extracting(ApplicationLeaderboardResponseDto.EntryDto::getApplicationId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void invalidateDuringRebuildDiscardsTheStaleBoard() {
+        when(applicationRepository.findScoredByJobPostingId(JOB_POSTING_ID))
+                .thenAnswer(invocation -> {
+                    leaderboard.invalidate(JOB_POSTING_ID);
+                    return List.of(application(1L, 80.0));
+                })
+                .thenReturn(List.of(application(1L, 60.0)));
+
+        leaderboard.getPage(JOB_POSTING_ID, 10, null, 0, false);
+        ApplicationLeaderboardResponseDto page = leaderboard.getPage(JOB_POSTING_ID, 10, null, 0, false);
+
+        assertThat(page.getEntries().get(0).getFinalScore()).isEqualTo(60.0);
+        verify(applicationRepository, times(2)).findScoredByJobPostingId(JOB_POSTING_ID);
+    }
+
+    private static Application application(Long id, double finalScore) {
+        JobPosting jobPosting = JobPosting.builder().id(JOB_POSTING_ID).build();
+        Applicant applicant = new Applicant();
+        applicant.setName("지원자" + id);
+
+        Application application = new Application();
+        application.setId(id);
+        application.setJobPosting(jobPosting);
+        application.setApplicant(applicant);
+        application.setFinalScore(finalScore);
+        application.setStatus(ApplicationStatus.IN_PROGRESS);
+        return application;
+    }
+
+    private static List<EvaluationResultDto.ResumeEvaluationDto> resume(int careerScore) {
+        return List.of(new EvaluationResultDto.ResumeEvaluationDto(1L, "경력사항", null, careerScore));
+    }
+
+    private static List<EvaluationResultDto.CoverLetterQuestionEvaluationDto> secondQuestionGrade(String grade) {
+        return List.of(
+                new EvaluationResultDto.CoverLetterQuestionEvaluationDto(1L, null, null, List.of()),
+                new EvaluationResultDto.CoverLetterQuestionEvaluationDto(2L, null, null,
+                        List.of(new EvaluationResultDto.CoverLetterAnswerEvaluationDto("직무적합", grade, null, null))));
+    }
+}
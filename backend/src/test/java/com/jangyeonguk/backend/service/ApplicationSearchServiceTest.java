@@ -0,0 +1,124 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.dto.application.ApplicationPageResponseDto;
+import com.jangyeonguk.backend.dto.application.ApplicationSummaryDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 지원서 목록 커서 페이지와 필터 조건
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationSearchServiceTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<ApplicationSummaryDto> query;
+
+    private ApplicationSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new ApplicationSearchService(entityManager);
+        ReflectionTestUtils.setField(searchService, "maxLimit", 100);
+    }
+
+    @Test
+    void readsOneExtraRowAndReturnsCursorOfLastItem() {
+        stubQuery(rows(10, 9, 8, 7));
+
+        ApplicationPageResponseDto page = searchService.search(null, null, null, null, null, null, null, 3);
+
+        verify(query).setMaxResults(4);
+        assertThat(page.getItems()).extracting(ApplicationSummaryDto::getId).containsExactly(10L, 9L, 8L);
+        assertThat(page.getNextCursor()).isEqualTo(8L);
+        assertThat(capturedJpql()).endsWith("ORDER BY a.id DESC").doesNotContain(":after");
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        stubQuery(rows(2, 1));
+
+        ApplicationPageResponseDto page = searchService.search(1L, null, null, null, null, null, 3L, 3);
+
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(capturedJpql()).contains("a.id < :after");
+        verify(query).setParameter("after", 3L);
+    }
+
+    @Test
+    void addsOnlyGivenFilters() {
+        stubQuery(List.of());
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+        searchService.search(5L, ApplicationStatus.ACCEPTED, 60.0, 90.0, from, to, null, 20);
+
+        assertThat(capturedJpql())
+                .contains("a.jobPosting.id = :jobPostingId", "a.status = :status",
+                        "a.finalScore >= :minScore", "a.finalScore <= :maxScore",
+                        "a.submittedAt >= :submittedFrom", "a.submittedAt < :submittedTo");
+        verify(query).setParameter("jobPostingId", 5L);
+        verify(query).setParameter("status", ApplicationStatus.ACCEPTED);
+        verify(query).setParameter("minScore", 60.0);
+        verify(query).setParameter("maxScore", 90.0);
+        verify(query).setParameter("submittedFrom", from);
+        verify(query).setParameter("submittedTo", to);
+        verify(query, times(6)).setParameter(anyString(), any());
+    }
+
+    @Test
+    void rejectsInvalidArgumentsBeforeQuerying() {
+        assertThatThrownBy(() -> searchService.search(null, null, null, null, null, null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search(null, null, null, null, null, null, null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search(null, null, 90.0, 60.0, null, null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        LocalDateTime now = LocalDateTime.now();
+        assertThatThrownBy(() -> searchService.search(null, null, null, null, now, now.minusDays(1), null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(entityManager);
+    }
+
+    private void stubQuery(List<ApplicationSummaryDto> result) {
+        when(entityManager.createQuery(anyString(), eq(ApplicationSummaryDto.class))).thenReturn(query);
+        lenient().when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenReturn(query);
+        when(query.getResultList()).thenReturn(result);
+    }
+
+    private String capturedJpql() {
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createQuery(jpql.capture(), eq(ApplicationSummaryDto.class));
+        return jpql.getValue();
+    }
+
+    private static List<ApplicationSummaryDto> rows(long... ids) {
+        List<ApplicationSummaryDto> rows = new ArrayList<>();
+        LongStream.of(ids).forEach(id -> rows.add(new ApplicationSummaryDto(id, 1L, id, "지원자" + id, id + "@example.com",
+                ApplicationStatus.BEFORE_EVALUATION, null, null, null, null, (LocalDateTime) null)));
+        return rows;
+    }
+}
@@ -0,0 +1,147 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationItemScore;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationResult;
+import com.jangyeonguk.backend.repository.EvaluationCriterionGradeRepository;
+import com.jangyeonguk.backend.repository.EvaluationItemScoreRepository;
+import com.jangyeonguk.backend.repository.EvaluationRemarkRepository;
+import com.jangyeonguk.backend.repository.EvaluationResultRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 평가 결과 정규화 이전 (기존 상세 행 교체, 현재 결과 점수 반영, 완료 처리)
+ */
+@ExtendWith(MockitoExtension.class)
+class EvaluationDetailMigratorTest {
+
+    private static final String RESUME_SCORES = "[{\"resumeItemId\":9,\"resumeItemName\":\"학력\",\"score\":7,\"maxScore\":10}]";
+
+    @Mock
+    private EvaluationResultRepository evaluationResultRepository;
+
+    @Mock
+    private EvaluationItemScoreRepository evaluationItemScoreRepository;
+
+    @Mock
+    private EvaluationCriterionGradeRepository evaluationCriterionGradeRepository;
+
+    @Mock
+    private EvaluationRemarkRepository evaluationRemarkRepository;
+
+    @Mock
+    private ApplicationScoreCalculator applicationScoreCalculator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EvaluationDetailMigrator migrator;
+
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        EvaluationDetailStore evaluationDetailStore = new EvaluationDetailStore(evaluationItemScoreRepository,
+                evaluationCriterionGradeRepository, evaluationRemarkRepository, Jackson2ObjectMapperBuilder.json().build()); // 알 수 없는 필드 무시 (스프링 기본 설정)
+        migrator = new EvaluationDetailMigrator(evaluationResultRepository, evaluationDetailStore,
+                applicationScoreCalculator, transactionManager);
+        ReflectionTestUtils.setField(migrator, "enabled", true);
+        ReflectionTestUtils.setField(migrator, "batchSize", 100);
+
+        application = new Application();
+        application.setId(100L);
+    }
+
+    @Test
+    void reflaggedResultReplacesExistingRowsInsteadOfDuplicatingThem() {
+        // 이미 정규화됐던 결과가 V11에서 다시 이전 대상으로 표시된 경우
+        EvaluationResult result = result(50L);
+        application.setCurrentEvaluationResultId(50L);
+        when(evaluationResultRepository.findUnnormalized(eq(0L), any(Pageable.class))).thenReturn(List.of(result));
+
+        migrator.migrateBatch();
+
+        InOrder inOrder = inOrder(evaluationItemScoreRepository);
+        inOrder.verify(evaluationItemScoreRepository).deleteByEvaluationResultId(50L);
+        inOrder.verify(evaluationItemScoreRepository).saveAll(anyList());
+        verify(evaluationCriterionGradeRepository).deleteByEvaluationResultId(50L);
+        verify(evaluationRemarkRepository).deleteByEvaluationResultId(50L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EvaluationItemScore>> itemScores = ArgumentCaptor.forClass(List.class);
+        verify(evaluationItemScoreRepository).saveAll(itemScores.capture());
+        assertThat(itemScores.getValue()).singleElement()
+                .satisfies(itemScore -> assertThat(itemScore.getMaxScore()).isEqualTo(10));
+        assertThat(result.getNormalized()).isTrue();
+    }
+
+    @Test
+    void onlyCurrentResultUpdatesApplicationScores() {
+        application.setCurrentEvaluationResultId(51L);
+        when(evaluationResultRepository.findUnnormalized(eq(0L), any(Pageable.class))).thenReturn(List.of(result(50L)));
+
+        migrator.migrateBatch();
+
+        verify(applicationScoreCalculator, never()).apply(any(), anyList(), anyMap(), any());
+        assertThat(application.getCurrentEvaluationResultId()).isEqualTo(51L);
+    }
+
+    @Test
+    void resultWithoutVersionBecomesCurrentAndStopsPollingWhenNothingIsLeft() {
+        when(evaluationResultRepository.findUnnormalized(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(result(50L)))
+                .thenReturn(List.of());
+
+        migrator.migrateBatch();
+        migrator.migrateBatch();
+        migrator.migrateBatch();
+
+        assertThat(application.getCurrentEvaluationResultId()).isEqualTo(50L);
+        verify(applicationScoreCalculator).apply(same(application), anyList(), anyMap(), any());
+        verify(evaluationResultRepository, times(2)).findUnnormalized(eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    void unparsableResultIsSkippedOnLaterBatches() {
+        EvaluationResult broken = EvaluationResult.builder()
+                .id(50L)
+                .application(application)
+                .normalized(false)
+                .resumeScores("{not json")
+                .build();
+        when(evaluationResultRepository.findUnnormalized(eq(0L), any(Pageable.class))).thenReturn(List.of(broken));
+        when(evaluationResultRepository.findUnnormalized(eq(50L), any(Pageable.class))).thenReturn(List.of());
+
+        migrator.migrateBatch();
+        migrator.migrateBatch();
+
+        assertThat(broken.getNormalized()).isFalse();
+        verify(evaluationItemScoreRepository, never()).saveAll(anyList());
+        verify(evaluationResultRepository).findUnnormalized(eq(50L), any(Pageable.class));
+    }
+
+    private EvaluationResult result(Long id) {
+        return EvaluationResult.builder()
+                .id(id)
+                .application(application)
+                .normalized(false)
+                .resumeScores(RESUME_SCORES)
+                .build();
+    }
+}
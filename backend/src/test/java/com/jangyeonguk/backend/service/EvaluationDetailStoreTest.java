@@ -0,0 +1,148 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.evaluation.EvaluationCriterionGrade;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationItemScore;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationRemark;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationResult;
+import com.jangyeonguk.backend.domain.resume.Grade;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
+import com.jangyeonguk.backend.repository.EvaluationCriterionGradeRepository;
+import com.jangyeonguk.backend.repository.EvaluationItemScoreRepository;
+import com.jangyeonguk.backend.repository.EvaluationRemarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 평가 상세 행 저장/조회 (문항 순서 보존, 기존 JSON 모양 조립, 이전 전 결과 조회)
+ */
+@ExtendWith(MockitoExtension.class)
+class EvaluationDetailStoreTest {
+
+    @Mock
+    private EvaluationItemScoreRepository evaluationItemScoreRepository;
+
+    @Mock
+    private EvaluationCriterionGradeRepository evaluationCriterionGradeRepository;
+
+    @Mock
+    private EvaluationRemarkRepository evaluationRemarkRepository;
+
+    private EvaluationDetailStore evaluationDetailStore;
+
+    @BeforeEach
+    void setUp() {
+        evaluationDetailStore = new EvaluationDetailStore(evaluationItemScoreRepository,
+                evaluationCriterionGradeRepository, evaluationRemarkRepository, Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void savedRowsLoadBackInLegacyJsonShape() {
+        EvaluationResult result = EvaluationResult.builder().id(50L).normalized(false).build();
+
+        evaluationDetailStore.replace(result, List.of(resumeEvaluation(9L, 7)), Map.of(9L, 10),
+                List.of(coverEvaluation(2L, "good"), coverEvaluation(1L, "EXCELLENT")), overallAnalysis(), false);
+
+        verify(evaluationItemScoreRepository, never()).deleteByEvaluationResultId(any());
+        assertThat(result.getNormalized()).isTrue();
+        assertThat(result.getAiRecommendation()).isEqualTo("합격 권장");
+
+        ArgumentCaptor<List<EvaluationItemScore>> itemScores = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<EvaluationCriterionGrade>> grades = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<EvaluationRemark>> remarks = ArgumentCaptor.forClass(List.class);
+        verify(evaluationItemScoreRepository).saveAll(itemScores.capture());
+        verify(evaluationCriterionGradeRepository).saveAll(grades.capture());
+        verify(evaluationRemarkRepository).saveAll(remarks.capture());
+        assertThat(grades.getValue()).extracting(EvaluationCriterionGrade::getGrade).containsExactly(Grade.GOOD, Grade.EXCELLENT);
+
+        when(evaluationItemScoreRepository.findByEvaluationResultIdOrderByPositionAsc(50L)).thenReturn(itemScores.getValue());
+        when(evaluationCriterionGradeRepository.findByEvaluationResultIdOrderByPositionAsc(50L)).thenReturn(grades.getValue());
+        when(evaluationRemarkRepository.findByEvaluationResultIdOrderByPositionAsc(50L)).thenReturn(remarks.getValue());
+
+        EvaluationDetailStore.EvaluationDetails details = evaluationDetailStore.load(result);
+
+        assertThat(details.getResumeScores()).singleElement()
+                .satisfies(score -> assertThat(score).containsEntry("score", 7).containsEntry("maxScore", 10));
+        // 문항 ID 순서가 아니라 평가 결과에 들어온 순서
+        assertThat(details.getCoverLetterScores()).extracting(question -> question.get("coverLetterQuestionId")).containsExactly(2L, 1L);
+        assertThat(details.getCoverLetterScores().get(0))
+                .containsEntry("summary", "요약 2")
+                .containsEntry("keywords", List.of("키워드 2"));
+        assertThat((List<Map<String, Object>>) details.getCoverLetterScores().get(1).get("answerEvaluations"))
+                .singleElement().satisfies(answer -> assertThat(answer).containsEntry("grade", "EXCELLENT"));
+        assertThat(details.getOverallEvaluation())
+                .containsEntry("overallEvaluation", "종합")
+                .containsEntry("strengths", List.of("강점"))
+                .containsEntry("improvements", List.of("개선점"));
+    }
+
+    @Test
+    void existingRowsAreDeletedBeforeReplacing() {
+        EvaluationResult result = EvaluationResult.builder().id(50L).normalized(false).build();
+
+        evaluationDetailStore.replace(result, null, Map.of(), null, null, true);
+
+        verify(evaluationItemScoreRepository).deleteByEvaluationResultId(50L);
+        verify(evaluationCriterionGradeRepository).deleteByEvaluationResultId(50L);
+        verify(evaluationRemarkRepository).deleteByEvaluationResultId(50L);
+    }
+
+    @Test
+    void unnormalizedResultIsReadFromJsonColumns() {
+        EvaluationResult result = EvaluationResult.builder()
+                .id(50L)
+                .normalized(false)
+                .resumeScores("[{\"resumeItemId\":9,\"score\":7}]")
+                .overallEvaluation("{\"overallEvaluation\":\"종합\"}")
+                .build();
+
+        EvaluationDetailStore.EvaluationDetails details = evaluationDetailStore.load(result);
+
+        assertThat(details.getResumeScores()).singleElement().satisfies(score -> assertThat(score).containsEntry("score", 7));
+        assertThat(details.getCoverLetterScores()).isNull();
+        assertThat(details.getOverallEvaluation()).containsEntry("overallEvaluation", "종합");
+        verifyNoInteractions(evaluationItemScoreRepository, evaluationCriterionGradeRepository, evaluationRemarkRepository);
+    }
+
+    private static EvaluationResultDto.ResumeEvaluationDto resumeEvaluation(Long resumeItemId, int score) {
+        EvaluationResultDto.ResumeEvaluationDto resumeEval = new EvaluationResultDto.ResumeEvaluationDto();
+        resumeEval.setResumeItemId(resumeItemId);
+        resumeEval.setResumeItemName("학력");
+        resumeEval.setScore(score);
+        return resumeEval;
+    }
+
+    private static EvaluationResultDto.CoverLetterQuestionEvaluationDto coverEvaluation(Long questionId, String grade) {
+        EvaluationResultDto.CoverLetterAnswerEvaluationDto answerEval = new EvaluationResultDto.CoverLetterAnswerEvaluationDto();
+        answerEval.setEvaluationCriteriaName("직무 이해");
+        answerEval.setGrade(grade);
+
+        EvaluationResultDto.CoverLetterQuestionEvaluationDto coverEval = new EvaluationResultDto.CoverLetterQuestionEvaluationDto();
+        coverEval.setCoverLetterQuestionId(questionId);
+        coverEval.setSummary("요약 " + questionId);
+        coverEval.setKeywords(List.of("키워드 " + questionId));
+        coverEval.setAnswerEvaluations(List.of(answerEval));
+        return coverEval;
+    }
+
+    private static EvaluationResultDto.OverallAnalysisDto overallAnalysis() {
+        EvaluationResultDto.OverallAnalysisDto overallAnalysis = new EvaluationResultDto.OverallAnalysisDto();
+        overallAnalysis.setOverallEvaluation("종합");
+        overallAnalysis.setStrengths(List.of("강점"));
+        overallAnalysis.setImprovements(List.of("개선점"));
+        overallAnalysis.setAiRecommendation("합격 권장");
+        return overallAnalysis;
+    }
+}
@@ -0,0 +1,157 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.evaluation.EvaluationEventType;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationProgressEventDto;
+import com.jangyeonguk.backend.exception.TooManyRequestsException;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * 평가 진행 SSE (Last-Event-ID 이어받기, RESYNC, 구독 검증과 구독자 수 제한)
+ */
+@ExtendWith(MockitoExtension.class)
+class EvaluationEventPublisherTest {
+
+    private static final Long JOB_POSTING_ID = 1L;
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 구독자(emitter)별로 전송된 이벤트
+    private final Map<SseEmitter, BlockingQueue<EvaluationProgressEventDto>> sent = new ConcurrentHashMap<>();
+
+    private EvaluationEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new EvaluationEventPublisher(meterRegistry, jobPostingRepository) {
+            @Override
+            void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+                event.build().stream()
+                        .filter(data -> data.getData() instanceof EvaluationProgressEventDto)
+                        .forEach(data -> received(emitter).add((EvaluationProgressEventDto) data.getData()));
+            }
+        };
+        ReflectionTestUtils.setField(publisher, "timeoutMs", 60000L);
+        ReflectionTestUtils.setField(publisher, "replayBufferSize", 500);
+        ReflectionTestUtils.setField(publisher, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(publisher, "subscriberBufferSize", 200);
+        ReflectionTestUtils.setField(publisher, "idleChannelRetentionMs", 300000L);
+        publisher.init();
+        lenient().when(jobPostingRepository.existsById(JOB_POSTING_ID)).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void reconnectResumesAfterLastEventId() throws InterruptedException {
+        SseEmitter first = publisher.subscribe(JOB_POSTING_ID, null);
+        publisher.publishDispatched(JOB_POSTING_ID, List.of(10L, 11L, 12L));
+        List<EvaluationProgressEventDto> published = take(first, 3);
+        assertThat(published).extracting(EvaluationProgressEventDto::getSequence).containsExactly(1L, 2L, 3L);
+
+        SseEmitter resumed = publisher.subscribe(JOB_POSTING_ID, published.get(0).getEventId());
+
+        assertThat(take(resumed, 2)).extracting(EvaluationProgressEventDto::getApplicationId).containsExactly(11L, 12L);
+        assertThat(received(resumed).poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void eventIdFromAnotherChannelGetsResync() throws InterruptedException {
+        publisher.subscribe(JOB_POSTING_ID, null);
+        publisher.publishDispatched(JOB_POSTING_ID, List.of(10L));
+
+        // 서버 재시작 전 ID (번호는 보관 범위 안이어도 이어 보내지 않음)
+        SseEmitter resumed = publisher.subscribe(JOB_POSTING_ID, "previous-1");
+
+        EvaluationProgressEventDto resync = take(resumed, 1).get(0);
+        assertThat(resync.getType()).isEqualTo(EvaluationEventType.RESYNC);
+        assertThat(resync.getSequence()).isEqualTo(1L);
+    }
+
+    @Test
+    void eventsOlderThanReplayBufferGetResync() throws InterruptedException {
+        ReflectionTestUtils.setField(publisher, "replayBufferSize", 2);
+        SseEmitter first = publisher.subscribe(JOB_POSTING_ID, null);
+        publisher.publishDispatched(JOB_POSTING_ID, List.of(10L, 11L, 12L, 13L));
+        String firstEventId = take(first, 4).get(0).getEventId();
+
+        SseEmitter resumed = publisher.subscribe(JOB_POSTING_ID, firstEventId);
+
+        assertThat(take(resumed, 1)).extracting(EvaluationProgressEventDto::getType).containsExactly(EvaluationEventType.RESYNC);
+        assertThat(received(resumed).poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void unknownPostingAndMalformedEventIdDoNotTakeSubscriberSlot() {
+        when(jobPostingRepository.existsById(2L)).thenReturn(false);
+
+        assertThatThrownBy(() -> publisher.subscribe(2L, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> publisher.subscribe(JOB_POSTING_ID, "abc")).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(subscribers()).isZero();
+    }
+
+    @Test
+    void subscribersOverLimitAreRejectedWithoutTakingSlot() {
+        ReflectionTestUtils.setField(publisher, "maxSubscribers", 1);
+        publisher.subscribe(JOB_POSTING_ID, null);
+
+        assertThatThrownBy(() -> publisher.subscribe(JOB_POSTING_ID, null)).isInstanceOf(TooManyRequestsException.class);
+        assertThatThrownBy(() -> publisher.subscribe(JOB_POSTING_ID, null)).isInstanceOf(TooManyRequestsException.class);
+        assertThat(subscribers()).isEqualTo(1);
+    }
+
+    @Test
+    void eventsForPostingWithoutSubscribersAreNotKept() throws InterruptedException {
+        publisher.publishDispatched(JOB_POSTING_ID, List.of(10L));
+
+        SseEmitter subscriber = publisher.subscribe(JOB_POSTING_ID, null);
+        publisher.publishDispatched(JOB_POSTING_ID, List.of(11L));
+
+        assertThat(take(subscriber, 1)).extracting(EvaluationProgressEventDto::getSequence).containsExactly(1L);
+    }
+
+    private BlockingQueue<EvaluationProgressEventDto> received(SseEmitter emitter) {
+        return sent.computeIfAbsent(emitter, key -> new LinkedBlockingQueue<>());
+    }
+
+    private List<EvaluationProgressEventDto> take(SseEmitter emitter, int count) throws InterruptedException {
+        List<EvaluationProgressEventDto> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            EvaluationProgressEventDto event = received(emitter).poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("%d번째 이벤트", i + 1).isNotNull();
+            events.add(event);
+        }
+        return events;
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("evaluation.events.subscribers").gauge().value();
+    }
+}
@@ -0,0 +1,135 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.evaluation.EvaluationOutbox;
+import com.jangyeonguk.backend.domain.evaluation.OutboxStatus;
+import com.jangyeonguk.backend.domain.jobposting.TrainingStatus;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+import com.jangyeonguk.backend.repository.EvaluationOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 평가 요청 아웃박스 가져가기/되돌리기 (전송지연 해제, 오래된 전송중 행 재전송, 종료 시 반환)
+ */
+@ExtendWith(MockitoExtension.class)
+class EvaluationOutboxServiceTest {
+
+    @Mock
+    private EvaluationOutboxRepository evaluationOutboxRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private EvaluationQueue evaluationQueue;
+
+    private EvaluationOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new EvaluationOutboxService(evaluationOutboxRepository, applicationRepository, evaluationQueue, new ObjectMapper());
+        ReflectionTestUtils.setField(outboxService, "staleAfterSeconds", 300L);
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxService, "initialBackoffMs", 2000L);
+        ReflectionTestUtils.setField(outboxService, "maxBackoffMs", 300000L);
+    }
+
+    @Test
+    void claimBatchMarksRowsInFlightAndClearsDeferredFlag() {
+        EvaluationOutbox pending = outbox(1L, 10L, OutboxStatus.PENDING);
+        EvaluationOutbox deferred = outbox(2L, 20L, OutboxStatus.DEFERRED);
+        when(evaluationOutboxRepository.findClaimable(eq(OutboxStatus.PENDING), eq(OutboxStatus.DEFERRED), eq(OutboxStatus.IN_FLIGHT),
+                eq(TrainingStatus.READY), any(), any(), any(Pageable.class))).thenReturn(List.of(pending, deferred));
+
+        List<EvaluationOutboxService.ClaimedEvaluation> claimed = outboxService.claimBatch(50);
+
+        assertThat(claimed).extracting(EvaluationOutboxService.ClaimedEvaluation::getOutboxId).containsExactly(1L, 2L);
+        assertThat(pending.getStatus()).isEqualTo(OutboxStatus.IN_FLIGHT);
+        assertThat(deferred.getStatus()).isEqualTo(OutboxStatus.IN_FLIGHT);
+        assertThat(pending.getClaimedAt()).isNotNull().isEqualTo(deferred.getClaimedAt());
+        verify(applicationRepository).clearEvaluationDeferred(List.of(20L));
+    }
+
+    @Test
+    void claimBatchReclaimsOnlyRowsClaimedBeforeStaleThreshold() {
+        EvaluationOutbox stale = outbox(3L, 30L, OutboxStatus.IN_FLIGHT);
+        stale.setClaimedAt(LocalDateTime.now().minusMinutes(10));
+        when(evaluationOutboxRepository.findClaimable(any(), any(), any(), any(), any(), any(), any(Pageable.class))).thenReturn(List.of(stale));
+
+        outboxService.claimBatch(50);
+
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(evaluationOutboxRepository).findClaimable(any(), any(), any(), any(), now.capture(), staleBefore.capture(), page.capture());
+        assertThat(Duration.between(staleBefore.getValue(), now.getValue())).isEqualTo(Duration.ofSeconds(300));
+        assertThat(page.getValue().getPageSize()).isEqualTo(50);
+
+        assertThat(stale.getStatus()).isEqualTo(OutboxStatus.IN_FLIGHT);
+        assertThat(stale.getClaimedAt()).isEqualTo(now.getValue());
+        verify(applicationRepository, never()).clearEvaluationDeferred(any());
+    }
+
+    @Test
+    void releaseClaimsReturnsInFlightRowsToPending() {
+        when(evaluationOutboxRepository.releaseClaims(List.of(1L, 2L), OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT)).thenReturn(2);
+
+        assertThat(outboxService.releaseClaims(List.of(1L, 2L))).isEqualTo(2);
+    }
+
+    @Test
+    void releaseAndRenewSkipRepositoryWhenNothingIsHeld() {
+        assertThat(outboxService.releaseClaims(List.of())).isZero();
+        assertThat(outboxService.renewClaims(List.of())).isZero();
+
+        verifyNoInteractions(evaluationOutboxRepository);
+    }
+
+    @Test
+    void renewClaimsRefreshesOnlyInFlightRows() {
+        when(evaluationOutboxRepository.renewClaims(eq(List.of(1L)), eq(OutboxStatus.IN_FLIGHT), any())).thenReturn(1);
+
+        assertThat(outboxService.renewClaims(List.of(1L))).isEqualTo(1);
+    }
+
+    @Test
+    void markFailedSchedulesRetryUntilMaxAttempts() {
+        EvaluationOutbox retrying = outbox(1L, 10L, OutboxStatus.IN_FLIGHT);
+        EvaluationOutbox exhausted = outbox(2L, 20L, OutboxStatus.IN_FLIGHT);
+        exhausted.setAttempts(2);
+        when(evaluationOutboxRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(retrying, exhausted));
+
+        outboxService.markFailed(List.of(1L, 2L), "timeout");
+
+        assertThat(retrying.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(retrying.getAttempts()).isEqualTo(1);
+        assertThat(retrying.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(exhausted.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(exhausted.getLastError()).isEqualTo("timeout");
+    }
+
+    private EvaluationOutbox outbox(Long id, Long applicationId, OutboxStatus status) {
+        return EvaluationOutbox.builder()
+                .id(id)
+                .applicationId(applicationId)
+                .jobPostingId(1L)
+                .payload("{}")
+                .status(status)
+                .build();
+    }
+}
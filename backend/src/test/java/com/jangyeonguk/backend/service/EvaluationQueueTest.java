@@ -0,0 +1,85 @@
+package com.jangyeonguk.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 평가 대기열 용량 제한과 공고별 순번
+ */
+class EvaluationQueueTest {
+
+    private EvaluationQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new EvaluationQueue(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(queue, "capacity", 5);
+    }
+
+    @Test
+    void rejectsOffersBeyondCapacity() {
+        for (long i = 1; i <= 5; i++) {
+            assertThat(queue.offer(claimed(i, 1L))).isTrue();
+        }
+
+        assertThat(queue.offer(claimed(6L, 2L))).isFalse();
+        assertThat(queue.isSaturated()).isTrue();
+        assertThat(queue.size()).isEqualTo(5);
+    }
+
+    @Test
+    void burstFromOnePostingDoesNotStarveOthers() throws InterruptedException {
+        queue.offer(claimed(1L, 1L));
+        queue.offer(claimed(2L, 1L));
+        queue.offer(claimed(3L, 1L));
+        queue.offer(claimed(4L, 2L));
+        queue.offer(claimed(5L, 3L));
+
+        List<Long> order = new ArrayList<>();
+        while (queue.size() > 0) {
+            queue.takeBatch(1, 0).forEach(evaluation -> order.add(evaluation.getOutboxId()));
+        }
+
+        // 공고 1, 2, 3이 번갈아 나오고, 공고 1의 나머지는 다른 공고가 빈 뒤에 나옴
+        assertThat(order).containsExactly(1L, 4L, 5L, 2L, 3L);
+    }
+
+    @Test
+    void batchContainsOnlyOnePostingAndRequeuesTheRest() throws InterruptedException {
+        queue.offer(claimed(1L, 1L));
+        queue.offer(claimed(2L, 1L));
+        queue.offer(claimed(3L, 2L));
+        queue.offer(claimed(4L, 1L));
+
+        List<EvaluationOutboxService.ClaimedEvaluation> first = queue.takeBatch(2, 0);
+        List<EvaluationOutboxService.ClaimedEvaluation> second = queue.takeBatch(2, 0);
+        List<EvaluationOutboxService.ClaimedEvaluation> third = queue.takeBatch(2, 0);
+
+        assertThat(first).extracting(EvaluationOutboxService.ClaimedEvaluation::getOutboxId).containsExactly(1L, 2L);
+        assertThat(second).extracting(EvaluationOutboxService.ClaimedEvaluation::getOutboxId).containsExactly(3L);
+        assertThat(third).extracting(EvaluationOutboxService.ClaimedEvaluation::getOutboxId).containsExactly(4L);
+        assertThat(queue.size()).isZero();
+        assertThat(queue.depthByJobPosting()).isEmpty();
+    }
+
+    @Test
+    void drainEmptiesEveryPosting() {
+        queue.offer(claimed(1L, 1L));
+        queue.offer(claimed(2L, 2L));
+
+        assertThat(queue.drain()).hasSize(2);
+        assertThat(queue.size()).isZero();
+        assertThat(queue.offer(claimed(3L, 3L))).isTrue();
+    }
+
+    private static EvaluationOutboxService.ClaimedEvaluation claimed(Long outboxId, Long jobPostingId) {
+        return new EvaluationOutboxService.ClaimedEvaluation(outboxId, outboxId, jobPostingId, "{}", 0);
+    }
+}
@@ -0,0 +1,136 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.domain.evaluation.EvaluationResult;
+import com.jangyeonguk.backend.domain.jobposting.JobPosting;
+import com.jangyeonguk.backend.domain.resume.ResumeItem;
+import com.jangyeonguk.backend.domain.resume.ResumeItemAnswer;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultDto;
+import com.jangyeonguk.backend.repository.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 평가 결과 저장 (버전 증가, 현재 결과 교체, 답변별 점수 반영)
+ */
+@ExtendWith(MockitoExtension.class)
+class EvaluationResultWriterTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ResumeItemRepository resumeItemRepository;
+
+    @Mock
+    private ResumeItemAnswerRepository resumeItemAnswerRepository;
+
+    @Mock
+    private CoverLetterQuestionAnswerRepository coverLetterQuestionAnswerRepository;
+
+    @Mock
+    private EvaluationResultRepository evaluationResultRepository;
+
+    @Mock
+    private EvaluationDetailStore evaluationDetailStore;
+
+    @Mock
+    private ApplicationScoreCalculator applicationScoreCalculator;
+
+    @Mock
+    private EvaluationEventPublisher evaluationEventPublisher;
+
+    @Mock
+    private EvaluationViewCache evaluationViewCache;
+
+    @Mock
+    private JobPostingStatsService jobPostingStatsService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private EvaluationResultWriter writer;
+
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        application = new Application();
+        application.setId(100L);
+        application.setStatus(ApplicationStatus.BEFORE_EVALUATION);
+        application.setJobPosting(JobPosting.builder().id(1L).build());
+        application.setCurrentEvaluationResultId(50L);
+
+        when(evaluationResultRepository.save(any(EvaluationResult.class))).thenAnswer(invocation -> {
+            EvaluationResult result = invocation.getArgument(0);
+            result.setId(51L);
+            return result;
+        });
+    }
+
+    @Test
+    void firstResultIsVersionOne() {
+        EvaluationResult saved = writer.write(application, result(7), Map.of(), List.of(), List.of(), null);
+
+        assertThat(saved.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void reEvaluationAppendsNextVersionAndSwitchesCurrentResult() {
+        EvaluationResult current = EvaluationResult.builder().id(50L).version(3).build();
+
+        EvaluationResult saved = writer.write(application, result(7), Map.of(), List.of(), List.of(), current);
+
+        assertThat(saved.getVersion()).isEqualTo(4);
+        assertThat(application.getCurrentEvaluationResultId()).isEqualTo(51L);
+        assertThat(current.getVersion()).isEqualTo(3); // 이전 버전은 그대로 둠
+        verify(evaluationResultRepository, never()).delete(any());
+        verify(evaluationDetailStore).replace(same(saved), any(), any(), any(), any(), eq(false)); // 새 버전은 지울 상세 행 없음
+        verify(evaluationViewCache).invalidateAfterCommit(100L);
+    }
+
+    @Test
+    void manualWriteLoadsCurrentResultAndAppliesAnswerScores() {
+        ResumeItem resumeItem = ResumeItem.builder().id(9L).build();
+        ResumeItemAnswer answer = new ResumeItemAnswer();
+        answer.setResumeItem(resumeItem);
+        when(resumeItemAnswerRepository.findByApplicationId(100L)).thenReturn(List.of(answer));
+        when(evaluationResultRepository.findCurrentByApplicationId(100L))
+                .thenReturn(Optional.of(EvaluationResult.builder().id(50L).version(2).build()));
+
+        writer.write(application, result(7), Map.of(9L, 10), true);
+
+        ArgumentCaptor<EvaluationResult> saved = ArgumentCaptor.forClass(EvaluationResult.class);
+        verify(evaluationResultRepository).save(saved.capture());
+        assertThat(saved.getValue().getVersion()).isEqualTo(3);
+        assertThat(saved.getValue().getTotalScore()).isEqualTo(7);
+        assertThat(answer.getResumeScore()).isEqualTo(7);
+        assertThat(application.getStatus()).isEqualTo(ApplicationStatus.IN_PROGRESS);
+    }
+
+    private static EvaluationResultDto result(int score) {
+        EvaluationResultDto result = new EvaluationResultDto();
+        result.setApplicationId(100L);
+        result.setJobPostingId(1L);
+        result.setResumeEvaluations(List.of(new EvaluationResultDto.ResumeEvaluationDto(9L, "경력", null, score)));
+        return result;
+    }
+}
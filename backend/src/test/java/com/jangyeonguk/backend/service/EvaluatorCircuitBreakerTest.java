@@ -0,0 +1,81 @@
+package com.jangyeonguk.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 평가 서버 차단기 상태 전이 (닫힘 -> 열림 -> 반열림 -> 닫힘/열림)
+ */
+class EvaluatorCircuitBreakerTest {
+
+    private EvaluatorCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new EvaluatorCircuitBreaker(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(breaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(breaker, "openDurationMs", 60_000L);
+        ReflectionTestUtils.setField(breaker, "halfOpenProbes", 2);
+        breaker.registerMetrics();
+    }
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsCalls() {
+        fail(3);
+
+        assertThat(breaker.getState()).isEqualTo(EvaluatorCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.isCallPermitted()).isFalse();
+    }
+
+    @Test
+    void successResetsConsecutiveFailureCount() {
+        fail(2);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        fail(2);
+
+        assertThat(breaker.getState()).isEqualTo(EvaluatorCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenLimitsProbesAndClosesWhenAllSucceed() {
+        fail(3);
+        ReflectionTestUtils.setField(breaker, "openDurationMs", 0L);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(EvaluatorCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse(); // 시험 호출 수 초과
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(EvaluatorCircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(EvaluatorCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void probeFailureReopens() {
+        fail(3);
+        ReflectionTestUtils.setField(breaker, "openDurationMs", 0L);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(EvaluatorCircuitBreaker.State.OPEN);
+        ReflectionTestUtils.setField(breaker, "openDurationMs", 60_000L);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.dto.application.ApplicationResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 지원서 제출 멱등성 캐시 (키 범위, 지원자 확인, 만료와 최대 개수)
+ */
+class IdempotencyCacheTest {
+
+    private IdempotencyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IdempotencyCache();
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+    }
+
+    @Test
+    void returnsStoredResponseForSameKeyAndApplicant() {
+        ApplicationResponseDto response = response(1L);
+        cache.put(10L, "key", "a@example.com", response);
+
+        assertThat(cache.get(10L, "key", "a@example.com")).containsSame(response);
+    }
+
+    @Test
+    void keysAreScopedByJobPosting() {
+        cache.put(10L, "key", "a@example.com", response(1L));
+
+        assertThat(cache.get(11L, "key", "a@example.com")).isEmpty();
+    }
+
+    @Test
+    void rejectsSameKeyForDifferentApplicant() {
+        cache.put(10L, "key", "a@example.com", response(1L));
+
+        assertThatThrownBy(() -> cache.get(10L, "key", "b@example.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void evictsOldestBeyondMaxEntries() {
+        cache.put(10L, "first", "a@example.com", response(1L));
+        cache.put(10L, "second", "b@example.com", response(2L));
+        cache.put(10L, "third", "c@example.com", response(3L));
+
+        assertThat(cache.get(10L, "first", "a@example.com")).isEmpty();
+        assertThat(cache.get(10L, "second", "b@example.com")).isPresent();
+        assertThat(cache.get(10L, "third", "c@example.com")).isPresent();
+    }
+
+    @Test
+    void expiredEntriesAreNotReturned() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        cache.put(10L, "key", "a@example.com", response(1L));
+
+        assertThat(cache.get(10L, "key", "a@example.com")).isEmpty();
+    }
+
+    private static ApplicationResponseDto response(Long id) {
+        return ApplicationResponseDto.builder().id(id).build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.Application;
+import com.jangyeonguk.backend.domain.jobposting.Company;
+import com.jangyeonguk.backend.domain.jobposting.JobPosting;
+import com.jangyeonguk.backend.dto.jobposting.JobPostingResponseDto;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공고 조회의 지원서 수 (공고별 집계 사용, 지원서 컬렉션은 읽지 않음)
+ */
+@ExtendWith(MockitoExtension.class)
+class JobPostingServiceTest {
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private JobPostingStatsService jobPostingStatsService;
+
+    @InjectMocks
+    private JobPostingService jobPostingService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getJobPostingsUsesCountsFromStats() {
+        List<Application> firstApplications = mock(List.class);
+        List<Application> secondApplications = mock(List.class);
+        JobPosting first = jobPosting(1L, firstApplications);
+        JobPosting second = jobPosting(2L, secondApplications);
+        when(jobPostingRepository.findAll()).thenReturn(List.of(first, second));
+        when(jobPostingStatsService.applicationCounts(List.of(1L, 2L))).thenReturn(Map.of(1L, 7L));
+
+        List<JobPostingResponseDto> responses = jobPostingService.getJobPostings();
+
+        assertThat(responses).extracting(JobPostingResponseDto::getApplicationCount).containsExactly(7, 0);
+        verify(jobPostingStatsService, times(1)).applicationCounts(anyCollection());
+        verifyNoInteractions(firstApplications, secondApplications);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getJobPostingUsesCountFromStats() {
+        List<Application> applications = mock(List.class);
+        when(jobPostingRepository.findById(3L)).thenReturn(Optional.of(jobPosting(3L, applications)));
+        when(jobPostingStatsService.applicationCount(3L)).thenReturn(42L);
+
+        JobPostingResponseDto response = jobPostingService.getJobPosting(3L);
+
+        assertThat(response.getApplicationCount()).isEqualTo(42);
+        verifyNoInteractions(applications);
+    }
+
+    private static JobPosting jobPosting(Long id, List<Application> applications) {
+        Company company = new Company();
+        company.setId(10L);
+        company.setName("회사");
+        return JobPosting.builder()
+                .id(id)
+                .title("공고 " + id)
+                .company(company)
+                .applications(applications)
+                .build();
+    }
+}
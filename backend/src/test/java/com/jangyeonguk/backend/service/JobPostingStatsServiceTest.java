@@ -0,0 +1,152 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.domain.application.ApplicationStatus;
+import com.jangyeonguk.backend.domain.jobposting.PostingStatus;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+import com.jangyeonguk.backend.repository.JobPostingStatsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공고별 지원서 집계 증감 (트랜잭션 단위 합산, 집계 행이 없는 공고)
+ */
+@ExtendWith(MockitoExtension.class)
+class JobPostingStatsServiceTest {
+
+    @Mock
+    private JobPostingStatsRepository jobPostingStatsRepository;
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobPostingStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new JobPostingStatsService(jobPostingStatsRepository, jobPostingRepository, applicationRepository, transactionManager);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(statsService);
+    }
+
+    @Test
+    void deltasAreSummedPerPostingAndAppliedInIdOrderBeforeCommit() {
+        when(jobPostingStatsRepository.increment(anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        statsService.applicationSubmitted(2L);
+        statsService.applicationSubmitted(1L);
+        statsService.applicationSubmitted(2L);
+        statsService.statusChanged(2L, ApplicationStatus.IN_PROGRESS, ApplicationStatus.ACCEPTED);
+        statsService.statusChanged(1L, ApplicationStatus.IN_PROGRESS, ApplicationStatus.ON_HOLD); // 완료 여부 변화 없음
+        verifyNoInteractions(jobPostingStatsRepository);
+
+        commit();
+
+        InOrder inOrder = inOrder(jobPostingStatsRepository);
+        inOrder.verify(jobPostingStatsRepository).increment(eq(1L), eq(1L), eq(0L), any());
+        inOrder.verify(jobPostingStatsRepository).increment(eq(2L), eq(2L), eq(1L), any());
+        verifyNoMoreInteractions(jobPostingStatsRepository);
+    }
+
+    @Test
+    void completedCountDropsWhenLeavingCompletedStatus() {
+        when(jobPostingStatsRepository.increment(anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        statsService.statusChanged(1L, ApplicationStatus.REJECTED, ApplicationStatus.ON_HOLD);
+
+        verify(jobPostingStatsRepository).increment(eq(1L), eq(0L), eq(-1L), any());
+    }
+
+    @Test
+    void missingRowIsCreatedFromCommittedCountsThenIncremented() {
+        when(jobPostingStatsRepository.increment(eq(1L), eq(1L), eq(0L), any())).thenReturn(0, 1);
+        when(applicationRepository.countGroupedByJobPostingId(eq(List.of(1L)), anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 5L, 2L}));
+
+        statsService.applicationSubmitted(1L);
+
+        InOrder inOrder = inOrder(jobPostingStatsRepository);
+        inOrder.verify(jobPostingStatsRepository).increment(eq(1L), eq(1L), eq(0L), any());
+        inOrder.verify(jobPostingStatsRepository).insert(eq(1L), eq(5L), eq(2L), any());
+        inOrder.verify(jobPostingStatsRepository).increment(eq(1L), eq(1L), eq(0L), any());
+    }
+
+    @Test
+    void concurrentlyCreatedRowIsIgnoredAndOnlyIncremented() {
+        when(jobPostingStatsRepository.increment(eq(1L), eq(1L), eq(0L), any())).thenReturn(0, 1);
+        when(applicationRepository.countGroupedByJobPostingId(anyCollection(), anyCollection())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .when(jobPostingStatsRepository).insert(eq(1L), anyLong(), anyLong(), any());
+
+        statsService.applicationSubmitted(1L);
+
+        verify(jobPostingStatsRepository, times(2)).increment(eq(1L), eq(1L), eq(0L), any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void applicationCountsFallBackToApplicationsTableForMissingRows() {
+        when(jobPostingStatsRepository.findApplicationCounts(List.of(1L, 2L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 3L}));
+        when(applicationRepository.countGroupedByJobPostingId(eq(List.of(2L)), anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 4L, null}));
+
+        assertThat(statsService.applicationCounts(List.of(1L, 2L))).isEqualTo(Map.of(1L, 3L, 2L, 4L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void statisticsCountPostingsWithoutStatsRowFromApplicationsTable() {
+        when(jobPostingStatsRepository.findAllWithJobPosting()).thenReturn(List.of(
+                new Object[]{1L, "집계 있음", PostingStatus.IN_PROGRESS, 10L, 4L, 1L},
+                new Object[]{2L, "집계 없음", PostingStatus.CLOSED, 0L, 0L, null}));
+        when(applicationRepository.countGroupedByJobPostingId(eq(List.of(2L)), anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 6L, 6L}));
+
+        Map<String, Object> statistics = statsService.getStatistics();
+
+        assertThat(statistics.get("totalApplications")).isEqualTo(16L);
+        assertThat(statistics.get("totalCompletedEvaluations")).isEqualTo(10L);
+        List<Map<String, Object>> perPosting = (List<Map<String, Object>>) statistics.get("jobPostingStatistics");
+        assertThat(perPosting.get(1)).containsEntry("totalApplications", 6L).containsEntry("completionRate", 100.0);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}